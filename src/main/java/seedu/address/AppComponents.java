@@ -0,0 +1,273 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ScheduleArchive;
+import seedu.address.model.UnloadedSchedules;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleArchive;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The storage, model and logic of the application, which are set up in the same way whether or not the app has a UI.
+ */
+public class AppComponents {
+
+    public static final String MESSAGE_EXPORT_FAILED = "Could not export the data to %s: %s";
+    public static final String MESSAGE_SCRIPT_FAILED = "Could not run the script %s: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Storage storage;
+    private final Model model;
+    private final AddressBookSaver addressBookSaver;
+    private final Logic logic;
+    private final List<String> startUpFailures;
+
+    private AppComponents(Storage storage, Model model, AddressBookSaver addressBookSaver, Logic logic,
+            List<String> startUpFailures) {
+        this.storage = storage;
+        this.model = model;
+        this.addressBookSaver = addressBookSaver;
+        this.logic = logic;
+        this.startUpFailures = Collections.unmodifiableList(startUpFailures);
+    }
+
+    /**
+     * Sets up the components from the config, user prefs and data files given by {@code appParameters}, and
+     * initializes logging with the config. The data is exported, and the script is run, if {@code appParameters}
+     * asks for it, and their failures are kept as the {@link #getStartUpFailures() start-up failures}.
+     */
+    public static AppComponents init(AppParameters appParameters) {
+        Config config = initConfig(appParameters.getConfigPath());
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs);
+        List<String> startUpFailures = new ArrayList<>();
+        if (appParameters.getExportPath() != null) {
+            model.loadAllSchedules();
+            exportAddressBook(model.getAddressBook(), appParameters.getExportPath()).ifPresent(startUpFailures::add);
+        }
+
+        AddressBookSaver addressBookSaver = new AddressBookSaver(storage);
+        Logic logic = new LogicManager(model, addressBookSaver);
+        if (appParameters.getScriptPath() != null) {
+            runScript(logic, appParameters.getScriptPath()).ifPresent(startUpFailures::add);
+        }
+
+        return new AppComponents(storage, model, addressBookSaver, logic, startUpFailures);
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the messages of the export and script asked for at start-up which failed, in the order they were done.
+     */
+    public List<String> getStartUpFailures() {
+        return startUpFailures;
+    }
+
+    /**
+     * Waits until the address book is saved, and saves the user prefs.
+     * No more commands can be executed afterwards.
+     */
+    public void close() {
+        addressBookSaver.close();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        UnloadedSchedules unloadedSchedules = UnloadedSchedules.NONE;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            unloadedSchedules = storage.getUnloadedSchedules();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        ScheduleArchive scheduleArchive =
+                new JsonScheduleArchive(JsonScheduleArchive.getArchiveFilePath(userPrefs.getAddressBookFilePath()));
+        return new ModelManager(initialData, userPrefs, unloadedSchedules, scheduleArchive);
+    }
+
+    /**
+     * Returns the storage of the address book file in the format chosen in {@code userPrefs}.
+     */
+    private static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.isAddressBookFileBinary()) {
+            return new BinaryAddressBookStorage(addressBookFilePath);
+        }
+        if (userPrefs.isAddressBookFileSectioned()) {
+            return new JsonAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookFileCompact(), true,
+                    userPrefs.getScheduleLoadWindow());
+        }
+        return new JournalAddressBookStorage(addressBookFilePath, userPrefs.isAddressBookFileCompact());
+    }
+
+    /**
+     * Runs the script at {@code scriptPath} with {@code logic} before the app starts, as with the {@code run} command.
+     *
+     * @return the message of the failure, if the script was not run.
+     */
+    private static Optional<String> runScript(Logic logic, Path scriptPath) {
+        logger.info("Running script " + scriptPath);
+        try {
+            logger.info(logic.executeScript(scriptPath).getFeedbackToUser());
+            return Optional.empty();
+        } catch (CommandException e) {
+            logger.warning("Script " + scriptPath + " was not run: " + e.getMessage());
+            return Optional.of(String.format(MESSAGE_SCRIPT_FAILED, scriptPath, e.getMessage()));
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} as a json file at {@code exportPath}, whatever format the data file is in.
+     *
+     * @return the message of the failure, if the data was not exported.
+     */
+    private static Optional<String> exportAddressBook(ReadOnlyAddressBook addressBook, Path exportPath) {
+        logger.info("Exporting data to " + exportPath);
+        try {
+            new JsonAddressBookStorage(exportPath).saveAddressBook(addressBook);
+            return Optional.empty();
+        } catch (IOException e) {
+            logger.warning("Failed to export data to " + exportPath + " : " + StringUtil.getDetails(e));
+            return Optional.of(String.format(MESSAGE_EXPORT_FAILED, exportPath, e.getMessage()));
+        }
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -15,9 +16,20 @@ import seedu.address.commons.util.ToStringBuilder;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String ALLOW_FILE_COMMANDS_FLAG = "--allow-file-commands";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final int MAX_PORT = 65535;
 
     private Path configPath;
+    private Path exportPath;
+    private Path scriptPath;
+    private boolean isHeadless;
+    private Path commandsPath;
+    private Integer serverPort;
+    private boolean areFileCommandsAllowed;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,12 +39,111 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path to export the address book to as a json file on startup, or null if it is not exported.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
+    /**
+     * Returns the path of the script to run on startup, or null if no script is run.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns true if the app is run without its UI, executing the commands read from the standard input or the
+     * commands file.
+     */
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the path of the file to read commands from when the app is run without its UI, or null if commands are
+     * read from the standard input.
+     */
+    public Path getCommandsPath() {
+        return commandsPath;
+    }
+
+    public void setCommandsPath(Path commandsPath) {
+        this.commandsPath = commandsPath;
+    }
+
+    /**
+     * Returns the port to serve the app at without its UI, or null if the app is not served. The port is chosen by the
+     * system if it is 0.
+     */
+    public Integer getServerPort() {
+        return serverPort;
+    }
+
+    public void setServerPort(Integer serverPort) {
+        this.serverPort = serverPort;
+    }
+
+    /**
+     * Returns true if the commands which read or write files, such as {@code run} and {@code archive}, are executed
+     * when sent to the server. They are refused otherwise.
+     */
+    public boolean areFileCommandsAllowed() {
+        return areFileCommandsAllowed;
+    }
+
+    public void setFileCommandsAllowed(boolean areFileCommandsAllowed) {
+        this.areFileCommandsAllowed = areFileCommandsAllowed;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the command-line arguments given to the application, before the JavaFX runtime is started.
+     * As with {@link Application.Parameters}, an argument of the form {@code --name=value} is a named parameter.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        boolean isHeadless = false;
+        boolean areFileCommandsAllowed = false;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            if (arg.startsWith(NAMED_PARAMETER_PREFIX) && separatorIndex > NAMED_PARAMETER_PREFIX.length()) {
+                namedParameters.put(arg.substring(NAMED_PARAMETER_PREFIX.length(), separatorIndex),
+                        arg.substring(separatorIndex + 1));
+            } else if (arg.equals(HEADLESS_FLAG)) {
+                isHeadless = true;
+            } else if (arg.equals(ALLOW_FILE_COMMANDS_FLAG)) {
+                areFileCommandsAllowed = true;
+            }
+        }
+
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setHeadless(isHeadless);
+        appParameters.setFileCommandsAllowed(areFileCommandsAllowed);
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -41,9 +152,52 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String exportPathParameter = namedParameters.get("export");
+        if (exportPathParameter != null && !FileUtil.isValidPath(exportPathParameter)) {
+            logger.warning("Invalid export path " + exportPathParameter + ". Not exporting data.");
+            exportPathParameter = null;
+        }
+        appParameters.setExportPath(exportPathParameter != null ? Paths.get(exportPathParameter) : null);
+
+        String scriptPathParameter = namedParameters.get("script");
+        if (scriptPathParameter != null && !FileUtil.isValidPath(scriptPathParameter)) {
+            logger.warning("Invalid script path " + scriptPathParameter + ". Not running a script.");
+            scriptPathParameter = null;
+        }
+        appParameters.setScriptPath(scriptPathParameter != null ? Paths.get(scriptPathParameter) : null);
+
+        String commandsPathParameter = namedParameters.get("commands");
+        if (commandsPathParameter != null && !FileUtil.isValidPath(commandsPathParameter)) {
+            logger.warning("Invalid commands path " + commandsPathParameter + ". Reading commands from input.");
+            commandsPathParameter = null;
+        }
+        appParameters.setCommandsPath(commandsPathParameter != null ? Paths.get(commandsPathParameter) : null);
+
+        String serverPortParameter = namedParameters.get("serve");
+        if (serverPortParameter != null && !isValidPort(serverPortParameter)) {
+            logger.warning("Invalid server port " + serverPortParameter + ". Not serving the app.");
+            serverPortParameter = null;
+        }
+        appParameters.setServerPort(serverPortParameter != null ? Integer.parseInt(serverPortParameter) : null);
+
         return appParameters;
     }
 
+    /**
+     * Returns true if {@code port} is a port number from 0 to {@value #MAX_PORT}.
+     */
+    private static boolean isValidPort(String port) {
+        if (port.isEmpty() || port.length() > String.valueOf(MAX_PORT).length()) {
+            return false;
+        }
+        for (int i = 0; i < port.length(); i++) {
+            if (port.charAt(i) < '0' || port.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -56,18 +210,31 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(exportPath, otherAppParameters.exportPath)
+                && Objects.equals(scriptPath, otherAppParameters.scriptPath)
+                && isHeadless == otherAppParameters.isHeadless
+                && Objects.equals(commandsPath, otherAppParameters.commandsPath)
+                && Objects.equals(serverPort, otherAppParameters.serverPort)
+                && areFileCommandsAllowed == otherAppParameters.areFileCommandsAllowed;
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, exportPath, scriptPath, isHeadless, commandsPath, serverPort,
+                areFileCommandsAllowed);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("exportPath", exportPath)
+                .add("scriptPath", scriptPath)
+                .add("isHeadless", isHeadless)
+                .add("commandsPath", commandsPath)
+                .add("serverPort", serverPort)
+                .add("areFileCommandsAllowed", areFileCommandsAllowed)
                 .toString();
     }
 }
@@ -0,0 +1,150 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without its UI, executing commands read one per line and printing their results.
+ * Neither the JavaFX runtime nor the UI is started, so that the app starts quickly when it is run from scripts.
+ */
+public class HeadlessApp {
+
+    public static final String MESSAGE_COMMANDS_UNREADABLE = "Could not read commands: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+    private final Clock clock;
+    private LocalDate rolledOverDate;
+
+    /**
+     * Creates a {@code HeadlessApp} which executes commands with {@code logic}, printing their results to {@code out}
+     * and their errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        this(logic, out, err, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code HeadlessApp} as with {@link #HeadlessApp(Logic, PrintStream, PrintStream)}, which rolls the
+     * schedules over when {@code clock} reaches another day.
+     */
+    HeadlessApp(Logic logic, PrintStream out, PrintStream err, Clock clock) {
+        requireAllNonNull(logic, out, err, clock);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+        this.clock = clock;
+        rolledOverDate = LocalDate.now(clock);
+    }
+
+    /**
+     * Sets up the app as given by {@code appParameters}, executes the commands in the commands file, or from the
+     * standard input if there is no commands file, and saves the data. The failures of the export and script asked
+     * for at start-up are printed to the standard error, as the errors of the commands are.
+     *
+     * @return the exit status of the app, which is 0 if the export and script asked for and every command succeeded,
+     *     and the data was saved, or 1 otherwise.
+     */
+    public static int run(AppParameters appParameters) {
+        requireNonNull(appParameters);
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppComponents components = AppComponents.init(appParameters);
+        List<String> startUpFailures = components.getStartUpFailures();
+        startUpFailures.forEach(System.err::println);
+
+        AtomicBoolean hasSaveFailed = new AtomicBoolean(false);
+        components.getLogic().setSaveFailureHandler(message -> {
+            hasSaveFailed.set(true);
+            System.err.println(message);
+        });
+
+        int failures = startUpFailures.size();
+        try (BufferedReader reader = openCommands(appParameters.getCommandsPath())) {
+            failures += new HeadlessApp(components.getLogic(), System.out, System.err).run(reader);
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_COMMANDS_UNREADABLE, e.getMessage()));
+            failures++;
+        } finally {
+            logger.info("============================ [ Stopping Address Book ] =============================");
+            components.close();
+        }
+        return failures == 0 && !hasSaveFailed.get() ? 0 : 1;
+    }
+
+    /**
+     * Executes the commands read from {@code reader}, one per line, until the end of the input or a command that
+     * exits the app. The result of each command is printed, or its error if it fails, and the remaining commands are
+     * still executed. Blank lines and lines starting with {@code #} are skipped. If another day has begun since the
+     * schedules were last rolled over, they are rolled over before the next command.
+     *
+     * @return the number of commands which failed.
+     * @throws IOException if the commands could not be read.
+     */
+    public int run(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        int failures = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            rollOverIfNewDay();
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failures++;
+                err.println(e.getMessage());
+            }
+        }
+        out.flush();
+        return failures;
+    }
+
+    /**
+     * Rolls the schedules over if the clock has reached another day since they were last rolled over.
+     */
+    private void rollOverIfNewDay() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(rolledOverDate)) {
+            logger.fine("Rolling schedules over to " + today);
+            logic.rollOverSchedules(today);
+            rolledOverDate = today;
+        }
+    }
+
+    private static BufferedReader openCommands(Path commandsPath) throws IOException {
+        if (commandsPath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(commandsPath, StandardCharsets.UTF_8);
+    }
+}
@@ -20,11 +20,28 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} argument, Main runs the application without
+ * its UI instead, as a {@code HeadlessApp}.
+ * Given a {@code --serve=PORT} argument, Main serves the application
+ * without its UI instead, as a {@code ServerApp}.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            // Run without the UI, so the JavaFX runtime is never started
+            System.exit(HeadlessApp.run(appParameters));
+        }
+        if (appParameters.getServerPort() != null) {
+            // The server keeps the app running until it is stopped
+            if (!ServerApp.start(appParameters)) {
+                System.exit(1);
+            }
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
@@ -0,0 +1,84 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.server.ApiServer;
+import seedu.address.server.ApiToken;
+
+/**
+ * Runs the application without its UI, as an {@code ApiServer} which other programs on the same machine can send
+ * requests to. The server only listens at the loopback address, so it cannot be reached from other machines, and only
+ * accepts requests with the token it writes next to the data file, so only programs run by the user can use it.
+ */
+public class ServerApp {
+
+    public static final String MESSAGE_SERVER_STARTED =
+            "Serving TutorConnect at http://%s:%d/api/ with the token in %s (stop with Ctrl+C)";
+    public static final String MESSAGE_SERVER_NOT_STARTED = "Could not start the server: %s";
+    public static final String TOKEN_FILE_NAME = "api-token.txt";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerApp.class);
+
+    /**
+     * Sets up the app as given by {@code appParameters}, and starts serving it at the server port given by
+     * {@code appParameters}, with a new token written to {@value #TOKEN_FILE_NAME} next to the data file. The server
+     * keeps running until the app is stopped, such as with Ctrl+C, and the data is then saved and the token file
+     * deleted.
+     *
+     * @return true if the server was started.
+     */
+    public static boolean start(AppParameters appParameters) {
+        requireNonNull(appParameters);
+        requireNonNull(appParameters.getServerPort());
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        AppComponents components = AppComponents.init(appParameters);
+        components.getStartUpFailures().forEach(System.err::println);
+        components.getLogic().setSaveFailureHandler(logger::warning);
+        // Reads are served from snapshots of the address book, so every schedule must be in it
+        components.getModel().loadAllSchedules();
+
+        ApiToken token = ApiToken.generate();
+        Path tokenPath = components.getModel().getAddressBookFilePath().resolveSibling(TOKEN_FILE_NAME);
+        ApiServer server = new ApiServer(components.getLogic(), token, appParameters.areFileCommandsAllowed());
+        try {
+            token.writeTo(tokenPath);
+            server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), appParameters.getServerPort()));
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SERVER_NOT_STARTED, e.getMessage()));
+            components.close();
+            deleteTokenFile(tokenPath);
+            return false;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            logger.info("============================ [ Stopping Address Book ] =============================");
+            server.stop();
+            components.close();
+            deleteTokenFile(tokenPath);
+        }));
+        InetSocketAddress address = server.getAddress();
+        System.out.println(String.format(MESSAGE_SERVER_STARTED, address.getHostString(), address.getPort(),
+                tokenPath.toAbsolutePath()));
+        return true;
+    }
+
+    /**
+     * Deletes the token file, so that the token of a stopped server is not left behind.
+     */
+    private static void deleteTokenFile(Path tokenPath) {
+        try {
+            Files.deleteIfExists(tokenPath);
+        } catch (IOException e) {
+            logger.warning("Could not delete the token file " + tokenPath + ": " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Helper functions for reading and writing dates and times in the fixed formats {@code uuuu-MM-dd'T'HH:mm},
+ * {@code uuuu-MM-dd} and {@code HH:mm}.
+ * Text is validated and read in a single pass over its characters, without the regular expressions and
+ * {@code DateTimeFormatter}s of the general date and time parsers, which are far slower for these fixed formats.
+ */
+public class DateTimeUtil {
+
+    public static final int DATE_TIME_LENGTH = 16;
+    public static final int DATE_LENGTH = 10;
+    public static final int TIME_LENGTH = 5;
+
+    /**
+     * Returns the date and time in {@code text} of the format {@code uuuu-MM-dd'T'HH:mm}, or null if {@code text} is
+     * not a valid date and time in that format.
+     */
+    public static LocalDateTime parseDateTime(String text) {
+        requireNonNull(text);
+        if (text.length() != DATE_TIME_LENGTH || text.charAt(DATE_LENGTH) != 'T') {
+            return null;
+        }
+
+        LocalDate date = parseDate(text, 0);
+        LocalTime time = parseTime(text, DATE_LENGTH + 1);
+        return date == null || time == null ? null : LocalDateTime.of(date, time);
+    }
+
+    /**
+     * Returns the date in {@code text} of the format {@code uuuu-MM-dd}, or null if {@code text} is not a valid date in
+     * that format.
+     */
+    public static LocalDate parseDate(String text) {
+        requireNonNull(text);
+        return text.length() == DATE_LENGTH ? parseDate(text, 0) : null;
+    }
+
+    /**
+     * Returns the date of the format {@code uuuu-MM-dd} at {@code offset} in {@code text}, or null if it is not a valid
+     * date. {@code text} must have at least {@code DATE_LENGTH} characters from {@code offset}.
+     */
+    private static LocalDate parseDate(String text, int offset) {
+        if (text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+            return null;
+        }
+
+        int year = parseNumber(text, offset, 4);
+        int month = parseNumber(text, offset + 5, 2);
+        int day = parseNumber(text, offset + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+        if (day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the time of the format {@code HH:mm} at {@code offset} in {@code text}, or null if it is not a valid
+     * time. {@code text} must have at least {@code TIME_LENGTH} characters from {@code offset}.
+     */
+    private static LocalTime parseTime(String text, int offset) {
+        if (text.charAt(offset + 2) != ':') {
+            return null;
+        }
+
+        int hour = parseNumber(text, offset, 2);
+        int minute = parseNumber(text, offset + 3, 2);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Returns the number written with the {@code length} ASCII digits at {@code offset} in {@code text}, or -1 if any
+     * of the characters is not an ASCII digit.
+     */
+    private static int parseNumber(String text, int offset, int length) {
+        int number = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            number = number * 10 + (digit - '0');
+        }
+        return number;
+    }
+
+    /**
+     * Returns {@code dateTime} in the format {@code uuuu-MM-dd'T'HH:mm}.
+     * The year of {@code dateTime} must be from 0 to 9999.
+     */
+    public static String formatDateTime(LocalDateTime dateTime) {
+        return appendDateTime(new StringBuilder(DATE_TIME_LENGTH), dateTime).toString();
+    }
+
+    /**
+     * Appends {@code dateTime} in the format {@code uuuu-MM-dd'T'HH:mm} to {@code builder}, and returns
+     * {@code builder}.
+     * The year of {@code dateTime} must be from 0 to 9999.
+     */
+    public static StringBuilder appendDateTime(StringBuilder builder, LocalDateTime dateTime) {
+        requireAllNonNull(builder, dateTime);
+        appendDate(builder, dateTime.toLocalDate()).append('T');
+        return appendTime(builder, dateTime.toLocalTime());
+    }
+
+    /**
+     * Appends {@code date} in the format {@code uuuu-MM-dd} to {@code builder}, and returns {@code builder}.
+     * The year of {@code date} must be from 0 to 9999.
+     */
+    public static StringBuilder appendDate(StringBuilder builder, LocalDate date) {
+        requireAllNonNull(builder, date);
+        checkArgument(date.getYear() >= 0 && date.getYear() <= 9999, "Year must be from 0 to 9999");
+        appendNumber(builder, date.getYear(), 4).append('-');
+        appendNumber(builder, date.getMonthValue(), 2).append('-');
+        return appendNumber(builder, date.getDayOfMonth(), 2);
+    }
+
+    /**
+     * Returns {@code time} in the format {@code HH:mm}.
+     */
+    public static String formatTime(LocalTime time) {
+        return appendTime(new StringBuilder(TIME_LENGTH), time).toString();
+    }
+
+    /**
+     * Appends {@code time} in the format {@code HH:mm} to {@code builder}, and returns {@code builder}.
+     */
+    public static StringBuilder appendTime(StringBuilder builder, LocalTime time) {
+        requireAllNonNull(builder, time);
+        appendNumber(builder, time.getHour(), 2).append(':');
+        return appendNumber(builder, time.getMinute(), 2);
+    }
+
+    /**
+     * Appends the non-negative {@code number} to {@code builder} with {@code length} digits, padded with zeros.
+     */
+    private static StringBuilder appendNumber(StringBuilder builder, int number, int length) {
+        for (int divisor = pow10(length - 1); divisor > 0; divisor /= 10) {
+            builder.append((char) ('0' + number / divisor % 10));
+        }
+        return builder;
+    }
+
+    private static int pow10(int exponent) {
+        int power = 1;
+        for (int i = 0; i < exponent; i++) {
+            power *= 10;
+        }
+        return power;
+    }
+}
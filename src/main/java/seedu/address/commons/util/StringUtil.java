@@ -5,7 +5,9 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +40,53 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the words of {@code sentence}, which are separated by the whitespace characters that the regular
+     * expression {@code \\s} matches. Empty words are left out.
+     *   <br>examples:<pre>
+     *       splitWords(" ABc  def") == ["ABc", "def"]
+     *       splitWords("  ") == []
+     *       </pre>
+     * @param sentence cannot be null
+     */
+    public static List<String> splitWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < sentence.length(); i++) {
+            boolean isSeparator = isWordSeparator(sentence.charAt(i));
+            if (isSeparator && wordStart >= 0) {
+                words.add(sentence.substring(wordStart, i));
+                wordStart = -1;
+            } else if (!isSeparator && wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        if (wordStart >= 0) {
+            words.add(sentence.substring(wordStart));
+        }
+        return words;
+    }
+
+    private static boolean isWordSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code word} with its case folded, such that two strings are equal ignoring case, as defined by
+     * {@link String#equalsIgnoreCase(String)}, if and only if their folded strings are equal.
+     * This lets words be compared ignoring case through a hash lookup.
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        char[] folded = new char[word.length()];
+        for (int i = 0; i < word.length(); i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
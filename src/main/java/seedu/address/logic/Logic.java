@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,21 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands in the script at {@code scriptPath}, one per line, as a single change to the address book
+     * and returns the result.
+     * Blank lines and lines starting with {@code #} are skipped. If any command cannot be parsed or executed, the
+     * address book is left as it was before the script.
+     * @throws CommandException If the script could not be read, or any of its commands failed.
+     */
+    CommandResult executeScript(Path scriptPath) throws CommandException;
+
+    /**
+     * Sets the handler that is given the error message when saving the AddressBook after a command fails.
+     * The AddressBook is saved in the background, so the handler is called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -31,6 +48,14 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Reorders the schedules for {@code today}, so that schedules before {@code today} are listed after the upcoming
+     * schedules.
+     *
+     * @see seedu.address.model.Model#rollOverSchedules(LocalDate)
+     */
+    void rollOverSchedules(LocalDate today);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
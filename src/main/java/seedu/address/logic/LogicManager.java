@@ -1,23 +1,39 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
-import seedu.address.storage.Storage;
+import seedu.address.model.schedule.exceptions.SchedulesNotLoadedException;
+import seedu.address.storage.AddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -28,18 +44,27 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_SCRIPT_UNREADABLE = "Could not read script file: %s";
+
+    public static final String MESSAGE_SCRIPT_NOT_RUN = "No changes were made, as the script has errors:";
+
+    public static final String MESSAGE_SCRIPT_LINE_ERROR = "Line %d: %s";
+
+    private static final String SCRIPT_COMMENT_PREFIX = "#";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model}, which is saved by {@code addressBookSaver} after
+     * every command that changes it.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, AddressBookSaver addressBookSaver) {
         this.model = model;
-        this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
         addressBookParser = new AddressBookParser();
     }
 
@@ -49,17 +74,128 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (command instanceof RunCommand) {
+            return executeScript(((RunCommand) command).getScriptPath());
+        }
+        commandResult = executeCommand(command);
+
+        saveChanges();
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeScript(Path scriptPath) throws CommandException {
+        requireNonNull(scriptPath);
+        logger.info("----------------[SCRIPT][" + scriptPath + "]");
 
+        List<String> lines;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            lines = Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_SCRIPT_UNREADABLE, e.getMessage()), e);
         }
 
-        return commandResult;
+        // Every line is parsed before any command is executed, so that all the mistakes in the script are reported
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(SCRIPT_COMMENT_PREFIX)) {
+                continue;
+            }
+            try {
+                commands.add(parseScriptCommand(line));
+                lineNumbers.add(i + 1);
+            } catch (ParseException pe) {
+                errors.add(String.format(MESSAGE_SCRIPT_LINE_ERROR, i + 1, pe.getMessage()));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(MESSAGE_SCRIPT_NOT_RUN + "\n" + String.join("\n", errors));
+        }
+
+        // The schedules left in storage are loaded first, so that restoring the address book keeps them
+        try {
+            model.loadAllSchedulesToChange();
+        } catch (SchedulesNotLoadedException e) {
+            throw new CommandException(MESSAGE_SCRIPT_NOT_RUN + "\n" + e.getMessage(), e);
+        }
+        AddressBook addressBookBeforeScript = new AddressBook(model.getAddressBook());
+        // Observers see the whole script as a single change, or no change at all if it is not run
+        model.beginBatch();
+        boolean isScriptRun = false;
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                try {
+                    executeCommand(commands.get(i));
+                } catch (CommandException e) {
+                    throw new CommandException(MESSAGE_SCRIPT_NOT_RUN + "\n"
+                            + String.format(MESSAGE_SCRIPT_LINE_ERROR, lineNumbers.get(i), e.getMessage()), e);
+                }
+            }
+            isScriptRun = true;
+        } finally {
+            // A command which fails in any way, even with an unexpected exception, leaves no part of the script done
+            if (!isScriptRun) {
+                model.setAddressBook(addressBookBeforeScript);
+                // The address book is as it was last saved, so there is nothing to save
+                model.takeAddressBookChanges();
+            }
+            model.commitBatch();
+        }
+
+        saveChanges();
+        return new CommandResult(String.format(RunCommand.MESSAGE_SUCCESS, commands.size(), scriptPath));
+    }
+
+    /**
+     * Executes {@code command}, refusing it if it would change the schedules of a month which could not be loaded.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        try {
+            return command.execute(model);
+        } catch (SchedulesNotLoadedException e) {
+            throw new CommandException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Parses a line of a script into a command which only changes the address book, and so can be undone by
+     * restoring the address book.
+     */
+    private Command parseScriptCommand(String line) throws ParseException {
+        Command command = addressBookParser.parseCommand(line);
+        if (command instanceof RunCommand) {
+            throw new ParseException(String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD));
+        }
+        if (command instanceof ArchiveCommand) {
+            // Schedules appended to the archive are not removed from it again
+            throw new ParseException(String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, ArchiveCommand.COMMAND_WORD));
+        }
+        if (command instanceof ExitCommand || command instanceof HelpCommand || command instanceof ThemeCommand) {
+            // Only the result of the whole script is shown, so what these would do to the window is lost
+            throw new ParseException(String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, line.split("\\s+", 2)[0]));
+        }
+        return command;
+    }
+
+    /**
+     * Saves the changes to the address book since they were last saved, if there are any.
+     */
+    private void saveChanges() {
+        AddressBookChanges changes = model.takeAddressBookChanges();
+        if (!changes.isEmpty()) {
+            addressBookSaver.save(model.getAddressBook(), changes);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        addressBookSaver.setFailureHandler(e -> handler.accept(e instanceof AccessDeniedException
+                ? String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(FILE_OPS_ERROR_FORMAT, e.getMessage())));
     }
 
     @Override
@@ -67,6 +203,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public void rollOverSchedules(LocalDate today) {
+        model.rollOverSchedules(today);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -50,11 +50,11 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code schedule} for display to the user.
+     * Formats the {@code schedule} of {@code tutor} for display to the user.
      */
-    public static String format(Schedule schedule) {
+    public static String format(Schedule schedule, Person tutor) {
         final StringBuilder builder = new StringBuilder();
-        builder.append(schedule.getTutor().getName())
+        builder.append(tutor.getName())
                 .append("; Start Time: ")
                 .append(schedule.getStartTime())
                 .append("; End Time: ")
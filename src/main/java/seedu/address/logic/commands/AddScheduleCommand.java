@@ -68,24 +68,21 @@ public class AddScheduleCommand extends Command {
         Person tutor = lastShownList.get(index.getZeroBased());
 
         try {
-            toAdd = new Schedule(tutor, startTime, endTime);
+            toAdd = new Schedule(tutor.getId(), startTime, endTime);
         } catch (IllegalArgumentException e) {
             throw new CommandException(MESSAGE_CONSTRAINTS);
         }
 
-        boolean hasScheduleClash =
-                model.getAddressBook().getScheduleList().stream().anyMatch(schedule -> schedule.isClashing(toAdd));
-
         if (model.hasSchedule(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_SCHEDULE);
         }
 
-        if (hasScheduleClash) {
+        if (!model.findClashes(toAdd).isEmpty()) {
             throw new CommandException(MESSAGE_CLASHING_SCHEDULE);
         }
 
         model.addSchedule(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd, tutor)));
     }
 
     @Override
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Status;
+
+/**
+ * Moves the completed and missed schedules before a date out of the address book into the schedule archive.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Archives the completed and missed schedules before the specified date.\n"
+        + "Parameters: DATE (must be a valid date)\n"
+        + "Example: " + COMMAND_WORD + " 2023-09-15";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d schedules before %2$s.";
+
+    public static final String MESSAGE_ARCHIVE_FAILED = "Could not archive schedules: %1$s";
+
+    private final Date date;
+
+    /**
+     * Creates an ArchiveCommand to archive the schedules before the specified {@code Date}
+     */
+    public ArchiveCommand(Date date) {
+        requireNonNull(date);
+
+        this.date = date;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        // The schedules archived may be in any month, including those left in storage
+        model.loadAllSchedules();
+        List<Schedule> schedulesToArchive = model.getAddressBook().getScheduleList().stream()
+            .filter(schedule -> schedule.getStatus() != Status.PENDING)
+            .filter(schedule -> schedule.getStartTime().getTime().toLocalDate().isBefore(date.value))
+            .collect(Collectors.toList());
+
+        try {
+            model.archiveSchedules(schedulesToArchive);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_FAILED, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, schedulesToArchive.size(), date));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherArchiveCommand = (ArchiveCommand) other;
+        return date.equals(otherArchiveCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("date", date)
+            .toString();
+    }
+}
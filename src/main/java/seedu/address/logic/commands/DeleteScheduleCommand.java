@@ -9,6 +9,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 
 /**
@@ -41,8 +42,10 @@ public class DeleteScheduleCommand extends Command {
         }
 
         Schedule scheduleToDelete = lastShownList.get(targetIndex.getZeroBased());
+        Person tutor = model.getTutor(scheduleToDelete);
         model.deleteSchedule(scheduleToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_SCHEDULE_SUCCESS, Messages.format(scheduleToDelete)));
+        return new CommandResult(String.format(MESSAGE_DELETE_SCHEDULE_SUCCESS,
+            Messages.format(scheduleToDelete, tutor)));
     }
 
     @Override
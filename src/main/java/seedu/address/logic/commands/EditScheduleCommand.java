@@ -16,7 +16,7 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.StartTime;
@@ -78,9 +78,8 @@ public class EditScheduleCommand extends Command {
             throw new CommandException(MESSAGE_CONSTRAINTS);
         }
 
-        boolean hasScheduleClash =
-            model.getAddressBook().getScheduleList().stream().filter(schedule -> !schedule.isDuplicate(scheduleToEdit))
-                .anyMatch(schedule -> schedule.isClashing(editedSchedule));
+        boolean hasScheduleClash = model.findClashes(editedSchedule).stream()
+            .anyMatch(schedule -> !schedule.isDuplicate(scheduleToEdit));
 
         if (!scheduleToEdit.equals(editedSchedule) && model.hasSchedule(editedSchedule)) {
             throw new CommandException(MESSAGE_DUPLICATE_SCHEDULE);
@@ -93,7 +92,8 @@ public class EditScheduleCommand extends Command {
 
         model.setSchedule(scheduleToEdit, editedSchedule);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
-        return new CommandResult(String.format(MESSAGE_EDIT_SCHEDULE_SUCCESS, Messages.format(editedSchedule)));
+        return new CommandResult(String.format(MESSAGE_EDIT_SCHEDULE_SUCCESS,
+            Messages.format(editedSchedule, model.getTutor(editedSchedule))));
     }
 
     /**
@@ -104,10 +104,10 @@ public class EditScheduleCommand extends Command {
         EditScheduleDescriptor editScheduleDescriptor) {
         StartTime updatedStartTime = editScheduleDescriptor.getStartTime().orElse(scheduleToEdit.getStartTime());
         EndTime updatedEndTime = editScheduleDescriptor.getEndTime().orElse(scheduleToEdit.getEndTime());
-        Person tutor = scheduleToEdit.getTutor();
+        PersonId tutorId = scheduleToEdit.getTutorId();
         Status status = scheduleToEdit.getStatus();
 
-        return new Schedule(tutor, updatedStartTime, updatedEndTime, status);
+        return new Schedule(tutorId, updatedStartTime, updatedEndTime, status);
     }
 
     @Override
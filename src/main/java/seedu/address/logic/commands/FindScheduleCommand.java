@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.schedule.TutorIdPredicate;
 import seedu.address.model.schedule.TutorNameContainsKeywordsPredicate;
 
 /**
@@ -28,7 +29,11 @@ public class FindScheduleCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredScheduleList(predicate);
+        // Schedules refer to their tutor by id, so look the matching tutors up by name word first
+        TutorIdPredicate tutorIdPredicate =
+                new TutorIdPredicate(model.findPersonIdsByNameWords(predicate.getKeywords()));
+        model.loadAllSchedules();
+        model.updateFilteredScheduleList(tutorIdPredicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW, model.getFilteredScheduleList().size()));
     }
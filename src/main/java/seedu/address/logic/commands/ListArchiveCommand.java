@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Lists the archived schedules of a tutor between two dates to the user.
+ */
+public class ListArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "list-a";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Lists the archived schedules of the tutor identified by the index number in the displayed tutor list. "
+        + "If dates are specified, only the schedules from START_DATE to END_DATE are listed.\n"
+        + "Parameters: INDEX (must be a positive integer) [START_DATE END_DATE]\n"
+        + "Example: \n"
+        + COMMAND_WORD + " 1, \n" + COMMAND_WORD + " 1 2023-09-01 2023-09-30";
+
+    public static final String MESSAGE_ARCHIVE_UNREADABLE = "Could not read the schedule archive: %1$s";
+
+    private final Index targetIndex;
+    private final Date startDate;
+    private final Date endDate;
+
+    /**
+     * Creates a ListArchiveCommand to list the archived schedules of the tutor at {@code targetIndex} from
+     * {@code startDate} to {@code endDate}.
+     */
+    public ListArchiveCommand(Index targetIndex, Date startDate, Date endDate) {
+        requireAllNonNull(targetIndex, startDate, endDate);
+
+        this.targetIndex = targetIndex;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person tutor = lastShownList.get(targetIndex.getZeroBased());
+        List<Schedule> schedules;
+        try {
+            schedules = model.findArchivedSchedules(tutor, startDate, endDate);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_UNREADABLE, e.getMessage()), e);
+        }
+
+        StringBuilder feedback = new StringBuilder(
+            String.format(Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW, schedules.size()));
+        for (Schedule schedule : schedules) {
+            feedback.append('\n').append(Messages.format(schedule, tutor));
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListArchiveCommand)) {
+            return false;
+        }
+
+        ListArchiveCommand otherListArchiveCommand = (ListArchiveCommand) other;
+        return targetIndex.equals(otherListArchiveCommand.targetIndex)
+            && startDate.equals(otherListArchiveCommand.startDate)
+            && endDate.equals(otherListArchiveCommand.endDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("targetIndex", targetIndex)
+            .add("startDate", startDate)
+            .add("endDate", endDate)
+            .toString();
+    }
+}
@@ -46,6 +46,8 @@ public class ListScheduleCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        // The schedules listed may be in any month, including those left in storage
+        model.loadAllSchedules();
         Person tutor = null;
         List<Person> lastShownList = model.getFilteredPersonList();
 
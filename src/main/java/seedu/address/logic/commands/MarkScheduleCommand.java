@@ -63,7 +63,7 @@ public class MarkScheduleCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_SCHEDULE_STATUS_INDEX);
         }
 
-        Schedule editedSchedule = new Schedule(scheduleToEdit.getTutor(), scheduleToEdit.getStartTime(),
+        Schedule editedSchedule = new Schedule(scheduleToEdit.getTutorId(), scheduleToEdit.getStartTime(),
                 scheduleToEdit.getEndTime(), status);
         model.setSchedule(scheduleToEdit, editedSchedule);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
@@ -71,7 +71,7 @@ public class MarkScheduleCommand extends Command {
         return new CommandResult(
                 String.format(status.equals(Status.MISSED)
                         ? MESSAGE_MARK_MISSED_SUCCESS : MESSAGE_MARK_COMPLETED_SUCCESS,
-                        Messages.format(scheduleToEdit))
+                        Messages.format(scheduleToEdit, model.getTutor(scheduleToEdit)))
         );
     }
 
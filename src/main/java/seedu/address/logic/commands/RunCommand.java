@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a script file as one change to the address book.
+ * The script is run by {@code Logic}, which parses and executes each of its commands.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Runs the commands in a script file, one per line. If any command fails, none of them are applied.\n"
+        + "Parameters: FILE (path to the script file)\n"
+        + "Example: " + COMMAND_WORD + " data/roster.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s.";
+
+    public static final String MESSAGE_NOT_IN_SCRIPT = "%1$s cannot be used in a script.";
+
+    private final Path scriptPath;
+
+    /**
+     * Creates a RunCommand to run the script at {@code scriptPath}.
+     */
+    public RunCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+
+        this.scriptPath = scriptPath;
+    }
+
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    /**
+     * Scripts are run by {@code Logic}, so a {@code RunCommand} is only executed on the model from within a script.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(String.format(MESSAGE_NOT_IN_SCRIPT, COMMAND_WORD));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return scriptPath.equals(otherRunCommand.scriptPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+            .add("scriptPath", scriptPath)
+            .toString();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.MatchQuality;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Finds and lists all persons in address book whose name, email or phone number is close to any of the argument
+ * keywords, with the closest matches first.
+ * Keyword matching is case insensitive, and allows for unfinished and mistyped keywords.
+ */
+public class SearchTutorCommand extends Command {
+
+    public static final String COMMAND_WORD = "search-t";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tutors whose names, emails or phone "
+            + "numbers start with, or are close to, any of the specified keywords (case-insensitive) and displays "
+            + "them as a list with index numbers, closest matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alcie bo";
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a SearchTutorCommand to find the tutors matching any of {@code keywords}.
+     */
+    public SearchTutorCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        Map<PersonId, MatchQuality> matches = model.searchPersons(keywords);
+        Comparator<Person> byMatchQuality = Comparator.comparing(person -> matches.get(person.getId()));
+        model.updateFilteredPersonList(person -> matches.containsKey(person.getId()),
+                byMatchQuality.thenComparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER));
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchTutorCommand)) {
+            return false;
+        }
+
+        SearchTutorCommand otherSearchTutorCommand = (SearchTutorCommand) other;
+        return keywords.equals(otherSearchTutorCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -6,7 +6,6 @@ import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.schedule.Date;
-import seedu.address.model.schedule.ScheduleIsOnDatePredicate;
 
 
 /**
@@ -35,9 +34,10 @@ public class ShowCalendarCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        ScheduleIsOnDatePredicate predicate = new ScheduleIsOnDatePredicate(date);
+        requireNonNull(model);
         model.updateFilteredScheduleList(Model.PREDICATE_SHOW_ALL_SCHEDULES);
-        model.updateFilteredCalendarScheduleList(predicate);
+        model.updateCalendarDate(date);
+        model.updateFilteredCalendarScheduleList(Model.PREDICATE_SHOW_ALL_SCHEDULES);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
@@ -47,13 +47,14 @@ public class UnmarkScheduleCommand extends Command {
         }
 
         Schedule scheduleToEdit = lastShownList.get(index.getZeroBased());
-        Schedule editedSchedule = new Schedule(scheduleToEdit.getTutor(), scheduleToEdit.getStartTime(),
+        Schedule editedSchedule = new Schedule(scheduleToEdit.getTutorId(), scheduleToEdit.getStartTime(),
             scheduleToEdit.getEndTime(), Status.PENDING);
 
         model.setSchedule(scheduleToEdit, editedSchedule);
         model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
 
-        return new CommandResult(String.format(MESSAGE_UNMARK_SUCCESS, Messages.format(scheduleToEdit)));
+        return new CommandResult(String.format(MESSAGE_UNMARK_SUCCESS,
+            Messages.format(scheduleToEdit, model.getTutor(scheduleToEdit))));
     }
 
     @Override
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddScheduleCommand;
 import seedu.address.logic.commands.AddTutorCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteScheduleCommand;
@@ -20,9 +21,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindScheduleCommand;
 import seedu.address.logic.commands.FindTutorCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListArchiveCommand;
 import seedu.address.logic.commands.ListScheduleCommand;
 import seedu.address.logic.commands.ListTutorCommand;
 import seedu.address.logic.commands.MarkScheduleCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchTutorCommand;
 import seedu.address.logic.commands.ShowCalendarCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.UnmarkScheduleCommand;
@@ -77,6 +81,9 @@ public class AddressBookParser {
         case FindTutorCommand.COMMAND_WORD:
             return new FindTutorCommandParser().parse(arguments);
 
+        case SearchTutorCommand.COMMAND_WORD:
+            return new SearchTutorCommandParser().parse(arguments);
+
         case ListTutorCommand.COMMAND_WORD:
             return new ListTutorCommand();
 
@@ -113,6 +120,15 @@ public class AddressBookParser {
         case ThemeCommand.COMMAND_WORD:
             return new ThemeCommandParser().parse(arguments);
 
+        case ArchiveCommand.COMMAND_WORD:
+            return new ArchiveCommandParser().parse(arguments);
+
+        case ListArchiveCommand.COMMAND_WORD:
+            return new ListArchiveCommandParser().parse(arguments);
+
+        case RunCommand.COMMAND_WORD:
+            return new RunCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.ListArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.schedule.Date;
+
+/**
+ * Parses input arguments and creates a new ListArchiveCommand object
+ */
+public class ListArchiveCommandParser implements Parser<ListArchiveCommand> {
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListArchiveCommand
+     * and returns a ListArchiveCommand object for execution.
+     * Without dates, the archived schedules of every date are listed.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ListArchiveCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] arguments = args.trim().split("\\s+");
+
+        try {
+            if (arguments.length == 1) {
+                Index index = ParserUtil.parseIndex(arguments[0]);
+                return new ListArchiveCommand(index, new Date(LocalDate.MIN), new Date(LocalDate.MAX));
+            }
+            if (arguments.length == 3) {
+                Index index = ParserUtil.parseIndex(arguments[0]);
+                Date startDate = ParserUtil.parseDate(arguments[1]);
+                Date endDate = ParserUtil.parseDate(arguments[2]);
+                if (startDate.compareTo(endDate) <= 0) {
+                    return new ListArchiveCommand(index, startDate, endDate);
+                }
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListArchiveCommand.MESSAGE_USAGE), pe);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListArchiveCommand.MESSAGE_USAGE));
+    }
+}
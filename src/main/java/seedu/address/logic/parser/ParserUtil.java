@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Email;
@@ -89,11 +90,12 @@ public class ParserUtil {
         requireNonNull(time);
         String trimmedTime = time.trim();
 
-        if (!StartTime.isValidStartTime(trimmedTime)) {
+        LocalDateTime startTime = DateTimeUtil.parseDateTime(trimmedTime);
+        if (startTime == null) {
             throw new ParseException(StartTime.MESSAGE_CONSTRAINTS);
         }
 
-        return new StartTime(LocalDateTime.parse(trimmedTime));
+        return new StartTime(startTime);
     }
 
     /**
@@ -103,11 +105,12 @@ public class ParserUtil {
         requireNonNull(time);
         String trimmedTime = time.trim();
 
-        if (!EndTime.isValidEndTime(trimmedTime)) {
+        LocalDateTime endTime = DateTimeUtil.parseDateTime(trimmedTime);
+        if (endTime == null) {
             throw new ParseException(EndTime.MESSAGE_CONSTRAINTS);
         }
 
-        return new EndTime(LocalDateTime.parse(trimmedTime));
+        return new EndTime(endTime);
     }
 
     /**
@@ -133,10 +136,11 @@ public class ParserUtil {
         requireNonNull(date);
         String trimmedDate = date.trim();
 
-        if (!Date.isValidDate(trimmedDate)) {
+        LocalDate parsedDate = DateTimeUtil.parseDate(trimmedDate);
+        if (parsedDate == null) {
             throw new ParseException(Date.MESSAGE_CONSTRAINTS);
         }
 
-        return new Date(LocalDate.parse(trimmedDate));
+        return new Date(parsedDate);
     }
 }
@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.SearchTutorCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchTutorCommand object
+ */
+public class SearchTutorCommandParser implements Parser<SearchTutorCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchTutorCommand
+     * and returns a SearchTutorCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchTutorCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchTutorCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+
+        return new SearchTutorCommand(Arrays.asList(keywords));
+    }
+
+}
@@ -1,14 +1,24 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.MatchQuality;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.UniqueScheduleList;
 
@@ -109,6 +119,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the ids of the persons in the address book whose names contain any of {@code keywords}, ignoring case.
+     * A full word match is required.
+     */
+    public Set<PersonId> findPersonIdsByNameWords(Collection<String> keywords) {
+        return persons.findIdsByNameWords(keywords);
+    }
+
+    /**
+     * Returns the persons in the address book matching any of {@code keywords}, keyed by id, with how closely they
+     * match their closest matching keyword.
+     *
+     * @see UniquePersonList#search(Collection)
+     */
+    public Map<PersonId, MatchQuality> searchPersons(Collection<String> keywords) {
+        return persons.search(keywords);
+    }
+
     //// schedule-level operations
 
     /**
@@ -119,6 +147,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return schedules.contains(schedule);
     }
 
+    /**
+     * Returns the schedules in the address book that clash with {@code schedule}.
+     *
+     * @see Schedule#isClashing(Schedule)
+     */
+    public List<Schedule> findClashes(Schedule schedule) {
+        requireNonNull(schedule);
+        return schedules.findClashes(schedule);
+    }
+
+    /**
+     * Returns the schedules in the address book assigned to {@code tutor}, ordered by start time.
+     */
+    public List<Schedule> getSchedulesOf(Person tutor) {
+        requireNonNull(tutor);
+        return schedules.getSchedulesOf(tutor.getId());
+    }
+
+    /**
+     * Returns the schedules in the address book on {@code date}, ordered by start time.
+     */
+    public List<Schedule> getSchedulesOn(Date date) {
+        requireNonNull(date);
+        return schedules.getSchedulesOn(date.value);
+    }
+
+    @Override
+    public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        return schedules.getSchedulesBetween(startDate.value, endDate.value);
+    }
+
     /**
      * Adds a schedule to the address book.
      * The schedule must not already exist in the address book.
@@ -127,6 +187,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         schedules.add(s);
     }
 
+    /**
+     * Adds all the schedules in {@code schedulesToAdd} to the address book.
+     * The schedules must not already exist in the address book or be duplicates of each other.
+     */
+    public void addSchedules(Collection<Schedule> schedulesToAdd) {
+        schedules.addAll(schedulesToAdd);
+    }
+
     /**
      * Replaces the given schedule {@code target} in the list with {@code editedSchedule}.
      * {@code target} must exist in the address book.
@@ -147,6 +215,23 @@ public class AddressBook implements ReadOnlyAddressBook {
         schedules.remove(key);
     }
 
+    /**
+     * Removes all the schedules in {@code keys} from this {@code AddressBook}.
+     * Every schedule in {@code keys} must exist in the address book.
+     */
+    public void removeSchedules(Collection<Schedule> keys) {
+        schedules.removeAll(keys);
+    }
+
+    /**
+     * Reorders the schedules in this {@code AddressBook} for {@code today}.
+     *
+     * @see UniqueScheduleList#rollOver(LocalDate)
+     */
+    public void rollOverSchedules(LocalDate today) {
+        schedules.rollOver(today);
+    }
+
     //// util methods
 
     @Override
@@ -162,6 +247,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<Person> getPerson(PersonId id) {
+        requireNonNull(id);
+        return persons.get(id);
+    }
+
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return persons.get(name);
+    }
+
     @Override
     public ObservableList<Schedule> getScheduleList() {
         return schedules.asUnmodifiableObservableList();
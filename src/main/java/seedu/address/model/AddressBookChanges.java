@@ -0,0 +1,143 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The sections of an address book that were changed: its list of persons, and its schedules in each month.
+ * Storages use these to only save the sections that changed. The months whose schedules are still left in storage,
+ * unloaded, are recorded too, as the address book saved does not have their schedules.
+ * Guarantees: immutable.
+ */
+public class AddressBookChanges {
+
+    /** No changes at all. */
+    public static final AddressBookChanges NONE = new AddressBookChanges(false, Collections.emptySet());
+
+    private final boolean arePersonsChanged;
+    private final Set<YearMonth> changedScheduleMonths;
+    private final Set<YearMonth> unloadedScheduleMonths;
+
+    /**
+     * Constructs an {@code AddressBookChanges} with the given changed sections, of an address book with every schedule
+     * loaded.
+     *
+     * @param changedScheduleMonths months in which a schedule was added or removed.
+     */
+    public AddressBookChanges(boolean arePersonsChanged, Set<YearMonth> changedScheduleMonths) {
+        this(arePersonsChanged, changedScheduleMonths, Collections.emptySet());
+    }
+
+    /**
+     * Constructs an {@code AddressBookChanges} with the given changed sections, of an address book whose schedules in
+     * {@code unloadedScheduleMonths} are still left in storage.
+     *
+     * @param changedScheduleMonths months in which a schedule was added or removed.
+     */
+    public AddressBookChanges(boolean arePersonsChanged, Set<YearMonth> changedScheduleMonths,
+            Set<YearMonth> unloadedScheduleMonths) {
+        requireAllNonNull(changedScheduleMonths, unloadedScheduleMonths);
+        this.arePersonsChanged = arePersonsChanged;
+        this.changedScheduleMonths = Collections.unmodifiableSet(new HashSet<>(changedScheduleMonths));
+        this.unloadedScheduleMonths = Collections.unmodifiableSet(new HashSet<>(unloadedScheduleMonths));
+    }
+
+    /**
+     * Returns the month of {@code schedule}, which is the section of the address book it is in.
+     */
+    public static YearMonth getMonthOf(Schedule schedule) {
+        return YearMonth.from(schedule.getStartTime().getTime());
+    }
+
+    /**
+     * Returns the schedules of {@code addressBook} in {@code month}, the section they are saved in, ordered by start
+     * time.
+     */
+    public static List<Schedule> getSchedulesIn(ReadOnlyAddressBook addressBook, YearMonth month) {
+        requireAllNonNull(addressBook, month);
+        return addressBook.getSchedulesBetween(new Date(month.atDay(1)), new Date(month.atEndOfMonth()));
+    }
+
+    /**
+     * Returns true if nothing was changed.
+     */
+    public boolean isEmpty() {
+        return !arePersonsChanged && changedScheduleMonths.isEmpty();
+    }
+
+    /**
+     * Returns true if a person was added, edited or removed.
+     */
+    public boolean arePersonsChanged() {
+        return arePersonsChanged;
+    }
+
+    /**
+     * Returns the months in which a schedule was added, edited or removed, as an unmodifiable set.
+     */
+    public Set<YearMonth> getChangedScheduleMonths() {
+        return changedScheduleMonths;
+    }
+
+    /**
+     * Returns the months whose schedules are still left in storage, and not in the address book, as an unmodifiable
+     * set.
+     */
+    public Set<YearMonth> getUnloadedScheduleMonths() {
+        return unloadedScheduleMonths;
+    }
+
+    /**
+     * Returns the sections changed by either these changes or {@code other}, which were made after these changes, with
+     * the months left in storage after {@code other}.
+     */
+    public AddressBookChanges union(AddressBookChanges other) {
+        requireNonNull(other);
+        Set<YearMonth> months = new HashSet<>(changedScheduleMonths);
+        months.addAll(other.changedScheduleMonths);
+        return new AddressBookChanges(arePersonsChanged || other.arePersonsChanged, months,
+                other.unloadedScheduleMonths);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChanges)) {
+            return false;
+        }
+
+        AddressBookChanges otherChanges = (AddressBookChanges) other;
+        return arePersonsChanged == otherChanges.arePersonsChanged
+                && changedScheduleMonths.equals(otherChanges.changedScheduleMonths)
+                && unloadedScheduleMonths.equals(otherChanges.unloadedScheduleMonths);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(arePersonsChanged, changedScheduleMonths, unloadedScheduleMonths);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("arePersonsChanged", arePersonsChanged)
+                .add("changedScheduleMonths", changedScheduleMonths)
+                .add("unloadedScheduleMonths", unloadedScheduleMonths)
+                .toString();
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.MatchQuality;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.exceptions.SchedulesNotLoadedException;
 
 /**
  * The API of the Model component.
@@ -50,20 +61,60 @@ public interface Model {
 
     /**
      * Replaces address book data with the data in {@code addressBook}.
+     * @throws SchedulesNotLoadedException if the schedules of a month left in storage could not be loaded.
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Starts a batch of changes to the model.
+     * Changes made until the matching {@code commitBatch()} are applied immediately, and the filtered person, schedule
+     * and calendar schedule lists are kept up to date, but observers of those lists are only notified when the batch is
+     * committed, with a single change per list.
+     * Batches can be nested; only the outermost commit notifies observers.
+     */
+    void beginBatch();
+
+    /**
+     * Commits the batch of changes started by the matching {@code beginBatch()}.
+     * @throws IllegalStateException if there is no batch to commit.
+     */
+    void commitBatch();
+
+    /**
+     * Returns the sections of the address book changed since this method was last called, or since the model was
+     * created, and starts recording changes afresh.
+     * Changes to the order of the schedules alone are not recorded.
+     */
+    AddressBookChanges takeAddressBookChanges();
+
+    /**
+     * Loads every schedule which was left in storage when the address book was read, so that the address book and
+     * the filtered schedule list include the schedules of every month.
+     * Schedules are otherwise only loaded for the months which are looked up or changed. Loading schedules is not
+     * recorded as a change to the address book.
+     */
+    void loadAllSchedules();
+
+    /**
+     * Loads every schedule which was left in storage, as {@link #loadAllSchedules()} does, before a change which may
+     * touch the schedules of any month.
+     * @throws SchedulesNotLoadedException if the schedules of a month could not be loaded, so that the change is not
+     *     made.
+     */
+    void loadAllSchedulesToChange();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, and their schedules.
      * The person must exist in the address book.
+     * @throws SchedulesNotLoadedException if the schedules of a month left in storage could not be loaded.
      */
     void deletePerson(Person target);
 
@@ -77,9 +128,24 @@ public interface Model {
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * As schedules refer to their tutor by id, the schedules of {@code target} stay with {@code editedPerson} if it
+     * keeps the id of {@code target}.
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the ids of the persons in the address book whose names contain any of {@code keywords}, ignoring case.
+     * A full word match is required, and the persons are looked up without going through every person.
+     */
+    Set<PersonId> findPersonIdsByNameWords(List<String> keywords);
+
+    /**
+     * Returns the persons in the address book with a word of their name, their email or their phone number which is,
+     * starts with, or is one or two edits away from any of {@code keywords}, ignoring case. The persons are keyed by
+     * id, with how closely they match their closest matching keyword.
+     */
+    Map<PersonId, MatchQuality> searchPersons(List<String> keywords);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -89,11 +155,24 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * filtered persons by {@code comparator}. The order is reset by {@link #updateFilteredPersonList(Predicate)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator);
+
     /**
      * Returns true if a schedule with the same fields as {@code schedule} exists in the address book.
      */
     boolean hasSchedule(Schedule schedule);
 
+    /**
+     * Returns the schedules in the address book that clash with {@code schedule}.
+     * Schedules that only touch {@code schedule} at its start or end time are not considered clashing.
+     */
+    List<Schedule> findClashes(Schedule schedule);
+
     /**
      * Deletes the given schedule.
      * The schedule must exist in the address book.
@@ -110,6 +189,7 @@ public interface Model {
     /**
      * Adds the given schedule.
      * {@code schedule} must not already exist in the address book.
+     * @throws SchedulesNotLoadedException if the other schedules in its month could not be loaded.
      */
     void addSchedule(Schedule schedule);
 
@@ -118,9 +198,32 @@ public interface Model {
      * {@code target} must exist in the address book.
      * The schedule fields of {@code editedSchedule} must not be the same as another existing schedule in the address
      * book.
+     * @throws SchedulesNotLoadedException if the other schedules in the month of {@code editedSchedule} could not be
+     *     loaded.
      */
     void setSchedule(Schedule target, Schedule editedSchedule);
 
+    /**
+     * Moves the given schedules out of the address book into the schedule archive.
+     * The schedules must exist in the address book.
+     * @throws IOException if the schedules could not be archived, in which case none of them are moved.
+     * @throws SchedulesNotLoadedException if the other schedules in their months could not be loaded.
+     */
+    void archiveSchedules(List<Schedule> schedules) throws IOException;
+
+    /**
+     * Returns the archived schedules of {@code tutor} from {@code startDate} to {@code endDate} (both inclusive),
+     * ordered by start time.
+     * @throws DataLoadingException if the schedule archive could not be read.
+     */
+    List<Schedule> findArchivedSchedules(Person tutor, Date startDate, Date endDate) throws DataLoadingException;
+
+    /**
+     * Reorders the schedules for {@code today}, so that schedules before {@code today} are listed after the upcoming
+     * schedules. Only the schedules which become past (or upcoming) are moved.
+     */
+    void rollOverSchedules(LocalDate today);
+
     /** Returns an unmodifiable view of the filtered schedule list */
     ObservableList<Schedule> getFilteredScheduleList();
 
@@ -131,6 +234,24 @@ public interface Model {
     void updateFilteredScheduleList(Predicate<Schedule> predicate);
 
 
+    /**
+     * Returns the schedules in the address book on {@code date}, ordered by start time.
+     */
+    List<Schedule> getSchedulesOn(Date date);
+
+    /**
+     * Returns the schedules in the address book from {@code startDate} to {@code endDate} (both inclusive), ordered
+     * by start time.
+     */
+    List<Schedule> getSchedulesBetween(Date startDate, Date endDate);
+
+    /**
+     * Updates the calendar schedule list to hold the schedules on {@code date}.
+     * The list is kept up to date as schedules on {@code date} are added, edited or deleted.
+     * @throws NullPointerException if {@code date} is null.
+     */
+    void updateCalendarDate(Date date);
+
     /** Returns an unmodifiable view of the filtered calendar schedule list */
     ObservableList<Schedule> getFilteredCalendarScheduleList();
 
@@ -143,13 +264,13 @@ public interface Model {
     /**
      * Returns the list of schedules associated with given tutor.
      * @param tutor the given tutor to find associated schedules.
-     * @throws PersonNotFoundException if {@code tutor} is null.
+     * @throws PersonNotFoundException if no person in the address book has the id of {@code tutor}.
      */
     ObservableList<Schedule> getSchedulesFromTutor(Person tutor);
 
     /**
-     * Updates associated schedules of {@code oldPerson} to reference {@code editedPerson} instead.
-     * @throws PersonNotFoundException if {@code oldTutor} is null or not found.
+     * Returns the tutor of {@code schedule}.
+     * @throws PersonNotFoundException if the tutor of {@code schedule} is not in the address book.
      */
-    void updateTutorSchedules(Person oldTutor, Person editedTutor);
+    Person getTutor(Schedule schedule);
 }
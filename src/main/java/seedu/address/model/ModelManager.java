@@ -3,21 +3,38 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.MatchQuality;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.exceptions.SchedulesNotLoadedException;
+import seedu.address.model.util.BatchObservableList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,22 +45,74 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Schedule> filteredSchedules;
+    private final ObservableList<Schedule> calendarSchedules = FXCollections.observableArrayList();
     private final FilteredList<Schedule> filteredCalendarSchedules;
+    // The filtered lists as observed outside the model, whose observers are only notified once a batch is committed
+    private final BatchObservableList<Person> batchedPersons;
+    private final BatchObservableList<Schedule> batchedSchedules;
+    private final BatchObservableList<Schedule> batchedCalendarSchedules;
+    private final ObservableList<Person> shownPersons;
+    private final ObservableList<Schedule> shownSchedules;
+    private final ObservableList<Schedule> shownCalendarSchedules;
+    private Date calendarDate;
+    // The sections of the address book changed since the last call to takeAddressBookChanges()
+    private boolean arePersonsChanged = false;
+    private final Set<YearMonth> changedScheduleMonths = new HashSet<>();
+    private final UnloadedSchedules unloadedSchedules;
+    // The months of unloadedSchedules which are not loaded yet
+    private final Set<YearMonth> unloadedScheduleMonths;
+    private final ScheduleArchive scheduleArchive;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(addressBook, userPrefs, UnloadedSchedules.NONE);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, where the schedules in
+     * {@code unloadedSchedules} were left in storage when {@code addressBook} was read, to be loaded when needed.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            UnloadedSchedules unloadedSchedules) {
+        this(addressBook, userPrefs, unloadedSchedules, ScheduleArchive.NONE);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, where the schedules in
+     * {@code unloadedSchedules} were left in storage when {@code addressBook} was read, to be loaded when needed, and
+     * schedules are archived to {@code scheduleArchive}.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            UnloadedSchedules unloadedSchedules, ScheduleArchive scheduleArchive) {
+        requireAllNonNull(addressBook, userPrefs, unloadedSchedules, scheduleArchive);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.unloadedSchedules = unloadedSchedules;
+        unloadedScheduleMonths = new TreeSet<>(unloadedSchedules.getMonths());
+        this.scheduleArchive = scheduleArchive;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredSchedules = new FilteredList<>(this.addressBook.getScheduleList());
-        filteredCalendarSchedules = new FilteredList<>(filteredSchedules);
+        filteredCalendarSchedules = new FilteredList<>(calendarSchedules);
+        batchedPersons = BatchObservableList.following(sortedPersons);
+        batchedSchedules = BatchObservableList.following(filteredSchedules);
+        batchedCalendarSchedules = BatchObservableList.following(filteredCalendarSchedules);
+        shownPersons = FXCollections.unmodifiableObservableList(batchedPersons);
+        shownSchedules = FXCollections.unmodifiableObservableList(batchedSchedules);
+        shownCalendarSchedules = FXCollections.unmodifiableObservableList(batchedCalendarSchedules);
+
+        calendarDate = new Date(LocalDate.now());
+        loadSchedulesIn(List.of(YearMonth.from(calendarDate.value)));
+        refreshCalendarSchedules();
+        this.addressBook.getPersonList().addListener(this::handlePersonListChange);
+        this.addressBook.getScheduleList().addListener(this::handleScheduleListChange);
     }
 
     public ModelManager() {
@@ -89,7 +158,15 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        // The schedules left in storage are replaced too, so they must be loaded to be recorded as removed
+        loadAllSchedulesToChange();
+        // Observers see both lists replaced at once, rather than the new persons with the old schedules
+        beginBatch();
+        try {
+            this.addressBook.resetData(addressBook);
+        } finally {
+            commitBatch();
+        }
     }
 
     @Override
@@ -97,6 +174,39 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public void beginBatch() {
+        batchedPersons.beginBatch();
+        batchedSchedules.beginBatch();
+        batchedCalendarSchedules.beginBatch();
+    }
+
+    @Override
+    public void commitBatch() {
+        batchedCalendarSchedules.commitBatch();
+        batchedSchedules.commitBatch();
+        batchedPersons.commitBatch();
+    }
+
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        AddressBookChanges changes =
+                new AddressBookChanges(arePersonsChanged, changedScheduleMonths, unloadedScheduleMonths);
+        arePersonsChanged = false;
+        changedScheduleMonths.clear();
+        return changes;
+    }
+
+    @Override
+    public void loadAllSchedules() {
+        loadSchedulesIn(new ArrayList<>(unloadedScheduleMonths));
+    }
+
+    @Override
+    public void loadAllSchedulesToChange() {
+        loadSchedulesToChange(new ArrayList<>(unloadedScheduleMonths));
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -105,9 +215,19 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        // The schedules of target may be in any month
+        loadAllSchedulesToChange();
+        if (!addressBook.getPerson(target.getId()).filter(target::equals).isPresent()) {
+            throw new PersonNotFoundException();
+        }
         ObservableList<Schedule> associatedSchedules = this.getSchedulesFromTutor(target);
-        this.deleteSchedules(associatedSchedules);
-        addressBook.removePerson(target);
+        beginBatch();
+        try {
+            this.deleteSchedules(associatedSchedules);
+            addressBook.removePerson(target);
+        } finally {
+            commitBatch();
+        }
     }
 
     @Override
@@ -123,12 +243,33 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public Set<PersonId> findPersonIdsByNameWords(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonIdsByNameWords(keywords);
+    }
+
+    @Override
+    public Map<PersonId, MatchQuality> searchPersons(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.searchPersons(keywords);
+    }
+
     @Override
     public boolean hasSchedule(Schedule schedule) {
         requireNonNull(schedule);
+        loadSchedulesOf(schedule);
         return addressBook.hasSchedule(schedule);
     }
 
+    @Override
+    public List<Schedule> findClashes(Schedule schedule) {
+        requireNonNull(schedule);
+        // Clashing schedules are on the same day, so they are in the same month
+        loadSchedulesOf(schedule);
+        return addressBook.findClashes(schedule);
+    }
+
     @Override
     public void deleteSchedule(Schedule target) {
         addressBook.removeSchedule(target);
@@ -136,14 +277,12 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteSchedules(ObservableList<Schedule> targets) {
-        List<Schedule> copyOfTargets = new ArrayList<>(targets);
-        for (Schedule target : copyOfTargets) {
-            this.deleteSchedule(target);
-        }
+        addressBook.removeSchedules(new ArrayList<>(targets));
     }
 
     @Override
     public void addSchedule(Schedule schedule) {
+        loadSchedulesToChange(List.of(AddressBookChanges.getMonthOf(schedule)));
         addressBook.addSchedule(schedule);
         updateFilteredScheduleList(PREDICATE_SHOW_ALL_SCHEDULES);
     }
@@ -152,9 +291,35 @@ public class ModelManager implements Model {
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
+        loadSchedulesToChange(List.of(AddressBookChanges.getMonthOf(editedSchedule)));
         addressBook.setSchedule(target, editedSchedule);
     }
 
+    @Override
+    public void archiveSchedules(List<Schedule> schedules) throws IOException {
+        requireAllNonNull(schedules);
+        loadSchedulesToChange(schedules.stream().map(AddressBookChanges::getMonthOf).collect(Collectors.toSet()));
+        // Appended first, so that a schedule is never missing from both the archive and the address book
+        scheduleArchive.append(schedules);
+        addressBook.removeSchedules(schedules);
+    }
+
+    @Override
+    public List<Schedule> findArchivedSchedules(Person tutor, Date startDate, Date endDate)
+            throws DataLoadingException {
+        requireAllNonNull(tutor, startDate, endDate);
+        return scheduleArchive.find(tutor.getId(), startDate.value, endDate.value, addressBook);
+    }
+
+    @Override
+    public void rollOverSchedules(LocalDate today) {
+        requireNonNull(today);
+        // Rolling over moves schedules by removing and adding them again, but they are the same schedules
+        Set<YearMonth> monthsChangedBefore = new HashSet<>(changedScheduleMonths);
+        addressBook.rollOverSchedules(today);
+        changedScheduleMonths.retainAll(monthsChangedBefore);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -163,13 +328,21 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return shownPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(comparator);
     }
 
     //=========== Filtered Schedule List Accessors =============================================================
@@ -180,7 +353,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Schedule> getFilteredScheduleList() {
-        return filteredSchedules;
+        return shownSchedules;
     }
 
     @Override
@@ -189,9 +362,36 @@ public class ModelManager implements Model {
         filteredSchedules.setPredicate(predicate);
     }
 
+    @Override
+    public List<Schedule> getSchedulesOn(Date date) {
+        requireNonNull(date);
+        loadSchedulesIn(List.of(YearMonth.from(date.value)));
+        return addressBook.getSchedulesOn(date);
+    }
+
+    @Override
+    public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+        requireAllNonNull(startDate, endDate);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(startDate.value); !month.isAfter(YearMonth.from(endDate.value));
+                month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        loadSchedulesIn(months);
+        return addressBook.getSchedulesBetween(startDate, endDate);
+    }
+
+    @Override
+    public void updateCalendarDate(Date date) {
+        requireNonNull(date);
+        calendarDate = date;
+        loadSchedulesIn(List.of(YearMonth.from(date.value)));
+        refreshCalendarSchedules();
+    }
+
     @Override
     public ObservableList<Schedule> getFilteredCalendarScheduleList() {
-        return filteredCalendarSchedules;
+        return shownCalendarSchedules;
     }
 
     @Override
@@ -202,26 +402,108 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Schedule> getSchedulesFromTutor(Person tutor) throws PersonNotFoundException {
-        if (!hasPerson(tutor)) {
+        requireNonNull(tutor);
+        if (!addressBook.getPerson(tutor.getId()).isPresent()) {
             throw new PersonNotFoundException();
         }
-        ObservableList<Schedule> schedules = this.addressBook.getScheduleList();
-        return schedules.stream().filter(schedule -> schedule.getTutor().equals(tutor))
-            .collect(Collectors.toCollection(FXCollections::observableArrayList));
+        loadAllSchedules();
+        return FXCollections.observableArrayList(addressBook.getSchedulesOf(tutor));
     }
 
     @Override
-    public void updateTutorSchedules(Person oldPerson, Person editedPerson) {
-        ObservableList<Schedule> schedules = getSchedulesFromTutor(oldPerson);
-        schedules.forEach(schedule -> {
-            Schedule newSchedule = new Schedule(
-                editedPerson,
-                schedule.getStartTime(),
-                schedule.getEndTime(),
-                schedule.getStatus()
-            );
-            setSchedule(schedule, newSchedule);
-        });
+    public Person getTutor(Schedule schedule) throws PersonNotFoundException {
+        requireNonNull(schedule);
+        return addressBook.getPerson(schedule.getTutorId()).orElseThrow(PersonNotFoundException::new);
+    }
+
+    /**
+     * Refreshes the calendar schedule list from the loaded schedules on {@code calendarDate}.
+     */
+    private void refreshCalendarSchedules() {
+        calendarSchedules.setAll(addressBook.getSchedulesOn(calendarDate));
+    }
+
+    /**
+     * Loads the schedules in the month of {@code schedule} if they are left in storage.
+     */
+    private void loadSchedulesOf(Schedule schedule) {
+        loadSchedulesIn(List.of(AddressBookChanges.getMonthOf(schedule)));
+    }
+
+    /**
+     * Loads the schedules in each of {@code months} which are left in storage, as {@link #loadSchedulesIn} does,
+     * before they are changed.
+     *
+     * @throws SchedulesNotLoadedException if the schedules of any of {@code months} could not be loaded, as changing
+     *     the month would lose them when it is saved.
+     */
+    private void loadSchedulesToChange(Collection<YearMonth> months) {
+        loadSchedulesIn(months);
+        for (YearMonth month : months) {
+            if (unloadedScheduleMonths.contains(month)) {
+                throw new SchedulesNotLoadedException(month);
+            }
+        }
+    }
+
+    /**
+     * Loads the schedules in each of {@code months} which are left in storage, without recording them as changes.
+     * The schedules of a month which cannot be loaded are left in storage, and are only missing from the address
+     * book until they are loaded.
+     */
+    private void loadSchedulesIn(Collection<YearMonth> months) {
+        List<Schedule> loadedSchedules = new ArrayList<>();
+        for (YearMonth month : months) {
+            if (!unloadedScheduleMonths.contains(month)) {
+                continue;
+            }
+            try {
+                loadedSchedules.addAll(unloadedSchedules.load(month, addressBook));
+                unloadedScheduleMonths.remove(month);
+            } catch (DataLoadingException e) {
+                logger.warning("Schedules in " + month + " could not be loaded: " + e);
+            }
+        }
+        if (loadedSchedules.isEmpty()) {
+            return;
+        }
+
+        logger.fine("Loaded " + loadedSchedules.size() + " schedules left in storage");
+        Set<YearMonth> monthsChangedBefore = new HashSet<>(changedScheduleMonths);
+        addressBook.addSchedules(loadedSchedules);
+        changedScheduleMonths.retainAll(monthsChangedBefore);
+    }
+
+    /**
+     * Records that the persons changed, unless {@code change} only reorders them.
+     */
+    private void handlePersonListChange(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            arePersonsChanged = arePersonsChanged || change.wasAdded() || change.wasRemoved();
+        }
+    }
+
+    /**
+     * Records the months of the schedules {@code change} adds or removes, and refreshes the calendar schedule list if
+     * it adds or removes any schedule on {@code calendarDate}.
+     */
+    private void handleScheduleListChange(ListChangeListener.Change<? extends Schedule> change) {
+        boolean isCalendarDateChanged = false;
+        while (change.next()) {
+            for (Schedule schedule : change.getRemoved()) {
+                changedScheduleMonths.add(AddressBookChanges.getMonthOf(schedule));
+            }
+            for (Schedule schedule : change.getAddedSubList()) {
+                changedScheduleMonths.add(AddressBookChanges.getMonthOf(schedule));
+            }
+            isCalendarDateChanged = isCalendarDateChanged
+                || change.getRemoved().stream().anyMatch(schedule -> schedule.isOnDate(calendarDate))
+                || change.getAddedSubList().stream().anyMatch(schedule -> schedule.isOnDate(calendarDate));
+        }
+
+        if (isCalendarDateChanged) {
+            refreshCalendarSchedules();
+        }
     }
 
     @Override
@@ -238,7 +520,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredSchedules.equals(otherModelManager.filteredSchedules)
                 && filteredCalendarSchedules.equals(otherModelManager.filteredCalendarSchedules);
     }
@@ -1,7 +1,13 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
 
 /**
@@ -15,10 +21,25 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the person with the given {@code id}, if there is one.
+     */
+    Optional<Person> getPerson(PersonId id);
+
+    /**
+     * Returns the person with the given {@code name}, if there is one.
+     */
+    Optional<Person> getPerson(Name name);
+
     /**
      * Returns an unmodifiable view of the schedule list.
      * This list will not contain any duplicate schedule.
      */
     ObservableList<Schedule> getScheduleList();
 
+    /**
+     * Returns the schedules from {@code startDate} to {@code endDate} (both inclusive), ordered by start time.
+     */
+    List<Schedule> getSchedulesBetween(Date startDate, Date endDate);
+
 }
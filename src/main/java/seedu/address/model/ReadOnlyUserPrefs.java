@@ -13,4 +13,28 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file is saved without indentation or line breaks.
+     */
+    boolean isAddressBookFileCompact();
+
+    /**
+     * Returns true if the address book file is saved in the binary format instead of json.
+     */
+    boolean isAddressBookFileBinary();
+
+    /**
+     * Returns true if the schedules of each month are saved in a file of their own, next to the address book file.
+     * This has no effect if the address book file is saved in the binary format.
+     */
+    boolean isAddressBookFileSectioned();
+
+    /**
+     * Returns the number of months before and after the current month whose schedules are loaded when the address
+     * book file is read, or a negative number if the schedules of every month are loaded. Schedules of other months
+     * are loaded when they are needed.
+     * This only has an effect if the address book file is saved in sections.
+     */
+    int getScheduleLoadWindow();
+
 }
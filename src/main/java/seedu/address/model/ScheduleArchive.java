@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * An append-only archive of schedules moved out of the address book, which is read without loading all of it.
+ */
+public interface ScheduleArchive {
+
+    String MESSAGE_NO_ARCHIVE = "There is no archive to move schedules to.";
+
+    /** No archive, which schedules cannot be moved to. */
+    ScheduleArchive NONE = new ScheduleArchive() {
+        @Override
+        public void append(List<Schedule> schedules) throws IOException {
+            throw new IOException(MESSAGE_NO_ARCHIVE);
+        }
+
+        @Override
+        public List<Schedule> find(PersonId tutorId, LocalDate startDate, LocalDate endDate,
+                ReadOnlyAddressBook addressBook) {
+            return Collections.emptyList();
+        }
+    };
+
+    /**
+     * Appends {@code schedules} to the archive, leaving the schedules archived before as they are.
+     *
+     * @throws IOException if there was any problem writing to the archive, in which case none of {@code schedules}
+     *     are archived.
+     */
+    void append(List<Schedule> schedules) throws IOException;
+
+    /**
+     * Returns the archived schedules of the tutor with {@code tutorId} from {@code startDate} to {@code endDate}
+     * (both inclusive), ordered by start time. The tutor is looked up in {@code addressBook}.
+     *
+     * @throws DataLoadingException if reading the archive failed.
+     */
+    List<Schedule> find(PersonId tutorId, LocalDate startDate, LocalDate endDate, ReadOnlyAddressBook addressBook)
+            throws DataLoadingException;
+}
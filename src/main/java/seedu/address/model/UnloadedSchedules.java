@@ -0,0 +1,42 @@
+package seedu.address.model;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The schedules of an address book which were left in storage when it was read, a month at a time, so that they are
+ * only loaded when they are needed.
+ */
+public interface UnloadedSchedules {
+
+    /** No schedules left in storage. */
+    UnloadedSchedules NONE = new UnloadedSchedules() {
+        @Override
+        public Set<YearMonth> getMonths() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public List<Schedule> load(YearMonth month, ReadOnlyAddressBook addressBook) {
+            throw new IllegalArgumentException("No schedules in " + month + " were left in storage.");
+        }
+    };
+
+    /**
+     * Returns the months whose schedules were left in storage.
+     */
+    Set<YearMonth> getMonths();
+
+    /**
+     * Returns the schedules in {@code month}, which is one of the months returned by {@link #getMonths()}, read from
+     * storage. The tutors of the schedules are looked up in {@code addressBook}.
+     *
+     * @throws DataLoadingException if loading the schedules from storage failed.
+     */
+    List<Schedule> load(YearMonth month, ReadOnlyAddressBook addressBook) throws DataLoadingException;
+}
@@ -15,6 +15,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean isAddressBookFileCompact = false;
+    private boolean isAddressBookFileBinary = false;
+    private boolean isAddressBookFileSectioned = false;
+    private int scheduleLoadWindow = -1;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileCompact(newUserPrefs.isAddressBookFileCompact());
+        setAddressBookFileBinary(newUserPrefs.isAddressBookFileBinary());
+        setAddressBookFileSectioned(newUserPrefs.isAddressBookFileSectioned());
+        setScheduleLoadWindow(newUserPrefs.getScheduleLoadWindow());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public boolean isAddressBookFileCompact() {
+        return isAddressBookFileCompact;
+    }
+
+    public void setAddressBookFileCompact(boolean isAddressBookFileCompact) {
+        this.isAddressBookFileCompact = isAddressBookFileCompact;
+    }
+
+    public boolean isAddressBookFileBinary() {
+        return isAddressBookFileBinary;
+    }
+
+    public void setAddressBookFileBinary(boolean isAddressBookFileBinary) {
+        this.isAddressBookFileBinary = isAddressBookFileBinary;
+    }
+
+    public boolean isAddressBookFileSectioned() {
+        return isAddressBookFileSectioned;
+    }
+
+    public void setAddressBookFileSectioned(boolean isAddressBookFileSectioned) {
+        this.isAddressBookFileSectioned = isAddressBookFileSectioned;
+    }
+
+    public int getScheduleLoadWindow() {
+        return scheduleLoadWindow;
+    }
+
+    public void setScheduleLoadWindow(int scheduleLoadWindow) {
+        this.scheduleLoadWindow = scheduleLoadWindow;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +109,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isAddressBookFileCompact == otherUserPrefs.isAddressBookFileCompact
+                && isAddressBookFileBinary == otherUserPrefs.isAddressBookFileBinary
+                && isAddressBookFileSectioned == otherUserPrefs.isAddressBookFileSectioned
+                && scheduleLoadWindow == otherUserPrefs.scheduleLoadWindow;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isAddressBookFileCompact, isAddressBookFileBinary,
+                isAddressBookFileSectioned, scheduleLoadWindow);
     }
 
     @Override
@@ -82,6 +127,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact local data file : " + isAddressBookFileCompact);
+        sb.append("\nBinary local data file : " + isAddressBookFileBinary);
+        sb.append("\nSectioned local data file : " + isAddressBookFileSectioned);
+        sb.append("\nSchedule load window : " + scheduleLoadWindow);
         return sb.toString();
     }
 
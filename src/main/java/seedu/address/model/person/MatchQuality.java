@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+/**
+ * How closely a person matches a search keyword, from the closest match to the furthest.
+ * Comparing two {@code MatchQuality}s orders the closer match first.
+ */
+public enum MatchQuality {
+    /** A word of the person's name, or their email or phone number, is the keyword, ignoring case. */
+    EXACT,
+    /** A word of the person's name, or their email or phone number, starts with the keyword, ignoring case. */
+    PREFIX,
+    /** A word of the person's name, or their email or phone number, is one edit away from the keyword. */
+    ONE_EDIT,
+    /** A word of the person's name, or their email or phone number, is two edits away from the keyword. */
+    TWO_EDITS
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes persons by the words of their names, ignoring case.
+ * This lets the persons whose names contain a word be looked up without splitting and comparing the name of every
+ * person. Words are compared as by {@link StringUtil#containsWordIgnoreCase(String, String)}.
+ */
+class NameWordIndex {
+    private final Map<String, Set<PersonId>> personIdsByWord = new HashMap<>();
+
+    /**
+     * Adds {@code toAdd} to the index.
+     */
+    void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (String word : getFoldedWords(toAdd.getName())) {
+            personIdsByWord.computeIfAbsent(word, unused -> new HashSet<>(1)).add(toAdd.getId());
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, if present.
+     */
+    void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (String word : getFoldedWords(toRemove.getName())) {
+            Set<PersonId> personIds = personIdsByWord.get(word);
+            if (personIds == null) {
+                continue;
+            }
+            personIds.remove(toRemove.getId());
+            if (personIds.isEmpty()) {
+                personIdsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the indexed persons whose names contain any of {@code words}, ignoring case.
+     * Each of {@code words} is a single word, so words with whitespace between their characters match no person.
+     */
+    Set<PersonId> findPersonIds(Collection<String> words) {
+        requireNonNull(words);
+        Set<PersonId> personIds = new HashSet<>();
+        for (String word : words) {
+            personIds.addAll(personIdsByWord.getOrDefault(StringUtil.foldCase(word.trim()), Set.of()));
+        }
+        return personIds;
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personIdsByWord.clear();
+    }
+
+    private static Set<String> getFoldedWords(Name name) {
+        Set<String> words = new HashSet<>();
+        for (String word : StringUtil.splitWords(name.fullName)) {
+            words.add(StringUtil.foldCase(word));
+        }
+        return words;
+    }
+}
@@ -12,21 +12,39 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class Person {
 
+    private final PersonId id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The person is given a new {@code PersonId}.
      */
     public Person(Name name, Phone phone, Email email) {
-        requireAllNonNull(name, phone, email);
+        this(PersonId.generate(), name, phone, email);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(PersonId id, Name name, Phone phone, Email email) {
+        requireAllNonNull(id, name, phone, email);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
     }
 
+    /**
+     * Returns the id of this person, which is kept by the edited versions of this person.
+     * The id is not part of the equality of persons.
+     */
+    public PersonId getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Represents the identifier of a Person in the address book, which stays the same when the person is edited.
+ * Schedules refer to their tutor by this identifier, so editing a tutor does not change their schedules.
+ * Guarantees: immutable; is valid as declared in {@link #isValidPersonId(String)}
+ */
+public class PersonId {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Person ids should be UUIDs, such as 123e4567-e89b-12d3-a456-426614174000";
+
+    public static final String VALIDATION_REGEX =
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    public final String value;
+
+    /**
+     * Constructs a {@code PersonId}.
+     *
+     * @param id A valid person id.
+     */
+    public PersonId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidPersonId(id), MESSAGE_CONSTRAINTS);
+        value = id.toLowerCase();
+    }
+
+    /**
+     * Returns a new {@code PersonId}, which is different from every other person id.
+     */
+    public static PersonId generate() {
+        return new PersonId(UUID.randomUUID().toString());
+    }
+
+    /**
+     * Returns true if a given string is a valid person id.
+     */
+    public static boolean isValidPersonId(String test) {
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonId)) {
+            return false;
+        }
+
+        PersonId otherPersonId = (PersonId) other;
+        return value.equals(otherPersonId.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+}
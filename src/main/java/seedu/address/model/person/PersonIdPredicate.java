@@ -0,0 +1,48 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code PersonId} is any of the ids given.
+ */
+public class PersonIdPredicate implements Predicate<Person> {
+    private final Set<PersonId> personIds;
+
+    /**
+     * Creates a predicate for the persons with {@code personIds}.
+     */
+    public PersonIdPredicate(Set<PersonId> personIds) {
+        requireNonNull(personIds);
+        this.personIds = personIds;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return personIds.contains(person.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdPredicate)) {
+            return false;
+        }
+
+        PersonIdPredicate otherPersonIdPredicate = (PersonIdPredicate) other;
+        return personIds.equals(otherPersonIdPredicate.personIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("personIds", personIds).toString();
+    }
+}
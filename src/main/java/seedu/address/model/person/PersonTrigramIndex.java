@@ -0,0 +1,265 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes persons by the words of their names, their emails and their phone numbers, ignoring case, and by the
+ * trigrams (substrings of three characters) of these words. These words are called the tokens of a person.
+ *
+ * Searching for a keyword finds the tokens which start with the keyword, or are a few edits (insertions, deletions or
+ * substitutions of a character) away from it. Tokens are kept in order, so the tokens starting with the keyword are
+ * next to each other. A token a few edits away shares all but a few trigrams of the keyword, as each edit changes at
+ * most three trigrams. So only the tokens sharing enough trigrams with the keyword are compared with it, rather than
+ * every token of every person.
+ */
+class PersonTrigramIndex {
+    /** Keywords shorter than this are only matched as prefixes. */
+    private static final int MIN_LENGTH_FOR_ONE_EDIT = 3;
+    /** Keywords shorter than this are matched with at most one edit. */
+    private static final int MIN_LENGTH_FOR_TWO_EDITS = 6;
+    private static final int GRAM_LENGTH = 3;
+    /** Pads the ends of tokens, so that the first and last characters are in as many trigrams as the others. */
+    private static final char PADDING = '\0';
+
+    private final NavigableMap<String, Set<PersonId>> personIdsByToken = new TreeMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Adds {@code toAdd} to the index.
+     */
+    void add(Person toAdd) {
+        requireNonNull(toAdd);
+        for (String token : getTokens(toAdd)) {
+            Set<PersonId> personIds = personIdsByToken.get(token);
+            if (personIds == null) {
+                personIds = new HashSet<>(1);
+                personIdsByToken.put(token, personIds);
+                for (String gram : getGrams(token)) {
+                    tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(token);
+                }
+            }
+            personIds.add(toAdd.getId());
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from the index, if present.
+     */
+    void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        for (String token : getTokens(toRemove)) {
+            Set<PersonId> personIds = personIdsByToken.get(token);
+            if (personIds == null || !personIds.remove(toRemove.getId()) || !personIds.isEmpty()) {
+                continue;
+            }
+
+            personIdsByToken.remove(token);
+            // A trigram can be in a token more than once, so it may have been removed already
+            for (String gram : getGrams(token)) {
+                Set<String> tokens = tokensByGram.get(gram);
+                if (tokens != null && tokens.remove(token) && tokens.isEmpty()) {
+                    tokensByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        personIdsByToken.clear();
+        tokensByGram.clear();
+    }
+
+    /**
+     * Returns the indexed persons matching any of {@code keywords}, keyed by id, with how closely they match their
+     * closest matching keyword.
+     * Keywords of fewer than {@value #MIN_LENGTH_FOR_ONE_EDIT} characters are only matched as prefixes, and keywords
+     * of fewer than {@value #MIN_LENGTH_FOR_TWO_EDITS} characters are matched with at most one edit.
+     */
+    Map<PersonId, MatchQuality> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Map<PersonId, MatchQuality> matches = new HashMap<>();
+        for (String keyword : keywords) {
+            String query = StringUtil.foldCase(keyword.trim());
+            if (query.isEmpty()) {
+                continue;
+            }
+
+            addPrefixMatches(query, matches);
+            addNearMatches(query, matches);
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the indexed persons with a token starting with {@code query} to {@code matches}.
+     */
+    private void addPrefixMatches(String query, Map<PersonId, MatchQuality> matches) {
+        for (Map.Entry<String, Set<PersonId>> entry : personIdsByToken.tailMap(query, true).entrySet()) {
+            String token = entry.getKey();
+            if (!token.startsWith(query)) {
+                break;
+            }
+            addMatches(entry.getValue(), token.length() == query.length() ? MatchQuality.EXACT : MatchQuality.PREFIX,
+                    matches);
+        }
+    }
+
+    /**
+     * Adds the indexed persons with a token a few edits away from {@code query}, which does not start with
+     * {@code query}, to {@code matches}.
+     */
+    private void addNearMatches(String query, Map<PersonId, MatchQuality> matches) {
+        int maxEdits = getMaxEdits(query);
+        if (maxEdits == 0) {
+            return;
+        }
+        for (String token : findTokensNear(query, maxEdits)) {
+            if (token.startsWith(query)) {
+                continue;
+            }
+            int edits = getEditDistance(query, token, maxEdits);
+            if (edits <= maxEdits) {
+                addMatches(personIdsByToken.get(token), edits == 1 ? MatchQuality.ONE_EDIT : MatchQuality.TWO_EDITS,
+                        matches);
+            }
+        }
+    }
+
+    /**
+     * Adds the persons with {@code personIds} to {@code matches} with {@code quality}, unless they already match
+     * more closely.
+     */
+    private static void addMatches(Set<PersonId> personIds, MatchQuality quality,
+            Map<PersonId, MatchQuality> matches) {
+        for (PersonId personId : personIds) {
+            MatchQuality previousQuality = matches.putIfAbsent(personId, quality);
+            if (previousQuality != null && quality.compareTo(previousQuality) < 0) {
+                matches.put(personId, quality);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed tokens which may be at most {@code maxEdits} edits away from {@code query}, and possibly
+     * others.
+     */
+    private Set<String> findTokensNear(String query, int maxEdits) {
+        Set<String> queryGrams = new HashSet<>(getGrams(query));
+        // Each edit changes at most GRAM_LENGTH trigrams, so a near token has at least this many trigrams of query
+        int minSharedGrams = queryGrams.size() - GRAM_LENGTH * maxEdits;
+        Set<String> tokens = new HashSet<>();
+        if (minSharedGrams <= 0) {
+            for (String token : personIdsByToken.keySet()) {
+                if (Math.abs(token.length() - query.length()) <= maxEdits) {
+                    tokens.add(token);
+                }
+            }
+            return tokens;
+        }
+
+        // A token with minSharedGrams of the trigrams has at least one of any (size - minSharedGrams + 1) of them,
+        // so only the tokens with one of that many of the rarest trigrams are near
+        List<Set<String>> postings = new ArrayList<>();
+        for (String gram : queryGrams) {
+            postings.add(tokensByGram.getOrDefault(gram, Set.of()));
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        for (Set<String> posting : postings.subList(0, queryGrams.size() - minSharedGrams + 1)) {
+            for (String token : posting) {
+                if (Math.abs(token.length() - query.length()) <= maxEdits) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static int getMaxEdits(String query) {
+        if (query.length() < MIN_LENGTH_FOR_ONE_EDIT) {
+            return 0;
+        }
+        return query.length() < MIN_LENGTH_FOR_TWO_EDITS ? 1 : 2;
+    }
+
+    /**
+     * Returns the least number of edits that turn {@code first} into {@code second}, or {@code maxEdits + 1} if more
+     * than {@code maxEdits} edits are needed.
+     */
+    private static int getEditDistance(String first, String second, int maxEdits) {
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return maxEdits + 1;
+        }
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previousRow[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                currentRow[j] = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return Math.min(previousRow[second.length()], maxEdits + 1);
+    }
+
+    /**
+     * Returns the tokens of {@code person}: the words of their name, their email and their phone number, with their
+     * case folded.
+     */
+    private static Set<String> getTokens(Person person) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : StringUtil.splitWords(person.getName().fullName)) {
+            tokens.add(StringUtil.foldCase(word));
+        }
+        tokens.add(StringUtil.foldCase(person.getEmail().value));
+        tokens.add(person.getPhone().value);
+        return tokens;
+    }
+
+    /**
+     * Returns the trigrams of {@code token} padded at both ends, in order.
+     */
+    private static List<String> getGrams(String token) {
+        StringBuilder padded = new StringBuilder(token.length() + 2 * (GRAM_LENGTH - 1));
+        for (int i = 0; i < GRAM_LENGTH - 1; i++) {
+            padded.append(PADDING);
+        }
+        padded.append(token);
+        for (int i = 0; i < GRAM_LENGTH - 1; i++) {
+            padded.append(PADDING);
+        }
+
+        List<String> grams = new ArrayList<>(token.length() + GRAM_LENGTH - 1);
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -3,20 +3,28 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BatchObservableList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  * A person is considered unique by comparing using {@code Person#isSamePerson(Person)}. As such, adding and updating of
  * persons uses Person#isSamePerson(Person) for equality so as to ensure that the person being added or updated is
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
- * as to ensure that the person with exactly the same fields will be removed.
+ * as to ensure that the person with exactly the same fields will be removed. No two persons in the list share a
+ * {@code PersonId}, so a person can also be looked up by id, and by the words of their name. Persons can also be
+ * searched for by keywords close to the words of their name, their email or their phone number.
  *
  * Supports a minimal set of list operations.
  *
@@ -24,16 +32,22 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Person> internalList = new BatchObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** Position of each person in {@code internalList}, keyed by the name that identifies the person. */
+    private final Map<Name, Integer> positions = new HashMap<>();
+    /** Persons in {@code internalList}, keyed by their id. */
+    private final Map<PersonId, Person> personsById = new HashMap<>();
+    private final NameWordIndex nameWordIndex = new NameWordIndex();
+    private final PersonTrigramIndex trigramIndex = new PersonTrigramIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getName());
     }
 
     /**
@@ -42,9 +56,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || personsById.containsKey(toAdd.getId())) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getName(), internalList.size());
+        personsById.put(toAdd.getId(), toAdd);
+        nameWordIndex.add(toAdd);
+        trigramIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,7 +74,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +83,18 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        if (!target.getId().equals(editedPerson.getId()) && personsById.containsKey(editedPerson.getId())) {
+            throw new DuplicatePersonException();
+        }
+
+        positions.remove(target.getName());
+        positions.put(editedPerson.getName(), index);
+        personsById.remove(target.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
+        nameWordIndex.remove(target);
+        nameWordIndex.add(editedPerson);
+        trigramIndex.remove(target);
+        trigramIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,14 +104,29 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        positions.remove(toRemove.getName());
+        personsById.remove(toRemove.getId());
+        nameWordIndex.remove(toRemove);
+        trigramIndex.remove(toRemove);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getName(), i - 1);
+        }
+        internalList.remove(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        personsById.clear();
+        personsById.putAll(replacement.personsById);
+        rebuildIndexes();
     }
 
     /**
@@ -90,11 +135,53 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, Integer> replacementPositions = toPositions(persons);
+        Map<PersonId, Person> replacementPersonsById = toPersonsById(persons);
+        if (replacementPositions.size() != persons.size() || replacementPersonsById.size() != persons.size()) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        personsById.clear();
+        personsById.putAll(replacementPersonsById);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the person in the list with the given {@code id}, if there is one.
+     */
+    public Optional<Person> get(PersonId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns the person in the list with the given {@code name}, if there is one.
+     */
+    public Optional<Person> get(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(positions.get(name)).map(internalList::get);
+    }
+
+    /**
+     * Returns the ids of the persons in the list whose names contain any of {@code words}, ignoring case.
+     * A full word match is required, as by {@link seedu.address.commons.util.StringUtil#containsWordIgnoreCase}.
+     */
+    public Set<PersonId> findIdsByNameWords(Collection<String> words) {
+        requireAllNonNull(words);
+        return nameWordIndex.findPersonIds(words);
+    }
+
+    /**
+     * Returns the persons in the list with a word of their name, their email or their phone number which is, starts
+     * with, or is close to any of {@code keywords}, ignoring case. The persons are keyed by id, with how closely they
+     * match their closest matching keyword.
+     */
+    public Map<PersonId, MatchQuality> search(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        return trigramIndex.search(keywords);
     }
 
     /**
@@ -135,16 +222,50 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of {@code person} in the list, which is the person with the same id and equal to it, or -1
+     * if there is none.
+     */
+    private int indexOf(Person person) {
+        Person storedPerson = personsById.get(person.getId());
+        if (storedPerson == null || !storedPerson.equals(person)) {
+            return -1;
+        }
+        return positions.get(storedPerson.getName());
+    }
+
+    /**
+     * Rebuilds {@code nameWordIndex} and {@code trigramIndex} to hold exactly the persons in the list.
+     */
+    private void rebuildIndexes() {
+        nameWordIndex.clear();
+        trigramIndex.clear();
+        for (Person person : internalList) {
+            nameWordIndex.add(person);
+            trigramIndex.add(person);
+        }
+    }
+
+    /**
+     * Returns the position of each person in {@code persons}, keyed by name.
+     * The returned map is smaller than {@code persons} if and only if {@code persons} contains duplicate persons.
+     */
+    private static Map<Name, Integer> toPositions(List<Person> persons) {
+        Map<Name, Integer> personPositions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            personPositions.put(persons.get(i).getName(), i);
+        }
+        return personPositions;
+    }
+
+    /**
+     * Returns the persons in {@code persons}, keyed by id.
+     * The returned map is smaller than {@code persons} if and only if two persons in {@code persons} share an id.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static Map<PersonId, Person> toPersonsById(List<Person> persons) {
+        Map<PersonId, Person> personsWithIds = new HashMap<>();
+        for (Person person : persons) {
+            personsWithIds.put(person.getId(), person);
         }
-        return true;
+        return personsWithIds;
     }
 }
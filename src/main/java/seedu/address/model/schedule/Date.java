@@ -2,7 +2,8 @@ package seedu.address.model.schedule;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+
+import seedu.address.commons.util.DateTimeUtil;
 
 /**
  * Represents a Schedule's end time in the address book.
@@ -64,15 +65,6 @@ public class Date implements Comparable<Date> {
      * Returns true if a given string is a valid date.
      */
     public static boolean isValidDate(String test) {
-        if (!test.matches("\\d{4}-\\d{2}-\\d{2}")) {
-            return false;
-        }
-
-        try {
-            LocalDate.parse(test);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return DateTimeUtil.parseDate(test) != null;
     }
 }
@@ -0,0 +1,82 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Indexes schedules by the date they are on, keeping the schedules of each date ordered by start time.
+ * This lets the schedules of a date, or of a range of dates, be looked up without scanning every other schedule.
+ *
+ * @see Schedule#isOnDate(Date)
+ */
+class DateScheduleIndex {
+    private final NavigableMap<LocalDate, List<Schedule>> schedulesByDate = new TreeMap<>();
+
+    /**
+     * Adds {@code toAdd} to the index, after the schedules on the same date starting no later than it.
+     */
+    void add(Schedule toAdd) {
+        requireNonNull(toAdd);
+        List<Schedule> sameDate = schedulesByDate.computeIfAbsent(getDate(toAdd), unused -> new ArrayList<>());
+
+        int index = sameDate.size();
+        while (index > 0 && sameDate.get(index - 1).getStartTime().compareTo(toAdd.getStartTime()) > 0) {
+            index--;
+        }
+        sameDate.add(index, toAdd);
+    }
+
+    /**
+     * Removes the schedule equal to {@code toRemove} from the index, if present.
+     */
+    void remove(Schedule toRemove) {
+        requireNonNull(toRemove);
+        List<Schedule> sameDate = schedulesByDate.get(getDate(toRemove));
+        if (sameDate == null || !sameDate.remove(toRemove)) {
+            return;
+        }
+
+        if (sameDate.isEmpty()) {
+            schedulesByDate.remove(getDate(toRemove));
+        }
+    }
+
+    /**
+     * Removes every schedule from the index.
+     */
+    void clear() {
+        schedulesByDate.clear();
+    }
+
+    /**
+     * Returns the indexed schedules on {@code date}, ordered by start time.
+     */
+    List<Schedule> getSchedulesOn(LocalDate date) {
+        requireNonNull(date);
+        return new ArrayList<>(schedulesByDate.getOrDefault(date, List.of()));
+    }
+
+    /**
+     * Returns the indexed schedules from {@code startDate} to {@code endDate} (both inclusive), ordered by start time.
+     */
+    List<Schedule> getSchedulesBetween(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        List<Schedule> schedules = new ArrayList<>();
+        if (startDate.isAfter(endDate)) {
+            return schedules;
+        }
+
+        schedulesByDate.subMap(startDate, true, endDate, true).values().forEach(schedules::addAll);
+        return schedules;
+    }
+
+    private static LocalDate getDate(Schedule schedule) {
+        return schedule.getStartTime().getTime().toLocalDate();
+    }
+}
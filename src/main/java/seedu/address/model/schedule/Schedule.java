@@ -1,13 +1,15 @@
 package seedu.address.model.schedule;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.util.Comparator;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 
 /**
  * Represents a Schedule in the address book.
@@ -16,19 +18,20 @@ import seedu.address.model.person.Person;
 public class Schedule implements Comparable<Schedule> {
     public static final String MESSAGE_CONSTRAINTS = "Schedules start time must be before its end time and both "
             + "should be on the same day";
-    private final Person tutor;
+    private final PersonId tutorId;
     private final StartTime startTime;
     private final EndTime endTime;
     private final Status status;
 
     /**
      * Every field must be present and not null.
+     * The tutor is referred to by {@code tutorId}, so that editing the tutor does not change the schedule.
      */
-    public Schedule(Person tutor, StartTime startTime, EndTime endTime) {
-        requireAllNonNull(tutor, startTime, endTime);
+    public Schedule(PersonId tutorId, StartTime startTime, EndTime endTime) {
+        requireAllNonNull(tutorId, startTime, endTime);
         checkArgument(isValidSchedule(startTime, endTime), MESSAGE_CONSTRAINTS);
 
-        this.tutor = tutor;
+        this.tutorId = tutorId;
         this.startTime = startTime;
         this.endTime = endTime;
         this.status = Status.PENDING;
@@ -37,11 +40,11 @@ public class Schedule implements Comparable<Schedule> {
     /**
      * Every field must be present and not null.
      */
-    public Schedule(Person tutor, StartTime startTime, EndTime endTime, Status status) {
-        requireAllNonNull(tutor, startTime, endTime, status);
+    public Schedule(PersonId tutorId, StartTime startTime, EndTime endTime, Status status) {
+        requireAllNonNull(tutorId, startTime, endTime, status);
         checkArgument(isValidSchedule(startTime, endTime), MESSAGE_CONSTRAINTS);
 
-        this.tutor = tutor;
+        this.tutorId = tutorId;
         this.startTime = startTime;
         this.endTime = endTime;
         this.status = status;
@@ -59,8 +62,8 @@ public class Schedule implements Comparable<Schedule> {
     }
     //@@author
 
-    public Person getTutor() {
-        return tutor;
+    public PersonId getTutorId() {
+        return tutorId;
     }
 
     public StartTime getStartTime() {
@@ -83,7 +86,7 @@ public class Schedule implements Comparable<Schedule> {
      * @return {@code true} if the schedules clash, {@code false} otherwise.
      */
     public boolean isClashing(Schedule other) {
-        if (!this.tutor.equals(other.tutor)) {
+        if (!this.tutorId.equals(other.tutorId)) {
             return false;
         }
 
@@ -105,7 +108,7 @@ public class Schedule implements Comparable<Schedule> {
             return true;
         }
 
-        return tutor.equals(other.tutor)
+        return tutorId.equals(other.tutorId)
                 && startTime.equals(other.startTime)
                 && endTime.equals(other.endTime);
     }
@@ -136,7 +139,7 @@ public class Schedule implements Comparable<Schedule> {
         }
 
         Schedule otherSchedule = (Schedule) other;
-        return tutor.equals(otherSchedule.tutor)
+        return tutorId.equals(otherSchedule.tutorId)
                 && startTime.equals(otherSchedule.startTime)
                 && endTime.equals(otherSchedule.endTime)
                 && status.equals(otherSchedule.status);
@@ -145,23 +148,58 @@ public class Schedule implements Comparable<Schedule> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(tutor, startTime, endTime, status);
+        return Objects.hash(tutorId, startTime, endTime, status);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("tutor", tutor)
+                .add("tutorId", tutorId)
                 .add("startTime", startTime)
                 .add("endTime", endTime)
                 .add("status", status)
                 .toString();
     }
 
+    /**
+     * Returns true if this schedule starts on or after {@code date}.
+     */
+    public boolean isOnOrAfter(LocalDate date) {
+        return !startTime.getTime().toLocalDate().isBefore(date);
+    }
+
+    /**
+     * Returns a comparator that orders schedules as {@link #compareTo(Schedule)} does when {@code today} is the
+     * current day. As {@code today} is fixed, the ordering does not read the clock and does not change while
+     * schedules are being sorted.
+     *
+     * @param today the day separating upcoming schedules from schedules before it.
+     */
+    public static Comparator<Schedule> orderedAround(LocalDate today) {
+        requireNonNull(today);
+        return (first, second) -> {
+            boolean isFirstUpcoming = first.isOnOrAfter(today);
+            boolean isSecondUpcoming = second.isOnOrAfter(today);
+
+            if (isFirstUpcoming && isSecondUpcoming) {
+                // Ascending order as both schedules is for today or later
+                return first.getStartTime().compareTo(second.getStartTime());
+            } else if (!isFirstUpcoming && !isSecondUpcoming) {
+                // Descending order as both schedules is for before today
+                return second.getStartTime().compareTo(first.getStartTime());
+            } else {
+                // Only one schedule is before today, sort today or later first
+                return isFirstUpcoming ? -1 : 1;
+            }
+        };
+    }
+
     /**
      * Compares this schedule with the specified schedule for order based on their start times.
      * Schedules from today or later are sorted in ascending order of start time.
      * Schedules before today are sorted in descending order of start time.
+     * As this reads the clock on every comparison, prefer {@link #orderedAround(LocalDate)} when sorting many
+     * schedules.
      *
      * @param other the schedule to be compared.
      * @return a negative integer, zero, or a positive integer as this schedule
@@ -169,28 +207,6 @@ public class Schedule implements Comparable<Schedule> {
      */
     @Override
     public int compareTo(Schedule other) {
-        boolean isThisTodayOrLater = false;
-        boolean isOtherTodayOrLater = false;
-
-        StartTime now = new StartTime(LocalDateTime.now());
-
-        if (this.getStartTime().compareDays(now) >= 0) {
-            isThisTodayOrLater = true;
-        }
-        if (other.getStartTime().compareDays(now) >= 0) {
-            isOtherTodayOrLater = true;
-        }
-
-        if (isThisTodayOrLater && isOtherTodayOrLater) {
-            // Ascending order as both schedules is for today or later
-            return this.getStartTime().compareTo(other.getStartTime());
-
-        } else if (!isThisTodayOrLater && !isOtherTodayOrLater) {
-            // Descending order as both schedules is for before today
-            return other.getStartTime().compareTo(this.getStartTime());
-        } else {
-            // Only one schedule is before today, sort today or later first
-            return isThisTodayOrLater ? -1 : 1;
-        }
+        return orderedAround(LocalDate.now()).compare(this, other);
     }
 }
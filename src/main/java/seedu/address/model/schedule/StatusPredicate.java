@@ -27,7 +27,7 @@ public class StatusPredicate implements Predicate<Schedule> {
     public boolean test(Schedule schedule) {
         if (tutor != null) {
             return status.equals(schedule.getStatus())
-                && schedule.getTutor().isSamePerson(tutor);
+                && schedule.getTutorId().equals(tutor.getId());
         } else {
             return status.equals(schedule.getStatus());
         }
@@ -5,7 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+
+import seedu.address.commons.util.DateTimeUtil;
 
 /**
  * Represents an abstract time in the address book.
@@ -15,7 +16,8 @@ public abstract class Time implements Comparable<Time> {
     public static final String DATETIME_CONSTRAINT_FORMAT = "yyyy-MM-dd'T'HH:mm";
     public static final String DATETIME_INPUT_FORMAT = "uuuu-MM-dd'T'HH:mm";
     public static final String DATETIME_OUTPUT_FORMAT = "MMM d uuuu HH:mm";
-    public static final String VALIDATION_REGEX = "\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}";
+    public static final DateTimeFormatter DATETIME_OUTPUT_FORMATTER =
+            DateTimeFormatter.ofPattern(DATETIME_OUTPUT_FORMAT);
 
     public final LocalDateTime value;
 
@@ -34,16 +36,7 @@ public abstract class Time implements Comparable<Time> {
      * Returns true if a given string is a valid end time.
      */
     public static boolean isValidTimeString(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-
-        try {
-            LocalDateTime.parse(test);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return DateTimeUtil.parseDateTime(test) != null;
     }
 
     /**
@@ -58,7 +51,7 @@ public abstract class Time implements Comparable<Time> {
     }
 
     public String toTimeString() {
-        return value.toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+        return DateTimeUtil.formatTime(value.toLocalTime());
     }
 
     @Override
@@ -83,7 +76,7 @@ public abstract class Time implements Comparable<Time> {
 
     @Override
     public String toString() {
-        return value.format(DateTimeFormatter.ofPattern(DATETIME_OUTPUT_FORMAT));
+        return value.format(DATETIME_OUTPUT_FORMATTER);
     }
 
     /**
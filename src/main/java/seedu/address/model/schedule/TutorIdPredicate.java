@@ -0,0 +1,49 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.PersonId;
+
+/**
+ * Tests that the tutor of a {@code Schedule} is any of the tutors with the ids given.
+ */
+public class TutorIdPredicate implements Predicate<Schedule> {
+    private final Set<PersonId> tutorIds;
+
+    /**
+     * Creates a predicate for the schedules of the tutors with {@code tutorIds}.
+     */
+    public TutorIdPredicate(Set<PersonId> tutorIds) {
+        requireNonNull(tutorIds);
+        this.tutorIds = tutorIds;
+    }
+
+    @Override
+    public boolean test(Schedule schedule) {
+        return tutorIds.contains(schedule.getTutorId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TutorIdPredicate)) {
+            return false;
+        }
+
+        TutorIdPredicate otherTutorIdPredicate = (TutorIdPredicate) other;
+        return tutorIds.equals(otherTutorIdPredicate.tutorIds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("tutorIds", tutorIds).toString();
+    }
+}
@@ -1,26 +1,42 @@
 package seedu.address.model.schedule;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
 
 /**
- * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Tests that a tutor's {@code Name} matches any of the keywords given.
+ * The schedules of the matching tutors are the schedules found by tutor name.
  */
-public class TutorNameContainsKeywordsPredicate implements Predicate<Schedule> {
+public class TutorNameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    /** {@code keywords} with their case folded, so that each word of a name is looked up once. */
+    private final Set<String> foldedKeywords;
 
+    /**
+     * Creates a predicate for the single-word {@code keywords}.
+     */
     public TutorNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+                .map(keyword -> StringUtil.foldCase(keyword.trim()))
+                .collect(Collectors.toSet());
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
-    public boolean test(Schedule schedule) {
-        return keywords.stream()
-            .anyMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(schedule.getTutor().getName().fullName, keyword));
+    public boolean test(Person tutor) {
+        return StringUtil.splitWords(tutor.getName().fullName).stream()
+                .map(StringUtil::foldCase)
+                .anyMatch(foldedKeywords::contains);
     }
 
     @Override
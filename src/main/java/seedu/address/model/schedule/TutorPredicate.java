@@ -17,7 +17,7 @@ public class TutorPredicate implements Predicate<Schedule> {
 
     @Override
     public boolean test(Schedule schedule) {
-        return schedule.getTutor().isSamePerson(tutor);
+        return tutor != null && schedule.getTutorId().equals(tutor.getId());
     }
 
     @Override
@@ -0,0 +1,134 @@
+package seedu.address.model.schedule;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.person.PersonId;
+
+/**
+ * Indexes schedules by tutor, keeping each tutor's schedules ordered by start time.
+ * This lets the schedules of a single tutor be looked up without scanning the schedules of every other tutor.
+ * Since two schedules can only clash if they share a tutor, a clash query only has to look at the schedules of
+ * that tutor which start within the longest indexed duration before the queried schedule ends.
+ *
+ * @see Schedule#isClashing(Schedule)
+ */
+class TutorScheduleIndex {
+    private final Map<PersonId, NavigableMap<LocalDateTime, List<Schedule>>> schedulesByTutor = new HashMap<>();
+
+    /** Longest duration of any schedule added so far, used to bound how far back a clash query looks. */
+    private Duration longestDuration = Duration.ZERO;
+
+    /**
+     * Adds {@code toAdd} to the index.
+     */
+    void add(Schedule toAdd) {
+        requireNonNull(toAdd);
+        schedulesByTutor.computeIfAbsent(toAdd.getTutorId(), unused -> new TreeMap<>())
+                .computeIfAbsent(getStart(toAdd), unused -> new ArrayList<>(1))
+                .add(toAdd);
+
+        Duration duration = Duration.between(getStart(toAdd), getEnd(toAdd));
+        if (duration.compareTo(longestDuration) > 0) {
+            longestDuration = duration;
+        }
+    }
+
+    /**
+     * Removes the schedule equal to {@code toRemove} from the index, if present.
+     */
+    void remove(Schedule toRemove) {
+        requireNonNull(toRemove);
+        NavigableMap<LocalDateTime, List<Schedule>> tutorSchedules = schedulesByTutor.get(toRemove.getTutorId());
+        if (tutorSchedules == null) {
+            return;
+        }
+
+        List<Schedule> sameStart = tutorSchedules.get(getStart(toRemove));
+        if (sameStart == null || !sameStart.remove(toRemove)) {
+            return;
+        }
+
+        if (sameStart.isEmpty()) {
+            tutorSchedules.remove(getStart(toRemove));
+        }
+        if (tutorSchedules.isEmpty()) {
+            schedulesByTutor.remove(toRemove.getTutorId());
+        }
+    }
+
+    /**
+     * Returns true if a schedule equal to {@code toCheck} is in the index.
+     */
+    boolean contains(Schedule toCheck) {
+        requireNonNull(toCheck);
+        NavigableMap<LocalDateTime, List<Schedule>> tutorSchedules = schedulesByTutor.get(toCheck.getTutorId());
+        if (tutorSchedules == null) {
+            return false;
+        }
+
+        List<Schedule> sameStart = tutorSchedules.get(getStart(toCheck));
+        return sameStart != null && sameStart.contains(toCheck);
+    }
+
+    /**
+     * Returns the indexed schedules of the tutor with {@code tutorId}, ordered by start time.
+     */
+    List<Schedule> getSchedulesOf(PersonId tutorId) {
+        requireNonNull(tutorId);
+        List<Schedule> schedules = new ArrayList<>();
+        NavigableMap<LocalDateTime, List<Schedule>> tutorSchedules = schedulesByTutor.get(tutorId);
+        if (tutorSchedules != null) {
+            tutorSchedules.values().forEach(schedules::addAll);
+        }
+        return schedules;
+    }
+
+    /**
+     * Removes every schedule from the index.
+     */
+    void clear() {
+        schedulesByTutor.clear();
+        longestDuration = Duration.ZERO;
+    }
+
+    /**
+     * Returns the indexed schedules that clash with {@code toCheck}, as defined by
+     * {@link Schedule#isClashing(Schedule)}. Schedules which only touch {@code toCheck} at an endpoint do not clash.
+     */
+    List<Schedule> findClashes(Schedule toCheck) {
+        requireNonNull(toCheck);
+        List<Schedule> clashes = new ArrayList<>();
+        NavigableMap<LocalDateTime, List<Schedule>> tutorSchedules = schedulesByTutor.get(toCheck.getTutorId());
+        if (tutorSchedules == null) {
+            return clashes;
+        }
+
+        // Only schedules starting before toCheck ends, and no longer ago than the longest duration, can overlap.
+        LocalDateTime earliestStart = getStart(toCheck).minus(longestDuration);
+        for (List<Schedule> sameStart : tutorSchedules.subMap(earliestStart, true, getEnd(toCheck), false).values()) {
+            for (Schedule schedule : sameStart) {
+                if (schedule.isClashing(toCheck)) {
+                    clashes.add(schedule);
+                }
+            }
+        }
+        return clashes;
+    }
+
+    private static LocalDateTime getStart(Schedule schedule) {
+        return schedule.getStartTime().getTime();
+    }
+
+    private static LocalDateTime getEnd(Schedule schedule) {
+        return schedule.getEndTime().getTime();
+    }
+}
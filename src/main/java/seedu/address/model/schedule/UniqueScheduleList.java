@@ -3,13 +3,25 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
+import seedu.address.model.util.BatchObservableList;
 
 /**
  * A sorted list of schedules that enforces uniqueness between its elements and does not allow nulls.
@@ -18,22 +30,37 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  * or updated is unique in terms of identity in the UniqueScheduleList. The removal of a schedule uses
  * Schedule#equals(Object) so as to ensure that the schedule with exactly the same fields will be removed.
  *
+ * Schedules are kept in the order given by {@code Schedule#compareTo(Schedule)} by inserting each schedule at its
+ * position, so reading the list does not sort it. The list is partitioned into the upcoming schedules, which start on
+ * or after the day the list is ordered for, followed by the schedules before that day. The day is only changed by
+ * {@link #rollOver(LocalDate)}, which moves just the schedules that are no longer upcoming (or, if the clock moved
+ * back, are upcoming again) across.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Schedule#equals(Object)
  * @see Schedule#compareTo(Schedule)
  */
 public class UniqueScheduleList implements Iterable<Schedule> {
-    private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Schedule> internalList = new BatchObservableList<>();
     private final ObservableList<Schedule> internalUnmodifiableList =
         FXCollections.unmodifiableObservableList(internalList);
+    private final TutorScheduleIndex tutorScheduleIndex = new TutorScheduleIndex();
+    private final DateScheduleIndex dateScheduleIndex = new DateScheduleIndex();
+    /** Identities of the schedules in {@code internalList}, as defined by {@link Schedule#isDuplicate(Schedule)}. */
+    private final Set<ScheduleIdentity> identities = new HashSet<>();
+    /** The day {@code internalList} is ordered for, which separates upcoming schedules from past schedules. */
+    private LocalDate pivotDate = LocalDate.now();
+    private Comparator<Schedule> order = Schedule.orderedAround(pivotDate);
+    /** Number of upcoming schedules, which occupy the front of {@code internalList}. */
+    private int upcomingCount = 0;
 
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isDuplicate);
+        return identities.contains(new ScheduleIdentity(toCheck));
     }
 
     /**
@@ -45,8 +72,35 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         if (contains(toAdd)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAdd);
-        sort();
+        index(toAdd);
+        insert(toAdd);
+    }
+
+    /**
+     * Adds all the schedules in {@code toAdd} to the list.
+     * The schedules must not already exist in the list or be duplicates of each other, otherwise no schedule is
+     * added. Schedules which go between the same two schedules of the list are inserted together, so adding
+     * schedules that are next to each other in order, such as all the schedules in a month without any schedules
+     * yet, shifts the list once.
+     */
+    public void addAll(Collection<Schedule> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Schedule> orderedSchedules = new ArrayList<>(toAdd);
+        Set<ScheduleIdentity> addedIdentities = toIdentities(orderedSchedules);
+        if (addedIdentities.size() != orderedSchedules.size() || !Collections.disjoint(identities, addedIdentities)) {
+            throw new DuplicateScheduleException();
+        }
+
+        orderedSchedules.sort(order);
+        for (Schedule schedule : orderedSchedules) {
+            index(schedule);
+        }
+        internalList.beginBatch();
+        try {
+            insertRuns(orderedSchedules);
+        } finally {
+            internalList.commitBatch();
+        }
     }
 
     /**
@@ -57,7 +111,7 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ScheduleNotFoundException();
         }
@@ -66,7 +120,14 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
+        unindex(target);
+        index(editedSchedule);
+        if (isUpcoming(target) == isUpcoming(editedSchedule) && fitsAt(index, editedSchedule)) {
+            internalList.set(index, editedSchedule);
+        } else {
+            removeAt(index);
+            insert(editedSchedule);
+        }
     }
 
     /**
@@ -76,9 +137,35 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ScheduleNotFoundException();
         }
+
+        unindex(toRemove);
+        removeAt(index);
+    }
+
+    /**
+     * Removes all the equivalent schedules in {@code toRemove} from the list.
+     * Every schedule in {@code toRemove} must exist in the list, otherwise no schedule is removed.
+     */
+    public void removeAll(Collection<Schedule> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Schedule> schedulesToRemove = new HashSet<>(toRemove);
+        for (Schedule schedule : schedulesToRemove) {
+            if (!tutorScheduleIndex.contains(schedule)) {
+                throw new ScheduleNotFoundException();
+            }
+        }
+
+        for (Schedule schedule : schedulesToRemove) {
+            if (isUpcoming(schedule)) {
+                upcomingCount--;
+            }
+            unindex(schedule);
+        }
+        internalList.removeAll(schedulesToRemove);
     }
 
     /**
@@ -87,6 +174,12 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
+        pivotDate = replacement.pivotDate;
+        order = replacement.order;
+        upcomingCount = replacement.upcomingCount;
+        identities.clear();
+        identities.addAll(replacement.identities);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -96,25 +189,91 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void setSchedules(List<Schedule> schedules) {
         requireAllNonNull(schedules);
-        if (!schedulesAreUnique(schedules)) {
+        Set<ScheduleIdentity> replacementIdentities = toIdentities(schedules);
+        if (replacementIdentities.size() != schedules.size()) {
             throw new DuplicateScheduleException();
         }
 
-        internalList.setAll(schedules);
+        pivotDate = LocalDate.now();
+        order = Schedule.orderedAround(pivotDate);
+        List<Schedule> orderedSchedules = new ArrayList<>(schedules);
+        orderedSchedules.sort(order);
+        upcomingCount = (int) orderedSchedules.stream().filter(this::isUpcoming).count();
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        rebuildIndexes(orderedSchedules);
+        internalList.setAll(orderedSchedules);
+    }
+
+    /**
+     * Returns the schedules in the list that clash with {@code toCheck}.
+     * This gives the same result as testing {@link Schedule#isClashing(Schedule)} against every schedule in the list,
+     * without having to scan the schedules of other tutors.
+     */
+    public List<Schedule> findClashes(Schedule toCheck) {
+        requireNonNull(toCheck);
+        return tutorScheduleIndex.findClashes(toCheck);
+    }
+
+    /**
+     * Returns the schedules in the list assigned to the tutor with {@code tutorId}, ordered by start time.
+     */
+    public List<Schedule> getSchedulesOf(PersonId tutorId) {
+        requireNonNull(tutorId);
+        return tutorScheduleIndex.getSchedulesOf(tutorId);
+    }
+
+    /**
+     * Returns the schedules in the list on {@code date}, ordered by start time.
+     */
+    public List<Schedule> getSchedulesOn(LocalDate date) {
+        requireNonNull(date);
+        return dateScheduleIndex.getSchedulesOn(date);
+    }
+
+    /**
+     * Returns the schedules in the list from {@code startDate} to {@code endDate} (both inclusive), ordered by
+     * start time.
+     */
+    public List<Schedule> getSchedulesBetween(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return dateScheduleIndex.getSchedulesBetween(startDate, endDate);
     }
 
     /**
-     * Sorts the {@code internalList} of schedules based on {@link Schedule#compareTo(Schedule)} method.
+     * Reorders the list for {@code today}, moving only the schedules whose partition changes.
+     * Schedules which started before {@code today} but were upcoming are moved to the front of the past schedules,
+     * and schedules which start on or after {@code today} but were past are moved to the back of the upcoming
+     * schedules.
      */
-    public void sort() {
-        FXCollections.sort(internalList);
+    public void rollOver(LocalDate today) {
+        requireNonNull(today);
+        if (today.equals(pivotDate)) {
+            return;
+        }
+
+        LocalDate previousPivotDate = pivotDate;
+        pivotDate = today;
+        order = Schedule.orderedAround(pivotDate);
+
+        if (today.isAfter(previousPivotDate)) {
+            // The earliest upcoming schedules are now past, and later than every past schedule
+            int expiredCount = countWhile(0, upcomingCount, schedule -> !schedule.isOnOrAfter(today));
+            upcomingCount -= expiredCount;
+            moveReversed(0, expiredCount, upcomingCount);
+        } else {
+            // The latest past schedules are upcoming again, and earlier than every upcoming schedule
+            int renewedCount = countWhile(upcomingCount, internalList.size(), schedule -> schedule.isOnOrAfter(today));
+            int renewedStart = upcomingCount;
+            upcomingCount += renewedCount;
+            moveReversed(renewedStart, renewedStart + renewedCount, 0);
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Schedule> asUnmodifiableObservableList() {
-        sort();
         return internalUnmodifiableList;
     }
 
@@ -149,16 +308,230 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     }
 
     /**
-     * Returns true if {@code schedules} contains only unique schedules.
+     * Returns true if {@code schedule} belongs to the upcoming schedules at the front of {@code internalList}.
+     */
+    private boolean isUpcoming(Schedule schedule) {
+        return schedule.isOnOrAfter(pivotDate);
+    }
+
+    /**
+     * Inserts {@code schedule} into {@code internalList} after every schedule ordered before or together with it.
+     */
+    private void insert(Schedule schedule) {
+        int position = findInsertionPoint(schedule);
+        if (isUpcoming(schedule)) {
+            upcomingCount++;
+        }
+        internalList.add(position, schedule);
+    }
+
+    /**
+     * Inserts {@code orderedSchedules}, which are in order, into {@code internalList}, inserting each run of them
+     * that goes between the same two schedules of the list at once.
+     */
+    private void insertRuns(List<Schedule> orderedSchedules) {
+        int runStart = 0;
+        while (runStart < orderedSchedules.size()) {
+            Schedule first = orderedSchedules.get(runStart);
+            boolean isUpcoming = isUpcoming(first);
+            int position = findInsertionPoint(first);
+            int partitionEnd = isUpcoming ? upcomingCount : internalList.size();
+            int runEnd = runStart + 1;
+            while (runEnd < orderedSchedules.size() && isUpcoming(orderedSchedules.get(runEnd)) == isUpcoming
+                    && (position == partitionEnd
+                        || order.compare(internalList.get(position), orderedSchedules.get(runEnd)) > 0)) {
+                runEnd++;
+            }
+
+            if (isUpcoming) {
+                upcomingCount += runEnd - runStart;
+            }
+            internalList.addAll(position, orderedSchedules.subList(runStart, runEnd));
+            runStart = runEnd;
+        }
+    }
+
+    /**
+     * Returns the position in {@code internalList} after every schedule ordered before or together with
+     * {@code schedule}, within the partition {@code schedule} belongs to.
+     */
+    private int findInsertionPoint(Schedule schedule) {
+        boolean isUpcoming = isUpcoming(schedule);
+        int low = isUpcoming ? 0 : upcomingCount;
+        int high = isUpcoming ? upcomingCount : internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(internalList.get(mid), schedule) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Removes the schedule at {@code index} from {@code internalList}.
+     */
+    private void removeAt(int index) {
+        if (index < upcomingCount) {
+            upcomingCount--;
+        }
+        internalList.remove(index);
+    }
+
+    /**
+     * Returns the position of the schedule equal to {@code schedule} in {@code internalList}, or -1 if there is none.
+     * Only the schedules ordered together with {@code schedule} are compared for equality.
+     */
+    private int indexOf(Schedule schedule) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(internalList.get(mid), schedule) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        for (int i = low; i < internalList.size() && order.compare(internalList.get(i), schedule) == 0; i++) {
+            if (internalList.get(i).equals(schedule)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if {@code schedule} can replace the schedule at {@code index} without breaking the order of
+     * {@code internalList}.
+     */
+    private boolean fitsAt(int index, Schedule schedule) {
+        return (index == 0 || order.compare(internalList.get(index - 1), schedule) <= 0)
+            && (index == internalList.size() - 1 || order.compare(schedule, internalList.get(index + 1)) <= 0);
+    }
+
+    /**
+     * Returns the number of schedules from {@code from} (inclusive) onwards, up to {@code to} (exclusive), which
+     * satisfy {@code condition}, given that the schedules satisfying it come before those which do not.
+     */
+    private int countWhile(int from, int to, Predicate<Schedule> condition) {
+        int low = from;
+        int high = to;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (condition.test(internalList.get(mid))) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - from;
+    }
+
+    /**
+     * Moves the schedules from {@code from} (inclusive) to {@code to} (exclusive) in {@code internalList} to
+     * {@code destination} in reverse order of start time, where {@code destination} is a position in the list after
+     * the move. Schedules with the same start time keep their relative order, as they would in a stable sort.
+     */
+    private void moveReversed(int from, int to, int destination) {
+        if (from == to) {
+            return;
+        }
+
+        List<Schedule> moved = new ArrayList<>(internalList.subList(from, to));
+        Collections.reverse(moved);
+        int runStart = 0;
+        for (int i = 1; i <= moved.size(); i++) {
+            if (i == moved.size() || !moved.get(i).getStartTime().equals(moved.get(runStart).getStartTime())) {
+                Collections.reverse(moved.subList(runStart, i));
+                runStart = i;
+            }
+        }
+        internalList.remove(from, to);
+        internalList.addAll(destination, moved);
+    }
+
+    /**
+     * Adds {@code schedule} to the identities and indexes kept alongside {@code internalList}.
+     * This is done before {@code internalList} changes, so that its listeners see up to date indexes.
+     */
+    private void index(Schedule schedule) {
+        identities.add(new ScheduleIdentity(schedule));
+        tutorScheduleIndex.add(schedule);
+        dateScheduleIndex.add(schedule);
+    }
+
+    /**
+     * Removes {@code schedule} from the identities and indexes kept alongside {@code internalList}.
+     */
+    private void unindex(Schedule schedule) {
+        identities.remove(new ScheduleIdentity(schedule));
+        tutorScheduleIndex.remove(schedule);
+        dateScheduleIndex.remove(schedule);
+    }
+
+    /**
+     * Rebuilds {@code tutorScheduleIndex} and {@code dateScheduleIndex} to hold exactly {@code schedules}.
      */
-    private boolean schedulesAreUnique(List<Schedule> schedules) {
-        for (int i = 0; i < schedules.size() - 1; i++) {
-            for (int j = i + 1; j < schedules.size(); j++) {
-                if (schedules.get(i).isDuplicate(schedules.get(j))) {
-                    return false;
-                }
+    private void rebuildIndexes(List<Schedule> schedules) {
+        tutorScheduleIndex.clear();
+        dateScheduleIndex.clear();
+        for (Schedule schedule : schedules) {
+            tutorScheduleIndex.add(schedule);
+            dateScheduleIndex.add(schedule);
+        }
+    }
+
+    /**
+     * Returns the identities of {@code schedules}.
+     * The returned set is smaller than {@code schedules} if and only if {@code schedules} contains duplicates.
+     */
+    private static Set<ScheduleIdentity> toIdentities(List<Schedule> schedules) {
+        Set<ScheduleIdentity> scheduleIdentities = new HashSet<>();
+        for (Schedule schedule : schedules) {
+            scheduleIdentities.add(new ScheduleIdentity(schedule));
+        }
+        return scheduleIdentities;
+    }
+
+    /**
+     * The tutor id, start time and end time of a schedule, which two schedules share if and only if
+     * {@link Schedule#isDuplicate(Schedule)} holds between them.
+     */
+    private static final class ScheduleIdentity {
+        private final PersonId tutorId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        ScheduleIdentity(Schedule schedule) {
+            tutorId = schedule.getTutorId();
+            start = schedule.getStartTime().getTime();
+            end = schedule.getEndTime().getTime();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof ScheduleIdentity)) {
+                return false;
             }
+
+            ScheduleIdentity otherIdentity = (ScheduleIdentity) other;
+            return tutorId.equals(otherIdentity.tutorId)
+                && start.equals(otherIdentity.start)
+                && end.equals(otherIdentity.end);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tutorId, start, end);
         }
-        return true;
     }
 }
@@ -0,0 +1,17 @@
+package seedu.address.model.schedule.exceptions;
+
+import java.time.YearMonth;
+
+/**
+ * Signals that the operation would change the schedules of a month which could not be loaded from storage. Such a
+ * change would replace the stored schedules of the month with only the schedules that could be seen, losing the rest.
+ */
+public class SchedulesNotLoadedException extends RuntimeException {
+    /**
+     * Constructs an exception for the change to the schedules of {@code month}, which could not be loaded.
+     */
+    public SchedulesNotLoadedException(YearMonth month) {
+        super("The schedules of " + month + " could not be read from the data file, so no schedules in " + month
+                + " can be changed");
+    }
+}
@@ -0,0 +1,187 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+
+/**
+ * An {@code ObservableList} backed by an {@code ArrayList} whose changes can be batched.
+ * Every change made between {@link #beginBatch()} and the matching {@link #commitBatch()} is reported to listeners
+ * as a single {@code Change} when the batch is committed. Batches can be nested, in which case only the outermost
+ * commit notifies listeners.
+ *
+ * Bulk operations touch each element once, instead of shifting the backing list once per element.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Returns a list which holds the elements of {@code source}, in order, and follows every later change to it.
+     * The returned list is always up to date, but its listeners are only notified once a batch of it is committed.
+     */
+    public static <E> BatchObservableList<E> following(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        BatchObservableList<E> follower = new BatchObservableList<>();
+        follower.elements.addAll(source);
+        source.addListener((ListChangeListener<E>) follower::follow);
+        return follower;
+    }
+
+    /**
+     * Starts a batch. Listeners are not notified of changes until the batch is committed.
+     */
+    public void beginBatch() {
+        beginChange();
+    }
+
+    /**
+     * Commits the batch started by the matching {@link #beginBatch()}, notifying listeners of every change made during
+     * the batch at once if it is the outermost batch.
+     *
+     * @throws IllegalStateException if there is no batch to commit.
+     */
+    public void commitBatch() {
+        endChange();
+    }
+
+    /**
+     * Applies {@code change} of the followed list to this list, as a single change.
+     */
+    private void follow(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        try {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        set(i, change.getList().get(i));
+                    }
+                } else {
+                    removeRange(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                    addAll(change.getFrom(), change.getAddedSubList());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(replacement);
+            modCount++;
+            if (!removed.isEmpty() || !elements.isEmpty()) {
+                nextReplace(0, elements.size(), removed);
+            }
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        requireNonNull(toAdd);
+        if (index < 0 || index > elements.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + elements.size());
+        }
+        if (toAdd.isEmpty()) {
+            return false;
+        }
+
+        beginChange();
+        try {
+            elements.addAll(index, toAdd);
+            modCount++;
+            nextAdd(index, index + toAdd.size());
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> toAdd) {
+        return addAll(elements.size(), toAdd);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> toRemove) {
+        requireNonNull(toRemove);
+        beginChange();
+        try {
+            // Compacts the kept elements to the front, reporting each removal where it is after earlier removals
+            int keptCount = 0;
+            for (int i = 0; i < elements.size(); i++) {
+                E element = elements.get(i);
+                if (toRemove.contains(element)) {
+                    nextRemove(keptCount, element);
+                } else {
+                    elements.set(keptCount++, element);
+                }
+            }
+
+            if (keptCount == elements.size()) {
+                return false;
+            }
+            elements.subList(keptCount, elements.size()).clear();
+            modCount++;
+            return true;
+        } finally {
+            endChange();
+        }
+    }
+}
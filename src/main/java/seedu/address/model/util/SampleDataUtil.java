@@ -43,7 +43,7 @@ public class SampleDataUtil {
         Schedule[] schedules = new Schedule[persons.size()];
         int i = 0;
         for (Person person : persons.values()) {
-            schedules[i] = new Schedule(person,
+            schedules[i] = new Schedule(person.getId(),
                 new StartTime(LocalDateTime.of(2023, 1, 1 + i, 8 + (i * 2), 0, 0)),
                 new EndTime(LocalDateTime.of(2023, 1, 1 + i, 10 + (i * 2), 0, 0)));
             i++;
@@ -0,0 +1,462 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Serves the app over HTTP with JSON responses, so that other programs can look up and change its data:
+ * <ul>
+ *     <li>{@code GET /api/tutors} returns the tutors.</li>
+ *     <li>{@code GET /api/schedules} returns the schedules, ordered by start time.</li>
+ *     <li>{@code GET /api/calendar?date=uuuu-MM-dd} returns the schedules on the date, ordered by start time.</li>
+ *     <li>{@code POST /api/commands} executes the {@code command} in the request body, as if it was entered in the
+ *     app, and returns its result as {@code feedback}.</li>
+ * </ul>
+ * Errors are returned as {@code error}, with a 4xx or 5xx status.
+ *
+ * Only programs run by the user can use the server. Every request must have the {@link ApiToken} of the server, and be
+ * sent to {@code localhost} or {@code 127.0.0.1}, so that web pages the user visits cannot reach the server through
+ * the browser by pointing their own host names at the loopback address. Commands must be sent as
+ * {@code {"command": "..."}} in {@code application/json}, which browsers do not send to other sites without asking
+ * first. The commands which read or write files, {@code run} and {@code archive}, are refused unless allowed when the
+ * server is created.
+ *
+ * Reads are served by a pool of threads at once, from an {@link ApiSnapshot} of the address book. Commands are
+ * queued and executed one at a time by a single thread, as the model can only be used by one thread. Once the
+ * commands taken from the queue together have been executed, the snapshot is updated with their changes, before their
+ * results are returned. So a read made after a command returns sees the changes of that command.
+ * The command thread also rolls the schedules over at each midnight, before the commands of the new day.
+ */
+public class ApiServer {
+    public static final String TUTORS_PATH = "/api/tutors";
+    public static final String SCHEDULES_PATH = "/api/schedules";
+    public static final String CALENDAR_PATH = "/api/calendar";
+    public static final String COMMANDS_PATH = "/api/commands";
+
+    public static final String MESSAGE_NOT_FOUND = "There is nothing at %s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "Only %s requests are allowed at %s";
+    public static final String MESSAGE_INVALID_DATE = "The date should be given as ?date=yyyy-MM-dd";
+    public static final String MESSAGE_COMMAND_ERROR = "The command failed unexpectedly: %s";
+    public static final String MESSAGE_INVALID_HOST = "Requests must be sent to localhost or 127.0.0.1, not %s";
+    public static final String MESSAGE_UNAUTHORIZED =
+            "Requests must have the header Authorization: Bearer <token>, with the token of the server";
+    public static final String MESSAGE_UNSUPPORTED_CONTENT_TYPE = "Commands must be sent as application/json";
+    public static final String MESSAGE_INVALID_COMMAND_BODY =
+            "Commands must be sent as a JSON object, such as {\"command\": \"list-t\"}";
+    public static final String MESSAGE_FILE_COMMAND_NOT_ALLOWED =
+            "The %s command reads or writes files, so the server does not accept it unless file commands are allowed";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String GET = "GET";
+    private static final String POST = "POST";
+    private static final String DATE_PARAMETER = "date=";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    private static final List<String> LOOPBACK_HOSTS = List.of("localhost", "127.0.0.1");
+    /** Commands which read or write files, refused unless file commands are allowed. */
+    private static final List<String> FILE_COMMAND_WORDS = List.of(RunCommand.COMMAND_WORD,
+            ArchiveCommand.COMMAND_WORD);
+    /** Most commands executed before a snapshot is taken, so that reads do not wait long for a busy queue. */
+    private static final int MAX_COMMANDS_PER_SNAPSHOT = 256;
+    /** Queued to stop the command thread once the commands queued before it are executed. */
+    private static final PendingCommand STOP = new PendingCommand("");
+
+    static {
+        // Responses are written as headers then body, so without this the body waits for the client to acknowledge
+        // the headers, which clients delay by up to tens of milliseconds. Read when the first server is created.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final Logic logic;
+    private final ApiToken token;
+    private final boolean areFileCommandsAllowed;
+    private final Clock clock;
+    private final BlockingQueue<PendingCommand> pendingCommands = new LinkedBlockingQueue<>();
+    private final Thread commandThread = new Thread(this::executeCommands, "api-commands");
+    // The changes to the address book since the last snapshot, only used by the command thread once started
+    private final List<ApiSnapshot.ScheduleChange> scheduleChanges = new ArrayList<>();
+    private final InvalidationListener personListListener = unused -> arePersonsChanged = true;
+    private final ListChangeListener<Schedule> scheduleListListener =
+            change -> scheduleChanges.add(ApiSnapshot.ScheduleChange.of(change));
+    private boolean arePersonsChanged;
+    private LocalDate rolledOverDate;
+    private volatile ApiSnapshot snapshot;
+    private ExecutorService requestExecutor;
+    private HttpServer httpServer;
+
+    /**
+     * Creates a server which executes commands with {@code logic}, and serves reads from snapshots of its address
+     * book. Every schedule must be loaded into the address book, as schedules left in storage are not served.
+     * Once the server is started, {@code logic} must not be used by anything else.
+     *
+     * @param token The token which every request must have.
+     * @param areFileCommandsAllowed Whether the commands which read or write files are executed, rather than refused.
+     */
+    public ApiServer(Logic logic, ApiToken token, boolean areFileCommandsAllowed) {
+        this(logic, token, areFileCommandsAllowed, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a server as with {@link #ApiServer(Logic, ApiToken, boolean)}, which rolls the schedules over when
+     * {@code clock} reaches another day.
+     */
+    ApiServer(Logic logic, ApiToken token, boolean areFileCommandsAllowed, Clock clock) {
+        requireAllNonNull(logic, token, clock);
+        this.logic = logic;
+        this.token = token;
+        this.areFileCommandsAllowed = areFileCommandsAllowed;
+        this.clock = clock;
+        rolledOverDate = LocalDate.now(clock);
+        ReadOnlyAddressBook addressBook = logic.getAddressBook();
+        snapshot = new ApiSnapshot(addressBook);
+        addressBook.getPersonList().addListener(personListListener);
+        addressBook.getScheduleList().addListener(scheduleListListener);
+    }
+
+    /**
+     * Starts serving requests at {@code address}. A server can only be started once.
+     *
+     * @throws IOException if the server could not listen at {@code address}.
+     */
+    public void start(InetSocketAddress address) throws IOException {
+        requireNonNull(address);
+        httpServer = HttpServer.create(address, 0);
+        httpServer.createContext(TUTORS_PATH, exchange -> handleRead(exchange, ApiSnapshot::getTutorsJson));
+        httpServer.createContext(SCHEDULES_PATH, exchange -> handleRead(exchange, ApiSnapshot::getSchedulesJson));
+        httpServer.createContext(CALENDAR_PATH, this::handleCalendar);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommand);
+        requestExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        httpServer.setExecutor(requestExecutor);
+
+        commandThread.start();
+        httpServer.start();
+        logger.info("Serving the API at " + httpServer.getAddress());
+    }
+
+    /**
+     * Returns the address the server is listening at, which has the port chosen by the system if the server was
+     * started at port 0.
+     */
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Stops serving requests, and waits until the commands already queued are executed.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        pendingCommands.add(STOP);
+        try {
+            commandThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        requestExecutor.shutdown();
+
+        ReadOnlyAddressBook addressBook = logic.getAddressBook();
+        addressBook.getPersonList().removeListener(personListListener);
+        addressBook.getScheduleList().removeListener(scheduleListListener);
+        logger.info("Stopped serving the API");
+    }
+
+    /**
+     * Runs on the command thread, executing the queued commands in order until the server is stopped.
+     * While there are no commands, the thread waits until the next midnight at most, so that the schedules are rolled
+     * over then.
+     */
+    private void executeCommands() {
+        List<PendingCommand> commands = new ArrayList<>();
+        boolean isStopping = false;
+        while (!isStopping) {
+            try {
+                PendingCommand command = pendingCommands.poll(getMillisToNextDay(), TimeUnit.MILLISECONDS);
+                if (command != null) {
+                    commands.add(command);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+            pendingCommands.drainTo(commands, MAX_COMMANDS_PER_SNAPSHOT - 1);
+
+            int stopIndex = commands.indexOf(STOP);
+            if (stopIndex >= 0) {
+                isStopping = true;
+                commands.subList(stopIndex, commands.size()).clear();
+            }
+            rollOverIfNewDay();
+            for (PendingCommand command : commands) {
+                command.execute(logic);
+            }
+
+            if (arePersonsChanged || !scheduleChanges.isEmpty()) {
+                snapshot = snapshot.update(logic.getAddressBook(), arePersonsChanged, scheduleChanges);
+                arePersonsChanged = false;
+                scheduleChanges.clear();
+            }
+            // Results are only returned after the snapshot is taken, so that they are never newer than the reads
+            commands.forEach(PendingCommand::complete);
+            commands.clear();
+        }
+    }
+
+    /**
+     * Returns the milliseconds from now until just after the next midnight of the clock.
+     */
+    private long getMillisToNextDay() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return ChronoUnit.MILLIS.between(now, now.toLocalDate().plusDays(1).atStartOfDay()) + 1;
+    }
+
+    /**
+     * Rolls the schedules over if the clock has reached another day since they were last rolled over.
+     */
+    private void rollOverIfNewDay() {
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(rolledOverDate)) {
+            logger.fine("Rolling schedules over to " + today);
+            logic.rollOverSchedules(today);
+            rolledOverDate = today;
+        }
+    }
+
+    private void handleRead(HttpExchange exchange, Function<ApiSnapshot, byte[]> reader) throws IOException {
+        if (isValidRequest(exchange, GET)) {
+            sendJson(exchange, HttpURLConnection.HTTP_OK, reader.apply(snapshot));
+        }
+    }
+
+    private void handleCalendar(HttpExchange exchange) throws IOException {
+        if (!isValidRequest(exchange, GET)) {
+            return;
+        }
+
+        LocalDate date = parseDateParameter(exchange.getRequestURI().getRawQuery());
+        if (date == null) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_DATE);
+            return;
+        }
+        sendJson(exchange, HttpURLConnection.HTTP_OK, snapshot.getCalendarJson(date));
+    }
+
+    /**
+     * Returns the date given as the {@code date} parameter in {@code query}, or null if there is no valid date.
+     */
+    private static LocalDate parseDateParameter(String query) {
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(DATE_PARAMETER)) {
+                return DateTimeUtil.parseDate(parameter.substring(DATE_PARAMETER.length()));
+            }
+        }
+        return null;
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        if (!isValidRequest(exchange, POST)) {
+            return;
+        }
+        if (!isJson(exchange.getRequestHeaders().getFirst("Content-Type"))) {
+            sendError(exchange, HttpURLConnection.HTTP_UNSUPPORTED_TYPE, MESSAGE_UNSUPPORTED_CONTENT_TYPE);
+            return;
+        }
+
+        String commandText = parseCommandText(exchange.getRequestBody().readAllBytes());
+        if (commandText == null) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_COMMAND_BODY);
+            return;
+        }
+        String commandWord = commandText.split("\\s", 2)[0];
+        if (!areFileCommandsAllowed && FILE_COMMAND_WORDS.contains(commandWord)) {
+            sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN,
+                    String.format(MESSAGE_FILE_COMMAND_NOT_ALLOWED, commandWord));
+            return;
+        }
+
+        PendingCommand command = new PendingCommand(commandText);
+        // The response is sent once the command is executed, without holding up a thread while it is queued
+        command.result.whenCompleteAsync((commandResult, error) -> sendCommandResult(exchange, commandResult, error),
+                requestExecutor);
+        pendingCommands.add(command);
+    }
+
+    /**
+     * Returns true if {@code contentType}, the value of a {@code Content-Type} header, is JSON in any charset.
+     */
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int parametersIndex = contentType.indexOf(';');
+        String mediaType = parametersIndex >= 0 ? contentType.substring(0, parametersIndex) : contentType;
+        return mediaType.trim().equalsIgnoreCase(JSON_MEDIA_TYPE);
+    }
+
+    /**
+     * Returns the trimmed command text in {@code body}, a {@code {"command": "..."}} JSON object, or null if
+     * {@code body} has no command text.
+     */
+    private static String parseCommandText(byte[] body) {
+        try {
+            JsonApiCommand command =
+                    JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), JsonApiCommand.class);
+            return command == null || command.getCommand() == null ? null : command.getCommand().trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void sendCommandResult(HttpExchange exchange, CommandResult commandResult, Throwable error) {
+        try {
+            if (error == null) {
+                sendJson(exchange, HttpURLConnection.HTTP_OK,
+                        ApiSnapshot.toJson(Map.of("feedback", commandResult.getFeedbackToUser())));
+            } else if (error instanceof CommandException || error instanceof ParseException) {
+                sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, error.getMessage());
+            } else {
+                sendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR,
+                        String.format(MESSAGE_COMMAND_ERROR, error.getMessage()));
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to send the result of a command: " + StringUtil.getDetails(e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if {@code exchange} is a request to a loopback host name with the token of the server, and with
+     * {@code method} for the exact path of its endpoint. Otherwise, sends the error and returns false.
+     */
+    private boolean isValidRequest(HttpExchange exchange, String method) throws IOException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (!isLoopbackHost(host)) {
+            sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN, String.format(MESSAGE_INVALID_HOST, host));
+            return false;
+        }
+        if (!token.isAuthorization(exchange.getRequestHeaders().getFirst("Authorization"))) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            sendError(exchange, HttpURLConnection.HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+            return false;
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals(exchange.getHttpContext().getPath())) {
+            sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            return false;
+        }
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, method, path));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, is a loopback host name with any port.
+     */
+    private static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int portIndex = host.lastIndexOf(':');
+        String hostName = portIndex >= 0 ? host.substring(0, portIndex) : host;
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, ApiSnapshot.toJson(Map.of("error", message)));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] json) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, json.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(json);
+        }
+    }
+
+    /**
+     * A command waiting in the queue, with its result once it is executed.
+     */
+    private static class PendingCommand {
+        private final String commandText;
+        private final CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        private CommandResult commandResult;
+        private Exception error;
+
+        PendingCommand(String commandText) {
+            this.commandText = commandText;
+        }
+
+        /**
+         * Executes the command with {@code logic}, keeping its result or error until {@link #complete()}.
+         */
+        void execute(Logic logic) {
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                // A bug in one command should not stop the server from executing the others
+                logger.warning("Command " + commandText + " failed unexpectedly: " + StringUtil.getDetails(e));
+                error = e;
+            }
+        }
+
+        /**
+         * Returns the result or error of the executed command to the client.
+         */
+        void complete() {
+            if (error == null) {
+                result.complete(commandResult);
+            } else {
+                result.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The persons and schedules of an address book at one moment, which the API serves its reads from.
+ * A snapshot never changes, so any number of threads read it at once while the address book itself is only changed by
+ * the thread executing commands.
+ *
+ * The schedules are kept by date, and the JSON of each date is written when it is first read. When the address book
+ * changes, the next snapshot reuses the dates, and their JSON, which the changes left as they were. So a change only
+ * costs as much as the dates it changed, rather than the whole address book.
+ */
+class ApiSnapshot {
+    private static final byte[] EMPTY_LIST_JSON = toJson(List.of());
+    private static final Comparator<Schedule> START_TIME_ORDER = Comparator.comparing(Schedule::getStartTime);
+
+    private final List<Person> persons;
+    private final Map<PersonId, Person> personsById = new HashMap<>();
+    /** Schedules by date, ordered by start time. Neither the map nor the lists are changed once constructed. */
+    private final NavigableMap<LocalDate, List<Schedule>> schedulesByDate;
+
+    private final Map<LocalDate, byte[]> calendarJsonByDate;
+    // Two threads may write the same JSON at once, which is harmless as they write the same bytes
+    private volatile byte[] tutorsJson;
+    private volatile byte[] schedulesJson;
+
+    /**
+     * Takes a snapshot of {@code addressBook}, which must not change while the snapshot is taken.
+     */
+    ApiSnapshot(ReadOnlyAddressBook addressBook) {
+        this(new ArrayList<>(addressBook.getPersonList()), groupByDate(addressBook.getScheduleList()),
+                new ConcurrentHashMap<>(), null);
+    }
+
+    private ApiSnapshot(List<Person> persons, NavigableMap<LocalDate, List<Schedule>> schedulesByDate,
+            Map<LocalDate, byte[]> calendarJsonByDate, byte[] tutorsJson) {
+        this.persons = persons;
+        for (Person person : persons) {
+            personsById.put(person.getId(), person);
+        }
+        this.schedulesByDate = schedulesByDate;
+        this.calendarJsonByDate = calendarJsonByDate;
+        this.tutorsJson = tutorsJson;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, which is the address book of this snapshot changed by
+     * {@code scheduleChanges}, in order, and possibly by changes to its persons. Only the persons, if
+     * {@code arePersonsChanged}, and the dates of the changed schedules are taken again.
+     * {@code addressBook} must not change while the snapshot is taken.
+     */
+    ApiSnapshot update(ReadOnlyAddressBook addressBook, boolean arePersonsChanged,
+            List<ScheduleChange> scheduleChanges) {
+        requireAllNonNull(addressBook, scheduleChanges);
+        List<Person> updatedPersons = arePersonsChanged ? new ArrayList<>(addressBook.getPersonList()) : persons;
+        // The JSON of every schedule has the name of its tutor, which may have changed
+        Map<LocalDate, byte[]> updatedCalendarJsonByDate =
+                arePersonsChanged ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(calendarJsonByDate);
+        byte[] updatedTutorsJson = arePersonsChanged ? null : tutorsJson;
+
+        Map<LocalDate, List<Schedule>> changedDates = new HashMap<>();
+        for (ScheduleChange change : scheduleChanges) {
+            for (Schedule removed : change.removed) {
+                getSchedulesToChange(getDate(removed), changedDates).remove(removed);
+            }
+            for (Schedule added : change.added) {
+                getSchedulesToChange(getDate(added), changedDates).add(added);
+            }
+        }
+
+        NavigableMap<LocalDate, List<Schedule>> updatedSchedulesByDate = new TreeMap<>(schedulesByDate);
+        for (Map.Entry<LocalDate, List<Schedule>> entry : changedDates.entrySet()) {
+            List<Schedule> schedulesOnDate = entry.getValue();
+            if (schedulesOnDate.isEmpty()) {
+                updatedSchedulesByDate.remove(entry.getKey());
+            } else {
+                schedulesOnDate.sort(START_TIME_ORDER);
+                updatedSchedulesByDate.put(entry.getKey(), schedulesOnDate);
+            }
+            updatedCalendarJsonByDate.remove(entry.getKey());
+        }
+        return new ApiSnapshot(updatedPersons, updatedSchedulesByDate, updatedCalendarJsonByDate, updatedTutorsJson);
+    }
+
+    /**
+     * Returns the schedules on {@code date} in {@code changedDates}, which start as a copy of the schedules on
+     * {@code date} in this snapshot.
+     */
+    private List<Schedule> getSchedulesToChange(LocalDate date, Map<LocalDate, List<Schedule>> changedDates) {
+        return changedDates.computeIfAbsent(date, unused -> new ArrayList<>(schedulesByDate.getOrDefault(date,
+                List.of())));
+    }
+
+    private static NavigableMap<LocalDate, List<Schedule>> groupByDate(Collection<Schedule> schedules) {
+        NavigableMap<LocalDate, List<Schedule>> schedulesByDate = new TreeMap<>();
+        for (Schedule schedule : schedules) {
+            schedulesByDate.computeIfAbsent(getDate(schedule), unused -> new ArrayList<>()).add(schedule);
+        }
+        for (List<Schedule> schedulesOnDate : schedulesByDate.values()) {
+            schedulesOnDate.sort(START_TIME_ORDER);
+        }
+        return schedulesByDate;
+    }
+
+    private static LocalDate getDate(Schedule schedule) {
+        return schedule.getStartTime().getTime().toLocalDate();
+    }
+
+    /**
+     * Returns the JSON list of the tutors, in the order of the address book.
+     */
+    byte[] getTutorsJson() {
+        byte[] json = tutorsJson;
+        if (json == null) {
+            List<JsonApiPerson> tutors = new ArrayList<>(persons.size());
+            for (Person person : persons) {
+                tutors.add(new JsonApiPerson(person));
+            }
+            json = toJson(tutors);
+            tutorsJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * Returns the JSON list of the schedules, ordered by start time.
+     */
+    byte[] getSchedulesJson() {
+        byte[] json = schedulesJson;
+        if (json == null) {
+            // Joins the JSON lists of every date, without their brackets, into one list
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write('[');
+            for (LocalDate date : schedulesByDate.keySet()) {
+                byte[] calendarJson = getCalendarJson(date);
+                if (out.size() > 1) {
+                    out.write(',');
+                }
+                out.write(calendarJson, 1, calendarJson.length - 2);
+            }
+            out.write(']');
+            json = out.toByteArray();
+            schedulesJson = json;
+        }
+        return json;
+    }
+
+    /**
+     * Returns the JSON list of the schedules on {@code date}, ordered by start time.
+     */
+    byte[] getCalendarJson(LocalDate date) {
+        requireNonNull(date);
+        List<Schedule> schedulesOnDate = schedulesByDate.get(date);
+        if (schedulesOnDate == null) {
+            return EMPTY_LIST_JSON;
+        }
+        return calendarJsonByDate.computeIfAbsent(date, unused -> {
+            List<JsonApiSchedule> jsonApiSchedules = new ArrayList<>(schedulesOnDate.size());
+            for (Schedule schedule : schedulesOnDate) {
+                jsonApiSchedules.add(new JsonApiSchedule(schedule, personsById.get(schedule.getTutorId())));
+            }
+            return toJson(jsonApiSchedules);
+        });
+    }
+
+    /**
+     * Returns {@code instance} written as compact JSON in UTF-8.
+     */
+    static byte[] toJson(Object instance) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            JsonUtil.writeJson(instance, out, true);
+        } catch (IOException e) {
+            // Nothing is read or written outside memory, so this only fails if instance cannot be written as JSON
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * A change to the schedule list of an address book: {@code removed} were removed from it, then {@code added}
+     * were added to it.
+     */
+    static class ScheduleChange {
+        private final List<Schedule> removed;
+        private final List<Schedule> added;
+
+        private ScheduleChange(List<Schedule> removed, List<Schedule> added) {
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the change to the schedule list reported by {@code change}.
+         * The schedules removed by any part of {@code change} are removed before the schedules added by any part of
+         * it, as the parts together describe how the list changed, and a schedule moved elsewhere is in both.
+         */
+        static ScheduleChange of(ListChangeListener.Change<? extends Schedule> change) {
+            requireNonNull(change);
+            List<Schedule> removed = new ArrayList<>();
+            List<Schedule> added = new ArrayList<>();
+            while (change.next()) {
+                // Reordering the list changes no schedule
+                if (!change.wasPermutated()) {
+                    removed.addAll(change.getRemoved());
+                    added.addAll(change.getAddedSubList());
+                }
+            }
+            return new ScheduleChange(removed, added);
+        }
+    }
+}
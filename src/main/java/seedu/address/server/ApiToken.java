@@ -0,0 +1,76 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Set;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A secret which clients of an {@link ApiServer} send with every request, as {@code Authorization: Bearer <token>}.
+ * A new token is made each time the server is started, and written to a file which only the user can read, so only
+ * programs run by the user can send requests.
+ */
+public class ApiToken {
+    private static final int TOKEN_BYTES = 32;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+    private static final SecureRandom random = new SecureRandom();
+
+    private final String value;
+
+    private ApiToken(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns a new random token.
+     */
+    public static ApiToken generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return new ApiToken(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns true if {@code authorization}, the value of an {@code Authorization} header, is this token.
+     * The comparison takes as long wherever the values differ, so that the token cannot be guessed from it.
+     */
+    public boolean isAuthorization(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        return MessageDigest.isEqual(value.getBytes(StandardCharsets.UTF_8),
+                authorization.substring(BEARER_PREFIX.length()).trim().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the token to {@code file}, replacing the file if it exists. Where the file system has POSIX permissions,
+     * the file is created readable and writable only by the user, before the token is written to it. Elsewhere, such
+     * as on Windows, the file has the permissions it inherits from its folder.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(file);
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        }
+        FileUtil.writeToFile(file, value);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.server;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of a command, as it is sent to the API.
+ */
+class JsonApiCommand {
+
+    private final String command;
+
+    /**
+     * Constructs a {@code JsonApiCommand} with the given command text.
+     */
+    @JsonCreator
+    JsonApiCommand(@JsonProperty("command") String command) {
+        this.command = command;
+    }
+
+    /**
+     * Returns the command text, or null if the command was not given.
+     */
+    String getCommand() {
+        return command;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.server;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly view of a {@link Person}, as it is returned by the API.
+ */
+class JsonApiPerson {
+
+    private final String id;
+    private final String name;
+    private final String phone;
+    private final String email;
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     */
+    JsonApiPerson(Person source) {
+        id = source.getId().value;
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+    }
+}
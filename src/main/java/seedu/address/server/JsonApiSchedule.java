@@ -0,0 +1,28 @@
+package seedu.address.server;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Jackson-friendly view of a {@link Schedule}, with the name of its tutor, as it is returned by the API.
+ */
+class JsonApiSchedule {
+
+    private final String tutorId;
+    private final String tutorName;
+    private final String startTime;
+    private final String endTime;
+    private final String status;
+
+    /**
+     * Converts a given {@code Schedule} of {@code tutor} into this class for Jackson use.
+     */
+    JsonApiSchedule(Schedule source, Person tutor) {
+        tutorId = source.getTutorId().value;
+        tutorName = tutor.getName().fullName;
+        startTime = DateTimeUtil.formatDateTime(source.getStartTime().getTime());
+        endTime = DateTimeUtil.formatDateTime(source.getEndTime().getTime());
+        status = source.getStatus().name();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Builds the {@code AddressBook} read from a data file, checking it the same way as adding its persons and then its
+ * schedules to an address book one at a time would, with the same messages.
+ *
+ * Instead of checking every schedule against the schedules added before it and inserting it into the sorted schedule
+ * list, the schedules of each tutor are sorted once and swept for duplicates and clashes, and all the schedules are
+ * then added to the address book together. Only if the sweep finds a duplicate or clash are the schedules added one
+ * at a time, to find the first one that cannot be added.
+ */
+class AddressBookLoader {
+
+    private static final Comparator<Schedule> BY_START_TIME =
+            Comparator.comparing(schedule -> schedule.getStartTime().getTime());
+
+    private final AddressBook addressBook = new AddressBook();
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    /**
+     * Adds {@code person} to the address book.
+     *
+     * @throws IllegalValueException if the same person was added before.
+     */
+    public void addPerson(Person person) throws IllegalValueException {
+        JsonSerializableAddressBook.addPerson(addressBook, person);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedSchedule}, whose tutor is one of the persons added so far, and adds it to the
+     * address book.
+     *
+     * @throws IllegalValueException if the schedule cannot be converted, or if the schedules added before it have
+     *     a duplicate or clash, which would have been found before this schedule when adding them one at a time.
+     */
+    public void addSchedule(JsonAdaptedSchedule jsonAdaptedSchedule) throws IllegalValueException {
+        Schedule schedule;
+        try {
+            schedule = jsonAdaptedSchedule.toModelType(addressBook);
+        } catch (IllegalValueException ive) {
+            checkSchedules();
+            throw ive;
+        }
+        schedules.add(schedule);
+    }
+
+    /**
+     * Adds {@code schedule}, whose tutor is one of the persons added so far, to the address book.
+     */
+    public void addSchedule(Schedule schedule) {
+        schedules.add(schedule);
+    }
+
+    /**
+     * Checks the schedules added so far for duplicates and clashes.
+     *
+     * @throws IllegalValueException if a schedule is a duplicate of, or clashes with, a schedule added before it.
+     */
+    public void checkSchedules() throws IllegalValueException {
+        if (!hasDuplicatesOrClashes()) {
+            return;
+        }
+
+        AddressBook oneAtATime = new AddressBook();
+        for (Schedule schedule : schedules) {
+            JsonSerializableAddressBook.addSchedule(oneAtATime, schedule);
+        }
+    }
+
+    /**
+     * Returns the address book with the persons and schedules added.
+     *
+     * @throws IllegalValueException if a schedule is a duplicate of, or clashes with, a schedule added before it.
+     */
+    public AddressBook build() throws IllegalValueException {
+        checkSchedules();
+        addressBook.setSchedules(schedules);
+        return addressBook;
+    }
+
+    /**
+     * Returns true if two schedules added so far are duplicates or clash.
+     * Since duplicate schedules have the same tutor and times, they clash too.
+     */
+    private boolean hasDuplicatesOrClashes() {
+        Map<PersonId, List<Schedule>> schedulesByTutor = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            schedulesByTutor.computeIfAbsent(schedule.getTutorId(), unused -> new ArrayList<>()).add(schedule);
+        }
+
+        for (List<Schedule> tutorSchedules : schedulesByTutor.values()) {
+            tutorSchedules.sort(BY_START_TIME);
+            LocalDateTime latestEnd = LocalDateTime.MIN;
+            for (Schedule schedule : tutorSchedules) {
+                if (schedule.getStartTime().getTime().isBefore(latestEnd)) {
+                    return true;
+                }
+                if (schedule.getEndTime().getTime().isAfter(latestEnd)) {
+                    latestEnd = schedule.getEndTime().getTime();
+                }
+            }
+        }
+        return false;
+    }
+
+}
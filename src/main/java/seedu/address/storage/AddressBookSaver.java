@@ -0,0 +1,316 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread, so that callers never wait on disk.
+ * A snapshot of the address book is taken when a save is requested, and saves requested while an earlier save is being
+ * written are coalesced into a single save of the latest address book, with the changes of all of them.
+ *
+ * When only some sections of the address book changed, the snapshot shares the other sections with the snapshot of
+ * the previous save, so that a save only costs the caller as much as the sections it changed.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBookSaver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** The latest address book requested to be saved that is not being written yet. */
+    private final AtomicReference<PendingSave> pending = new AtomicReference<>();
+    /** The snapshot of the address book last requested to be saved with its changes, or null if there is none. */
+    private Snapshot lastSnapshot;
+    private volatile Consumer<IOException> failureHandler = exception -> {};
+
+    /**
+     * Creates an {@code AddressBookSaver} that saves address books to {@code storage}.
+     * {@code storage} must not be used by anything else while saves are being written.
+     */
+    public AddressBookSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is given the exception when a save fails.
+     * The handler is called on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved, without waiting for it to be written.
+     * Later changes to {@code addressBook} are not saved by this request.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // The months left in storage are not known, so the next save takes a snapshot of the whole address book too
+        lastSnapshot = null;
+        request(new PendingSave(Snapshot.of(addressBook, Collections.emptySet()), null));
+    }
+
+    /**
+     * Requests {@code addressBook} to be saved, without waiting for it to be written, where only {@code changes} were
+     * made to it since it was last requested to be saved.
+     * Later changes to {@code addressBook} are not saved by this request.
+     */
+    public synchronized void save(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        lastSnapshot = lastSnapshot == null
+                ? Snapshot.of(addressBook, changes.getUnloadedScheduleMonths())
+                : lastSnapshot.update(addressBook, changes);
+        request(new PendingSave(lastSnapshot, changes));
+    }
+
+    private void request(PendingSave save) {
+        // A write is only queued if there is none queued already, which will then write this address book instead
+        if (pending.getAndAccumulate(save, PendingSave::coalesce) == null) {
+            writer.execute(this::savePending);
+        }
+    }
+
+    private void savePending() {
+        PendingSave save = pending.getAndSet(null);
+        try {
+            if (save.changes == null) {
+                storage.saveAddressBook(save.addressBook);
+            } else {
+                storage.saveAddressBookChanges(save.addressBook, save.changes);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Waits until the address books requested to be saved before this are written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until the address books requested to be saved are written, and stops the background thread.
+     * No more saves can be requested afterwards.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * An address book requested to be saved, with the changes made since the previous save, or null if all of it has
+     * to be saved.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final AddressBookChanges changes;
+
+        PendingSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+            this.addressBook = addressBook;
+            this.changes = changes;
+        }
+
+        /**
+         * Returns the save of {@code later}'s address book, with the changes of both {@code earlier} and {@code later}.
+         */
+        static PendingSave coalesce(PendingSave earlier, PendingSave later) {
+            if (earlier == null) {
+                return later;
+            }
+            if (earlier.changes == null || later.changes == null) {
+                return new PendingSave(later.addressBook, null);
+            }
+            return new PendingSave(later.addressBook, earlier.changes.union(later.changes));
+        }
+    }
+
+    /**
+     * A copy of an address book, which does not change when the address book does.
+     * The schedules are kept by month, and neither the person list, the map nor the lists of schedules are changed
+     * once constructed, so a snapshot shares them with the snapshots updated from it.
+     *
+     * The lists and indexes that storages read are only made when they are first read, on the background thread.
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private static final Comparator<Schedule> START_TIME_ORDER = Comparator.comparing(Schedule::getStartTime);
+
+        private final List<Person> persons;
+        private final NavigableMap<YearMonth, List<Schedule>> schedulesByMonth;
+        private final int scheduleCount;
+        private final Set<YearMonth> unloadedMonths;
+
+        private ObservableList<Person> personList;
+        private Map<PersonId, Person> personsById;
+        private Map<Name, Person> personsByName;
+        private ObservableList<Schedule> scheduleList;
+
+        private Snapshot(List<Person> persons, NavigableMap<YearMonth, List<Schedule>> schedulesByMonth,
+                int scheduleCount, Set<YearMonth> unloadedMonths) {
+            this.persons = persons;
+            this.schedulesByMonth = schedulesByMonth;
+            this.scheduleCount = scheduleCount;
+            this.unloadedMonths = unloadedMonths;
+        }
+
+        /**
+         * Returns a snapshot of the whole of {@code addressBook}, whose schedules in {@code unloadedMonths} are still
+         * left in storage.
+         */
+        static Snapshot of(ReadOnlyAddressBook addressBook, Set<YearMonth> unloadedMonths) {
+            NavigableMap<YearMonth, List<Schedule>> schedulesByMonth = new TreeMap<>();
+            for (Schedule schedule : addressBook.getScheduleList()) {
+                schedulesByMonth.computeIfAbsent(AddressBookChanges.getMonthOf(schedule), unused -> new ArrayList<>())
+                        .add(schedule);
+            }
+            schedulesByMonth.replaceAll((month, schedules) -> {
+                schedules.sort(START_TIME_ORDER);
+                return Collections.unmodifiableList(schedules);
+            });
+            return new Snapshot(List.copyOf(addressBook.getPersonList()), schedulesByMonth,
+                    addressBook.getScheduleList().size(), unloadedMonths);
+        }
+
+        /**
+         * Returns a snapshot of {@code addressBook}, which is the address book of this snapshot with only
+         * {@code changes} made to it. Only the persons, if they changed, and the schedules of the changed months, and
+         * of the months loaded since, are taken again.
+         */
+        Snapshot update(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+            List<Person> updatedPersons = changes.arePersonsChanged()
+                    ? List.copyOf(addressBook.getPersonList())
+                    : persons;
+
+            // Loading the schedules of a month is not a change to save, but the snapshot must have them all the same
+            Set<YearMonth> monthsToTake = new HashSet<>(unloadedMonths);
+            monthsToTake.removeAll(changes.getUnloadedScheduleMonths());
+            monthsToTake.addAll(changes.getChangedScheduleMonths());
+            NavigableMap<YearMonth, List<Schedule>> updatedSchedulesByMonth = new TreeMap<>(schedulesByMonth);
+            int updatedScheduleCount = scheduleCount;
+            for (YearMonth month : monthsToTake) {
+                List<Schedule> schedules = List.copyOf(AddressBookChanges.getSchedulesIn(addressBook, month));
+                List<Schedule> oldSchedules = schedules.isEmpty()
+                        ? updatedSchedulesByMonth.remove(month)
+                        : updatedSchedulesByMonth.put(month, schedules);
+                updatedScheduleCount += schedules.size() - (oldSchedules == null ? 0 : oldSchedules.size());
+            }
+
+            if (updatedPersons.size() != addressBook.getPersonList().size()
+                    || updatedScheduleCount != addressBook.getScheduleList().size()) {
+                logger.warning("The changes to save left out some changes to the address book, so all of it is saved");
+                return of(addressBook, changes.getUnloadedScheduleMonths());
+            }
+            return new Snapshot(updatedPersons, updatedSchedulesByMonth, updatedScheduleCount,
+                    changes.getUnloadedScheduleMonths());
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            if (personList == null) {
+                personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            }
+            return personList;
+        }
+
+        @Override
+        public Optional<Person> getPerson(PersonId id) {
+            indexPersons();
+            return Optional.ofNullable(personsById.get(id));
+        }
+
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            indexPersons();
+            return Optional.ofNullable(personsByName.get(name));
+        }
+
+        @Override
+        public ObservableList<Schedule> getScheduleList() {
+            if (scheduleList == null) {
+                List<Schedule> schedules = new ArrayList<>(scheduleCount);
+                schedulesByMonth.values().forEach(schedules::addAll);
+                scheduleList = FXCollections.unmodifiableObservableList(FXCollections.observableList(schedules));
+            }
+            return scheduleList;
+        }
+
+        @Override
+        public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+            List<Schedule> schedules = new ArrayList<>();
+            for (List<Schedule> monthSchedules : schedulesByMonth.subMap(YearMonth.from(startDate.value), true,
+                    YearMonth.from(endDate.value), true).values()) {
+                for (Schedule schedule : monthSchedules) {
+                    LocalDate date = schedule.getStartTime().getTime().toLocalDate();
+                    if (!date.isBefore(startDate.value) && !date.isAfter(endDate.value)) {
+                        schedules.add(schedule);
+                    }
+                }
+            }
+            return schedules;
+        }
+
+        private void indexPersons() {
+            if (personsById != null) {
+                return;
+            }
+            personsById = new HashMap<>();
+            personsByName = new HashMap<>();
+            for (Person person : persons) {
+                personsById.put(person.getId(), person);
+                personsByName.put(person.getName(), person);
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.schedule.EndTime;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.StartTime;
+import seedu.address.model.schedule.Status;
+
+/**
+ * A class to access AddressBook data stored in a compact binary format on the hard disk.
+ * The file starts with {@link #MAGIC}, followed by the persons and then the schedules, each list prefixed by its
+ * length. A schedule refers to its tutor by the position of the tutor in the persons list, and its times are
+ * stored as minutes since the epoch.
+ *
+ * Files that do not start with {@link #MAGIC} are read as json files, so a json data file keeps loading after
+ * switching to this format, and is replaced by a binary file on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** Bytes that every binary data file starts with, which a json file cannot start with. */
+    public static final byte[] MAGIC = {(byte) 0x89, 'T', 'A', 'B', 1};
+
+    public static final String MESSAGE_INVALID_TUTOR = "Schedule refers to a tutor that does not exist.";
+    public static final String MESSAGE_INVALID_TIME = "Schedule has a time that is out of range.";
+    public static final String MESSAGE_INVALID_STATUS = "Schedule has an unknown status.";
+    public static final String MESSAGE_INVALID_LENGTH = "List length is negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} is a binary data file.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.readNBytes(start, 0, start.length) == start.length && Arrays.equals(start, MAGIC);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!isBinaryFile(filePath)) {
+                logger.info(filePath + " is not a binary data file, reading it as a json data file.");
+                return new JournalAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+                in.readFully(new byte[MAGIC.length]);
+                return Optional.of(readAddressBook(in));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the persons and schedules after the magic bytes of a binary data file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static AddressBook readAddressBook(DataInputStream in) throws IOException, IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+
+        int personCount = readLength(in);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in);
+            loader.addPerson(person);
+            persons.add(person);
+        }
+
+        int scheduleCount = readLength(in);
+        for (int i = 0; i < scheduleCount; i++) {
+            Schedule schedule;
+            try {
+                schedule = readSchedule(in, persons);
+            } catch (IllegalValueException ive) {
+                // Reports a duplicate or clash among the schedules before, as adding them one at a time would
+                loader.checkSchedules();
+                throw ive;
+            }
+            loader.addSchedule(schedule);
+        }
+        return loader.build();
+    }
+
+    private static Person readPerson(DataInputStream in) throws IOException, IllegalValueException {
+        PersonId id = new PersonId(new UUID(in.readLong(), in.readLong()).toString());
+
+        String name = in.readUTF();
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = in.readUTF();
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = in.readUTF();
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        return new Person(id, new Name(name), new Phone(phone), new Email(email));
+    }
+
+    private static Schedule readSchedule(DataInputStream in, List<Person> persons)
+            throws IOException, IllegalValueException {
+        int tutorIndex = in.readInt();
+        if (tutorIndex < 0 || tutorIndex >= persons.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_TUTOR);
+        }
+        StartTime startTime = new StartTime(fromEpochMinute(in.readLong()));
+        EndTime endTime = new EndTime(fromEpochMinute(in.readLong()));
+        if (!Schedule.isValidSchedule(startTime, endTime)) {
+            throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
+        }
+        int statusIndex = in.readUnsignedByte();
+        if (statusIndex >= Status.values().length) {
+            throw new IllegalValueException(MESSAGE_INVALID_STATUS);
+        }
+        return new Schedule(persons.get(tutorIndex).getId(), startTime, endTime, Status.values()[statusIndex]);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is only replaced once the whole address book is written, so it is left unchanged if writing fails.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.write(MAGIC);
+
+            List<Person> persons = addressBook.getPersonList();
+            Map<PersonId, Integer> tutorIndexes = new HashMap<>();
+            data.writeInt(persons.size());
+            for (Person person : persons) {
+                tutorIndexes.put(person.getId(), tutorIndexes.size());
+                writePerson(data, person);
+            }
+
+            List<Schedule> schedules = addressBook.getScheduleList();
+            data.writeInt(schedules.size());
+            for (Schedule schedule : schedules) {
+                data.writeInt(tutorIndexes.get(schedule.getTutorId()));
+                data.writeLong(toEpochMinute(schedule.getStartTime().getTime()));
+                data.writeLong(toEpochMinute(schedule.getEndTime().getTime()));
+                // Statuses are stored by their position, so new statuses must be added after the existing ones
+                data.writeByte(schedule.getStatus().ordinal());
+            }
+            data.flush();
+        });
+    }
+
+    private static void writePerson(DataOutputStream data, Person person) throws IOException {
+        UUID id = UUID.fromString(person.getId().value);
+        data.writeLong(id.getMostSignificantBits());
+        data.writeLong(id.getLeastSignificantBits());
+        data.writeUTF(person.getName().fullName);
+        data.writeUTF(person.getPhone().value);
+        data.writeUTF(person.getEmail().value);
+    }
+
+    private static long toEpochMinute(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+
+    private static LocalDateTime fromEpochMinute(long epochMinute) throws IllegalValueException {
+        try {
+            return LocalDateTime.ofEpochSecond(Math.multiplyExact(epochMinute, 60), 0, ZoneOffset.UTC);
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+    }
+
+}
@@ -0,0 +1,390 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot and a journal of the changes made since the snapshot.
+ * Each save appends the changes since the previous save to the journal as a single line, instead of rewriting the
+ * whole snapshot. The journal is compacted into a new snapshot once it grows larger than the snapshot.
+ *
+ * Every snapshot saved by this class has a new id, and the journal starts with a header naming the snapshot it
+ * belongs to, so a journal left behind by a compaction that did not finish is ignored. An entry that was not
+ * completely written is ignored too, so the data read back is always the data of a completed save.
+ *
+ * A data file saved by {@link BinaryAddressBookStorage} is read too, and replaced by a json snapshot on the next save.
+ * So is a snapshot with persons saved before persons had ids, as the changes to it would name its persons by ids
+ * which are only given to them when they are read.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    /** Size in bytes the journal may always grow to before it is compacted, however small the snapshot is. */
+    public static final long DEFAULT_MIN_COMPACTION_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String HEADER_FORMAT =
+            "{\"snapshotId\":\"%s\",\"snapshotSize\":%d,\"snapshotChecksum\":\"%08x\"}\n";
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final long minCompactionSize;
+
+    // The data in the snapshot and journal at savedFilePath, as of the last read or save
+    private Path savedFilePath;
+    private List<Person> savedPersons;
+    private Map<YearMonth, Set<Schedule>> savedSchedules;
+    private byte[] header;
+    private long snapshotSize;
+    /** Size in bytes of the complete entries in the journal, or 0 if the journal has to be started again. */
+    private long journalSize;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} that saves snapshots without indentation or line breaks if
+     * {@code isCompact} is true.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MIN_COMPACTION_SIZE);
+    }
+
+    /**
+     * Constructs a {@code JournalAddressBookStorage} that compacts the journal once it is larger than both the
+     * snapshot and {@code minCompactionSize} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompact, long minCompactionSize) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.minCompactionSize = minCompactionSize;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        try {
+            if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+                logger.info(filePath + " is a binary data file, reading it as one.");
+                savedFilePath = null;
+                return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+
+            CRC32 checksum = new CRC32();
+            long snapshotSize = Files.size(filePath);
+            JsonAddressBookReader reader = new JsonAddressBookReader(filePath);
+            AddressBook addressBook;
+            try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), checksum)) {
+                addressBook = reader.read(in);
+                // Anything after the address book is part of the snapshot too, as far as its checksum goes
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            byte[] snapshotHeader = toHeader(reader.getSnapshotId(), snapshotSize, checksum);
+            long replayedSize = replayJournal(journalFilePath, snapshotHeader, addressBook);
+
+            if (reader.hasPersonsWithoutIds()) {
+                // Entries name persons by id, and the persons are given other ids on the next read, so the next save
+                // has to write a snapshot with their ids
+                logger.info(filePath + " has persons without ids, which are saved in a new snapshot on the next save.");
+                savedFilePath = null;
+            } else {
+                remember(filePath, addressBook, snapshotHeader, snapshotSize, replayedSize);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + " or " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or " + journalFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the complete entries of the journal at {@code journalFilePath} to {@code addressBook}, if the journal
+     * starts with {@code snapshotHeader}.
+     *
+     * @return the size in bytes of the header and the complete entries applied, or 0 if the journal was ignored.
+     */
+    private static long replayJournal(Path journalFilePath, byte[] snapshotHeader, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        byte[] journal = Files.readAllBytes(journalFilePath);
+        if (!startsWith(journal, snapshotHeader)) {
+            logger.info("Ignoring " + journalFilePath + " as it was not started for the current snapshot.");
+            return 0;
+        }
+
+        int entryStart = snapshotHeader.length;
+        int entryEnd = indexOfLineEnd(journal, entryStart);
+        while (entryEnd != -1) {
+            String entry = new String(journal, entryStart, entryEnd - entryStart, UTF_8);
+            JsonUtil.fromJsonString(entry, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+            entryStart = entryEnd + 1;
+            entryEnd = indexOfLineEnd(journal, entryStart);
+        }
+
+        if (entryStart < journal.length) {
+            logger.warning("Ignoring incomplete entry at the end of " + journalFilePath + ".");
+        }
+        return entryStart;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the changes since the last read or save are written if they were read from or saved to {@code filePath}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(savedFilePath)) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        Map<YearMonth, Set<Schedule>> schedules = groupByMonth(addressBook.getScheduleList());
+        // The months which no longer have schedules are compared too
+        savedSchedules.keySet().forEach(month -> schedules.putIfAbsent(month, Collections.emptySet()));
+        saveChanges(addressBook, filePath, new ArrayList<>(addressBook.getPersonList()), schedules);
+    }
+
+    /**
+     * Saves {@code addressBook}, comparing only the persons, if they changed, and the schedules of the changed months
+     * with the data last read or saved, if that was at the file path of this storage.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (!filePath.equals(savedFilePath)) {
+            saveSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = changes.arePersonsChanged()
+                ? new ArrayList<>(addressBook.getPersonList())
+                : savedPersons;
+        Map<YearMonth, Set<Schedule>> schedules = new HashMap<>();
+        for (YearMonth month : changes.getChangedScheduleMonths()) {
+            schedules.put(month, new HashSet<>(AddressBookChanges.getSchedulesIn(addressBook, month)));
+        }
+        saveChanges(addressBook, filePath, persons, schedules);
+    }
+
+    /**
+     * Appends the changes from the data last read from or saved to {@code filePath} to {@code persons} and the
+     * schedules in {@code changedSchedules} to the journal, or saves {@code addressBook} as a new snapshot if the
+     * changes cannot be appended or the journal would grow too large. The schedules in the months left out of
+     * {@code changedSchedules} must be the schedules last read or saved.
+     */
+    private void saveChanges(ReadOnlyAddressBook addressBook, Path filePath, List<Person> persons,
+            Map<YearMonth, Set<Schedule>> changedSchedules) throws IOException {
+        Set<Schedule> oldSchedules = new HashSet<>();
+        Set<Schedule> newSchedules = new HashSet<>();
+        for (Map.Entry<YearMonth, Set<Schedule>> month : changedSchedules.entrySet()) {
+            oldSchedules.addAll(savedSchedules.getOrDefault(month.getKey(), Collections.emptySet()));
+            newSchedules.addAll(month.getValue());
+        }
+        Optional<JsonAdaptedJournalEntry> entry =
+                JsonAdaptedJournalEntry.between(savedPersons, oldSchedules, persons, newSchedules);
+
+        if (entry.isPresent() && entry.get().isEmpty()) {
+            return;
+        }
+
+        if (entry.isPresent()) {
+            byte[] line = (JsonUtil.toCompactJsonString(entry.get()) + "\n").getBytes(UTF_8);
+            if (journalSize + line.length <= Math.max(snapshotSize, minCompactionSize)) {
+                appendToJournal(line);
+                savedPersons = persons;
+                changedSchedules.forEach((month, schedules) -> {
+                    if (schedules.isEmpty()) {
+                        savedSchedules.remove(month);
+                    } else {
+                        savedSchedules.put(month, schedules);
+                    }
+                });
+                return;
+            }
+        }
+
+        saveSnapshot(addressBook, filePath);
+    }
+
+    /**
+     * Appends {@code line} to the journal of the snapshot last read or saved, starting the journal if needed.
+     * Anything after the complete entries of the journal, such as an entry that was not completely written, is
+     * overwritten.
+     */
+    private void appendToJournal(byte[] line) throws IOException {
+        ByteBuffer buffer = journalSize == 0
+                ? ByteBuffer.allocate(header.length + line.length).put(header).put(line).flip()
+                : ByteBuffer.wrap(line);
+
+        try (FileChannel channel = FileChannel.open(getJournalFilePath(savedFilePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            channel.truncate(journalSize);
+            long position = journalSize;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            channel.force(false);
+            journalSize = position;
+        }
+    }
+
+    /**
+     * Replaces the snapshot at {@code filePath} with {@code addressBook}, and deletes its journal.
+     * The snapshot is written to a temporary file first, so the old snapshot is kept if writing fails.
+     */
+    private void saveSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // The journal no longer matches the snapshot once it is replaced, so it must not be appended to until then
+        savedFilePath = null;
+
+        String snapshotId = UUID.randomUUID().toString();
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook, snapshotId);
+        CRC32 checksum = new CRC32();
+        FileUtil.writeToFileAtomically(filePath, out ->
+                JsonUtil.writeJson(snapshot, new CheckedOutputStream(out, checksum), isCompact));
+
+        // The journal is ignored when reading the new snapshot even if it cannot be deleted
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        long snapshotSize = Files.size(filePath);
+        remember(filePath, addressBook, toHeader(snapshotId, snapshotSize, checksum), snapshotSize, 0);
+    }
+
+    /**
+     * Remembers that the snapshot with {@code header} at {@code filePath} and its journal hold {@code addressBook}.
+     */
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook, byte[] header, long snapshotSize,
+            long journalSize) {
+        this.savedFilePath = filePath;
+        this.savedPersons = new ArrayList<>(addressBook.getPersonList());
+        this.savedSchedules = groupByMonth(addressBook.getScheduleList());
+        this.header = header;
+        this.snapshotSize = snapshotSize;
+        this.journalSize = journalSize;
+    }
+
+    /**
+     * Returns the header of the journal of the snapshot with the id {@code snapshotId}, which is
+     * {@code snapshotSize} bytes long and has the CRC-32 {@code checksum}.
+     * The checksum of the snapshot is in the header too, so a snapshot edited by hand does not get the journal of
+     * the snapshot it replaces.
+     */
+    private static byte[] toHeader(String snapshotId, long snapshotSize, CRC32 checksum) {
+        return String.format(HEADER_FORMAT, snapshotId, snapshotSize, checksum.getValue()).getBytes(UTF_8);
+    }
+
+    /**
+     * Returns {@code schedules} grouped by month.
+     */
+    private static Map<YearMonth, Set<Schedule>> groupByMonth(List<Schedule> schedules) {
+        Map<YearMonth, Set<Schedule>> schedulesByMonth = new HashMap<>();
+        for (Schedule schedule : schedules) {
+            schedulesByMonth.computeIfAbsent(AddressBookChanges.getMonthOf(schedule), unused -> new HashSet<>())
+                    .add(schedule);
+        }
+        return schedulesByMonth;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the index of the first line feed in {@code bytes} from {@code fromIndex}, or -1 if there is none.
+     */
+    private static int indexOfLineEnd(byte[] bytes, int fromIndex) {
+        for (int i = fromIndex; i < bytes.length; i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
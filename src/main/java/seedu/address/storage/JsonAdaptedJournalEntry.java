@@ -0,0 +1,172 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
+
+/**
+ * Jackson-friendly version of the changes made to an address book between two saves.
+ * Persons are referred to by their id, and schedules by their values.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_MISSING_PERSON = "Journal removes a person that does not exist.";
+    public static final String MESSAGE_MISSING_SCHEDULE = "Journal removes a schedule that does not exist.";
+
+    private final List<JsonAdaptedSchedule> removedSchedules = new ArrayList<>();
+    private final List<String> removedPersons = new ArrayList<>();
+    /** Persons that are added, or edited persons that replace the person with the same id. */
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedSchedule> addedSchedules = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removedSchedules") List<JsonAdaptedSchedule> removedSchedules,
+            @JsonProperty("removedPersons") List<String> removedPersons,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("addedSchedules") List<JsonAdaptedSchedule> addedSchedules) {
+        if (removedSchedules != null) {
+            this.removedSchedules.addAll(removedSchedules);
+        }
+        if (removedPersons != null) {
+            this.removedPersons.addAll(removedPersons);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (addedSchedules != null) {
+            this.addedSchedules.addAll(addedSchedules);
+        }
+    }
+
+    /**
+     * Returns the entry that turns an address book with {@code oldPersons} and {@code oldSchedules} into one with
+     * {@code newPersons} and {@code newSchedules}, or {@code Optional.empty()} if the new persons are not in the
+     * order that replaying the entry leaves them in.
+     * Replaying an entry keeps the remaining persons in their places and adds new persons to the end of the list.
+     */
+    public static Optional<JsonAdaptedJournalEntry> between(List<Person> oldPersons, Set<Schedule> oldSchedules,
+            List<Person> newPersons, Set<Schedule> newSchedules) {
+        Map<PersonId, Person> oldPersonsById = new HashMap<>();
+        oldPersons.forEach(person -> oldPersonsById.put(person.getId(), person));
+        Set<PersonId> newPersonIds = new HashSet<>();
+        newPersons.forEach(person -> newPersonIds.add(person.getId()));
+
+        List<String> removedPersons = new ArrayList<>();
+        List<PersonId> expectedOrder = new ArrayList<>(newPersons.size());
+        for (Person person : oldPersons) {
+            if (newPersonIds.contains(person.getId())) {
+                expectedOrder.add(person.getId());
+            } else {
+                removedPersons.add(person.getId().value);
+            }
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (Person person : newPersons) {
+            Person oldPerson = oldPersonsById.get(person.getId());
+            if (oldPerson == null) {
+                expectedOrder.add(person.getId());
+            }
+            if (!person.equals(oldPerson)) {
+                persons.add(new JsonAdaptedPerson(person));
+            }
+        }
+
+        for (int i = 0; i < newPersons.size(); i++) {
+            if (!newPersons.get(i).getId().equals(expectedOrder.get(i))) {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(new JsonAdaptedJournalEntry(toJsonAdaptedSchedules(oldSchedules, newSchedules),
+                removedPersons, persons, toJsonAdaptedSchedules(newSchedules, oldSchedules)));
+    }
+
+    /**
+     * Returns the schedules in {@code schedules} that are not in {@code excluded}.
+     */
+    private static List<JsonAdaptedSchedule> toJsonAdaptedSchedules(Collection<Schedule> schedules,
+            Set<Schedule> excluded) {
+        List<JsonAdaptedSchedule> jsonAdaptedSchedules = new ArrayList<>();
+        for (Schedule schedule : schedules) {
+            if (!excluded.contains(schedule)) {
+                jsonAdaptedSchedules.add(new JsonAdaptedSchedule(schedule));
+            }
+        }
+        return jsonAdaptedSchedules;
+    }
+
+    /**
+     * Returns true if this entry does not change the address book.
+     */
+    public boolean isEmpty() {
+        return removedSchedules.isEmpty() && removedPersons.isEmpty() && persons.isEmpty()
+                && addedSchedules.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or if the entry does not apply to
+     *     {@code addressBook}.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        for (JsonAdaptedSchedule jsonAdaptedSchedule : removedSchedules) {
+            try {
+                addressBook.removeSchedule(jsonAdaptedSchedule.toModelType(addressBook));
+            } catch (ScheduleNotFoundException e) {
+                throw new IllegalValueException(MESSAGE_MISSING_SCHEDULE);
+            }
+        }
+
+        for (String id : removedPersons) {
+            if (!PersonId.isValidPersonId(id)) {
+                throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
+            }
+            Person person = addressBook.getPerson(new PersonId(id))
+                    .orElseThrow(() -> new IllegalValueException(MESSAGE_MISSING_PERSON));
+            addressBook.removePerson(person);
+        }
+
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            Person person = jsonAdaptedPerson.toModelType();
+            Optional<Person> target = addressBook.getPerson(person.getId());
+            boolean isDuplicate = target.map(existing -> !existing.isSamePerson(person)).orElse(true)
+                    && addressBook.hasPerson(person);
+            if (isDuplicate) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+
+            if (target.isPresent()) {
+                addressBook.setPerson(target.get(), person);
+            } else {
+                addressBook.addPerson(person);
+            }
+        }
+
+        for (JsonAdaptedSchedule jsonAdaptedSchedule : addedSchedules) {
+            JsonSerializableAddressBook.addSchedule(addressBook, jsonAdaptedSchedule.toModelType(addressBook));
+        }
+    }
+
+}
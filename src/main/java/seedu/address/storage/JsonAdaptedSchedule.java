@@ -3,17 +3,18 @@ package seedu.address.storage;
 import static seedu.address.model.schedule.Time.DATETIME_INPUT_FORMAT;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.StartTime;
@@ -26,8 +27,10 @@ class JsonAdaptedSchedule {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Schedule's %s field is missing!";
     public static final String MISSING_TUTOR_MESSAGE_FORMAT = "Tutor not found!";
-    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_INPUT_FORMAT);
 
+    private final String tutorId;
+    /** Name of the tutor, which schedules saved before tutors had ids refer to their tutor by. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String name;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = DATETIME_INPUT_FORMAT)
     private final String startTime;
@@ -39,8 +42,10 @@ class JsonAdaptedSchedule {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedSchedule(@JsonProperty("name") String name, @JsonProperty("startTime") String startTime,
-        @JsonProperty("endTime") String endTime, @JsonProperty("status") String status) {
+    public JsonAdaptedSchedule(@JsonProperty("tutorId") String tutorId, @JsonProperty("name") String name,
+        @JsonProperty("startTime") String startTime, @JsonProperty("endTime") String endTime,
+        @JsonProperty("status") String status) {
+        this.tutorId = tutorId;
         this.name = name;
         this.startTime = startTime;
         this.endTime = endTime;
@@ -51,42 +56,55 @@ class JsonAdaptedSchedule {
      * Converts a given {@code Schedule} into this class for Jackson use.
      */
     public JsonAdaptedSchedule(Schedule source) {
-        name = source.getTutor().getName().fullName;
-        startTime = source.getStartTime().getTime().format(formatter);
-        endTime = source.getEndTime().getTime().format(formatter);
+        tutorId = source.getTutorId().value;
+        name = null;
+        startTime = DateTimeUtil.formatDateTime(source.getStartTime().getTime());
+        endTime = DateTimeUtil.formatDateTime(source.getEndTime().getTime());
         status = source.getStatus().toString();
     }
 
+    /**
+     * Returns true if this schedule refers to the tutor with {@code tutorId} by id, without converting it.
+     */
+    public boolean isOfTutor(PersonId tutorId) {
+        return tutorId.value.equals(this.tutorId);
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Schedule} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted schedule.
      */
     public Schedule toModelType(ReadOnlyAddressBook addressBook) throws IllegalValueException {
-        if (name == null) {
-            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        if (tutorId == null && name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                PersonId.class.getSimpleName()));
+        }
+        if (tutorId != null && !PersonId.isValidPersonId(tutorId)) {
+            throw new IllegalValueException(PersonId.MESSAGE_CONSTRAINTS);
         }
-        if (!Name.isValidName(name)) {
+        if (tutorId == null && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
 
         if (startTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                 StartTime.class.getSimpleName()));
         }
-        if (!StartTime.isValidStartTime(startTime)) {
+        final LocalDateTime parsedStartTime = DateTimeUtil.parseDateTime(startTime);
+        if (parsedStartTime == null) {
             throw new IllegalValueException(StartTime.MESSAGE_CONSTRAINTS);
         }
-        final StartTime modelStartTime = new StartTime(LocalDateTime.parse(startTime, formatter));
+        final StartTime modelStartTime = new StartTime(parsedStartTime);
 
         if (endTime == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, EndTime.class.getSimpleName()));
         }
-        if (!EndTime.isValidEndTime(endTime)) {
+        final LocalDateTime parsedEndTime = DateTimeUtil.parseDateTime(endTime);
+        if (parsedEndTime == null) {
             throw new IllegalValueException(EndTime.MESSAGE_CONSTRAINTS);
         }
-        final EndTime modelEndTime = new EndTime(LocalDateTime.parse(endTime, formatter));
+        final EndTime modelEndTime = new EndTime(parsedEndTime);
 
         if (status == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Status.class.getSimpleName()));
@@ -99,21 +117,24 @@ class JsonAdaptedSchedule {
             throw new IllegalValueException(Schedule.MESSAGE_CONSTRAINTS);
         }
 
-        final Person tutor = getTutorFromName(modelName, addressBook);
+        final Person tutor = tutorId != null
+            ? addressBook.getPerson(new PersonId(tutorId))
+                .orElseThrow(() -> new IllegalValueException(MISSING_TUTOR_MESSAGE_FORMAT))
+            : getTutorFromName(new Name(name), addressBook);
 
-        return new Schedule(tutor, modelStartTime, modelEndTime,
+        return new Schedule(tutor.getId(), modelStartTime, modelEndTime,
             Status.valueOf(status));
     }
 
     //@@author saltedfishxx
     /**
      * Helper method to find the tutor object given the name stored in json file.
+     * Only schedules saved before tutors had ids are looked up by name.
      *
      * @throws IllegalValueException if no matching names were found in the tutors list.
      */
     private Person getTutorFromName(Name name, ReadOnlyAddressBook addressBook) throws IllegalValueException {
-        ObservableList<Person> tutors = addressBook.getPersonList();
-        return tutors.stream().filter(o -> name.equals(o.getName())).findFirst()
+        return addressBook.getPerson(name)
             .orElseThrow(() -> new IllegalValueException(MISSING_TUTOR_MESSAGE_FORMAT));
     }
     //@@author
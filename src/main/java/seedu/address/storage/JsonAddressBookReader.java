@@ -0,0 +1,287 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Reads an address book saved as a {@link JsonSerializableAddressBook} one person or schedule at a time.
+ * Each person and schedule is converted into the model's object as soon as it is read, so neither the JSON text nor
+ * a list of all the Jackson-friendly persons and schedules is held in memory while reading.
+ *
+ * The schedules of an address book saved in sections by {@link JsonAddressBookStorage} are read from the schedule
+ * sections listed in the address book, after the address book itself. Sections of months which are not to be loaded
+ * are left unread, and can be read later by {@link #readScheduleSection(Path, YearMonth, ReadOnlyAddressBook)}.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Address book data is not a JSON object.";
+    public static final String MESSAGE_NOT_LIST_FORMAT = "Address book's %s field is not a list.";
+    public static final String MESSAGE_INVALID_SCHEDULE_MONTH = "Address book lists an invalid schedule month.";
+    public static final String MESSAGE_SECTIONS_NOT_FOUND =
+            "Address book's schedules are saved in separate files, which cannot be found without its file path.";
+    public static final String MESSAGE_SCHEDULE_IN_OTHER_MONTH = "Schedule section has a schedule in another month.";
+
+    /** Path of the address book being read, which its schedule sections are next to, or null if it is unknown. */
+    private final Path filePath;
+    private final Predicate<YearMonth> isLoadedMonth;
+    private final AddressBookLoader loader = new AddressBookLoader();
+    /** Schedules read before the persons, which cannot be converted until their tutors are read. */
+    private final List<JsonAdaptedSchedule> unconvertedSchedules = new ArrayList<>();
+    private final List<YearMonth> scheduleMonths = new ArrayList<>();
+    private final List<YearMonth> unloadedScheduleMonths = new ArrayList<>();
+    private boolean hasReadPersons = false;
+    private boolean hasPersonsWithoutIds = false;
+    private boolean hasSchedulesOutsideSections = false;
+    private String snapshotId;
+
+    /**
+     * Constructs a reader of an address book which is not saved in sections.
+     */
+    public JsonAddressBookReader() {
+        this(null);
+    }
+
+    /**
+     * Constructs a reader of the address book saved at {@code filePath}, which may be saved in sections.
+     */
+    public JsonAddressBookReader(Path filePath) {
+        this(filePath, unused -> true);
+    }
+
+    /**
+     * Constructs a reader of the address book saved at {@code filePath}, which may be saved in sections, that only
+     * reads the schedule sections of the months satisfying {@code isLoadedMonth}.
+     */
+    public JsonAddressBookReader(Path filePath, Predicate<YearMonth> isLoadedMonth) {
+        this.filePath = filePath;
+        this.isLoadedMonth = isLoadedMonth;
+    }
+
+    /**
+     * Reads the address book in {@code in}, leaving {@code in} open.
+     * The address book is checked the same way as by {@link JsonSerializableAddressBook#toModelType()}.
+     * Fields other than the persons, schedules, schedule months and snapshot id are skipped.
+     *
+     * @throws IOException if {@code in} or a schedule section cannot be read, or does not have the JSON data of an
+     *     address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        requireNonNull(in);
+
+        try (JsonParser parser = JsonUtil.createJsonParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    readPersons(parser);
+                    break;
+                case "schedules":
+                    hasSchedulesOutsideSections = readSchedules(parser) > 0;
+                    break;
+                case "scheduleMonths":
+                    readScheduleMonths(parser);
+                    break;
+                case "snapshotId":
+                    snapshotId = parser.getValueAsString();
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        hasReadPersons = true;
+        for (JsonAdaptedSchedule jsonAdaptedSchedule : unconvertedSchedules) {
+            loader.addSchedule(jsonAdaptedSchedule);
+        }
+        unconvertedSchedules.clear();
+        for (YearMonth month : scheduleMonths) {
+            if (isLoadedMonth.test(month)) {
+                readScheduleSection(month);
+            } else {
+                unloadedScheduleMonths.add(month);
+            }
+        }
+        return loader.build();
+    }
+
+    /**
+     * Returns the snapshot id of the address book read, or null if it has none.
+     */
+    public String getSnapshotId() {
+        return snapshotId;
+    }
+
+    /**
+     * Returns true if the address book read has persons saved before persons had ids, who were given new ids.
+     * Changes to the address book saved with the new ids only make sense next to its persons if they are saved with
+     * those ids too.
+     */
+    public boolean hasPersonsWithoutIds() {
+        return hasPersonsWithoutIds;
+    }
+
+    /**
+     * Returns true if the address book read has schedules of its own, rather than only in schedule sections.
+     */
+    public boolean hasSchedulesOutsideSections() {
+        return hasSchedulesOutsideSections;
+    }
+
+    /**
+     * Returns the months of the schedule sections of the address book read, as an unmodifiable list, which is empty
+     * if it is not saved in sections.
+     */
+    public List<YearMonth> getScheduleMonths() {
+        return Collections.unmodifiableList(scheduleMonths);
+    }
+
+    /**
+     * Returns the months of the schedule sections of the address book read which were left unread, as an
+     * unmodifiable list.
+     */
+    public List<YearMonth> getUnloadedScheduleMonths() {
+        return Collections.unmodifiableList(unloadedScheduleMonths);
+    }
+
+    /**
+     * Reads the schedules in the section of {@code month} of the address book saved at {@code filePath}, whose
+     * tutors are in {@code addressBook}.
+     *
+     * @throws IOException if the section cannot be read, or does not have the JSON data of a list of schedules.
+     * @throws IllegalValueException if there were any data constraints violated, or a schedule is not in
+     *     {@code month}.
+     */
+    public static List<Schedule> readScheduleSection(Path filePath, YearMonth month, ReadOnlyAddressBook addressBook)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(month);
+        requireNonNull(addressBook);
+
+        List<Schedule> schedules = new ArrayList<>();
+        AddressBookLoader loader = new AddressBookLoader();
+        try (InputStream in = Files.newInputStream(JsonAddressBookStorage.getScheduleSectionPath(filePath, month));
+             JsonParser parser = JsonUtil.createJsonParser(in)) {
+            parser.nextToken();
+            if (!hasStartOfList(parser, "schedules")) {
+                return schedules;
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                Schedule schedule = parser.readValueAs(JsonAdaptedSchedule.class).toModelType(addressBook);
+                if (!AddressBookChanges.getMonthOf(schedule).equals(month)) {
+                    throw new IllegalValueException(MESSAGE_SCHEDULE_IN_OTHER_MONTH);
+                }
+                loader.addSchedule(schedule);
+                schedules.add(schedule);
+            }
+        }
+        loader.checkSchedules();
+        return schedules;
+    }
+
+    /**
+     * Reads the schedules in the section of {@code month}, which is a list of schedules.
+     */
+    private void readScheduleSection(YearMonth month) throws IOException, IllegalValueException {
+        if (filePath == null) {
+            throw new IOException(MESSAGE_SECTIONS_NOT_FOUND);
+        }
+        try (InputStream in = Files.newInputStream(JsonAddressBookStorage.getScheduleSectionPath(filePath, month));
+             JsonParser parser = JsonUtil.createJsonParser(in)) {
+            parser.nextToken();
+            readSchedules(parser);
+        }
+    }
+
+    private void readPersons(JsonParser parser) throws IOException, IllegalValueException {
+        if (!hasStartOfList(parser, "persons")) {
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson jsonAdaptedPerson = parser.readValueAs(JsonAdaptedPerson.class);
+            hasPersonsWithoutIds = hasPersonsWithoutIds || !jsonAdaptedPerson.hasId();
+            loader.addPerson(jsonAdaptedPerson.toModelType());
+        }
+        hasReadPersons = true;
+    }
+
+    /**
+     * Reads the list of schedules {@code parser} is at, and returns the number of schedules read.
+     */
+    private int readSchedules(JsonParser parser) throws IOException, IllegalValueException {
+        if (!hasStartOfList(parser, "schedules")) {
+            return 0;
+        }
+        int count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            count++;
+            JsonAdaptedSchedule jsonAdaptedSchedule = parser.readValueAs(JsonAdaptedSchedule.class);
+            if (hasReadPersons) {
+                loader.addSchedule(jsonAdaptedSchedule);
+            } else {
+                unconvertedSchedules.add(jsonAdaptedSchedule);
+            }
+        }
+        return count;
+    }
+
+    private void readScheduleMonths(JsonParser parser) throws IOException, IllegalValueException {
+        if (!hasStartOfList(parser, "scheduleMonths")) {
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+                throw new IllegalValueException(MESSAGE_INVALID_SCHEDULE_MONTH);
+            }
+            try {
+                scheduleMonths.add(YearMonth.parse(parser.getText()));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_SCHEDULE_MONTH);
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code parser} is at the start of a list, or false if it is at a null value.
+     *
+     * @throws JsonParseException if {@code parser} is at any other value.
+     */
+    private static boolean hasStartOfList(JsonParser parser, String fieldName) throws JsonParseException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_LIST_FORMAT, fieldName));
+        }
+        return true;
+    }
+
+}
@@ -3,34 +3,113 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UnloadedSchedules;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * If it saves in sections, the json file only has the persons and the months which have schedules, and the schedules
+ * of each month are saved in a section file of their own, in a folder next to the json file. Saving the changes to an
+ * address book then only rewrites the json file if the persons changed, and the section files of the months whose
+ * schedules changed. Address books saved in sections are read whether this class saves in sections or not.
+ *
+ * An address book saved in sections can be read with only the sections of the months near the current month, leaving
+ * the sections of other months to be loaded when they are needed. Saving keeps the sections which are still unloaded,
+ * as told by the changes saved, unless the address book saved has schedules in their month. Saving without the
+ * changes keeps every section left unloaded by the read.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
+    private static final String SECTIONS_FOLDER_SUFFIX = ".schedules";
+    private static final String SECTION_FILE_EXTENSION = ".json";
 
     private Path filePath;
+    private boolean isCompact;
+    private boolean isSectioned;
+    private int scheduleLoadWindow;
+
+    // The months of the schedule sections saved at savedFilePath, as of the last read or save in sections
+    private Path savedFilePath;
+    private Set<YearMonth> savedScheduleMonths;
+
+    // The months of the schedule sections saved at readFilePath which were left unloaded by the last read
+    private Path readFilePath;
+    private Set<YearMonth> unloadedScheduleMonths = Collections.emptySet();
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that saves without indentation or line breaks if
+     * {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, false);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that saves without indentation or line breaks if
+     * {@code isCompact} is true, and saves the schedules of each month in a section of their own if
+     * {@code isSectioned} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isSectioned) {
+        this(filePath, isCompact, isSectioned, -1);
+    }
+
+    /**
+     * Constructs a {@code JsonAddressBookStorage} that saves without indentation or line breaks if
+     * {@code isCompact} is true, and saves the schedules of each month in a section of their own if
+     * {@code isSectioned} is true. When reading an address book saved in sections, only the sections of the months up
+     * to {@code scheduleLoadWindow} months before or after the current month are read, unless it is negative.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, boolean isSectioned, int scheduleLoadWindow) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.isSectioned = isSectioned;
+        this.scheduleLoadWindow = scheduleLoadWindow;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    /**
+     * Returns the path of the section with the schedules in {@code month} of the address book at {@code filePath}.
+     */
+    public static Path getScheduleSectionPath(Path filePath, YearMonth month) {
+        return getSectionsFolderPath(filePath).resolve(month + SECTION_FILE_EXTENSION);
+    }
+
+    private static Path getSectionsFolderPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SECTIONS_FOLDER_SUFFIX);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -45,20 +124,71 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        savedFilePath = null;
+        readFilePath = filePath;
+        unloadedScheduleMonths = Collections.emptySet();
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            if (isSectioned && (BinaryAddressBookStorage.isBinaryFile(filePath)
+                    || Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)))) {
+                // Only the journal storage reads every other format, and it is replaced by sections on the next save
+                logger.info(filePath + " is not saved in sections, reading it with its journal.");
+                return new JournalAddressBookStorage(filePath).readAddressBook(filePath);
+            }
+
+            JsonAddressBookReader reader = new JsonAddressBookReader(filePath, this::isInLoadWindow);
+            ReadOnlyAddressBook addressBook;
+            try (InputStream in = Files.newInputStream(filePath)) {
+                addressBook = reader.read(in);
+            }
+            // Sections name tutors by id, so persons without ids have to be saved with the ids they were given, and
+            // schedules which are not in sections have to be saved in sections before only changed ones are saved
+            if (isSectioned && !reader.hasPersonsWithoutIds() && !reader.hasSchedulesOutsideSections()) {
+                savedFilePath = filePath;
+                savedScheduleMonths = new TreeSet<>(reader.getScheduleMonths());
+            }
+            unloadedScheduleMonths = new TreeSet<>(reader.getUnloadedScheduleMonths());
+            if (!unloadedScheduleMonths.isEmpty()) {
+                logger.info("Left the schedules of " + unloadedScheduleMonths.size() + " months in " + filePath
+                        + " unloaded.");
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Returns true if the section of {@code month} is read eagerly, which is when it is within the schedule load
+     * window around the current month.
+     */
+    private boolean isInLoadWindow(YearMonth month) {
+        if (scheduleLoadWindow < 0) {
+            return true;
+        }
+        YearMonth currentMonth = YearMonth.now();
+        return !month.isBefore(currentMonth.minusMonths(scheduleLoadWindow))
+                && !month.isAfter(currentMonth.plusMonths(scheduleLoadWindow));
+    }
+
+    /**
+     * Returns the schedule sections left unloaded by the last read, which are read from the file path that was read.
+     */
+    @Override
+    public UnloadedSchedules getUnloadedSchedules() {
+        if (unloadedScheduleMonths.isEmpty()) {
+            return UnloadedSchedules.NONE;
+        }
+        return new UnloadedScheduleSections(readFilePath, unloadedScheduleMonths);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -72,9 +202,174 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
+        saveWholeAddressBook(addressBook, filePath, unloadedScheduleMonths);
+    }
+
+    /**
+     * Saves the whole of {@code addressBook} to {@code filePath}, keeping the sections of {@code unloadedMonths} left
+     * unloaded by the last read.
+     */
+    private void saveWholeAddressBook(ReadOnlyAddressBook addressBook, Path filePath, Set<YearMonth> unloadedMonths)
+            throws IOException {
+        if (!isSectioned) {
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, isCompact);
+            return;
+        }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        savedFilePath = null;
+        Map<YearMonth, List<Schedule>> schedulesByMonth = groupByMonth(addressBook.getScheduleList());
+        for (Map.Entry<YearMonth, List<Schedule>> section : schedulesByMonth.entrySet()) {
+            saveScheduleSection(filePath, section.getKey(), section.getValue());
+        }
+        Set<YearMonth> scheduleMonths = new TreeSet<>(schedulesByMonth.keySet());
+        scheduleMonths.addAll(keepUnloadedSections(filePath, scheduleMonths, unloadedMonths));
+        saveMainFile(addressBook, filePath, scheduleMonths);
+
+        // Sections of months without schedules are no longer listed in the json file, so they are never read
+        Set<Path> sectionPaths = scheduleMonths.stream()
+                .map(month -> getScheduleSectionPath(filePath, month)).collect(Collectors.toSet());
+        Path sectionsFolderPath = getSectionsFolderPath(filePath);
+        if (Files.isDirectory(sectionsFolderPath)) {
+            try (DirectoryStream<Path> savedSectionPaths = Files.newDirectoryStream(sectionsFolderPath)) {
+                for (Path sectionPath : savedSectionPaths) {
+                    if (!sectionPaths.contains(sectionPath)) {
+                        Files.deleteIfExists(sectionPath);
+                    }
+                }
+            }
+        }
+        Files.deleteIfExists(JournalAddressBookStorage.getJournalFilePath(filePath));
+
+        savedFilePath = filePath;
+        savedScheduleMonths = scheduleMonths;
+    }
+
+    /**
+     * Keeps the sections of {@code unloadedMonths} left unloaded by the last read, copying them to the sections of the
+     * address book at {@code filePath} if they were read from another file path, and returns their months.
+     * A month which was loaded is not kept even if the address book saved has no schedules in it, as all its schedules
+     * were deleted.
+     */
+    private Set<YearMonth> keepUnloadedSections(Path filePath, Set<YearMonth> scheduleMonths,
+            Set<YearMonth> unloadedMonths) throws IOException {
+        Set<YearMonth> keptMonths = new TreeSet<>();
+        for (YearMonth month : unloadedScheduleMonths) {
+            Path unloadedSectionPath = getScheduleSectionPath(readFilePath, month);
+            if (!unloadedMonths.contains(month) || scheduleMonths.contains(month)
+                    || !Files.exists(unloadedSectionPath)) {
+                continue;
+            }
+            if (!readFilePath.equals(filePath)) {
+                Files.createDirectories(getSectionsFolderPath(filePath));
+                Files.copy(unloadedSectionPath, getScheduleSectionPath(filePath, month),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            keptMonths.add(month);
+        }
+        return keptMonths;
+    }
+
+    /**
+     * Saves only the sections changed by {@code changes} if this storage saves in sections, and the address book was
+     * last read from or saved to its file path by this storage. Otherwise, saves the whole address book.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        if (!filePath.equals(savedFilePath)) {
+            saveWholeAddressBook(addressBook, filePath, changes.getUnloadedScheduleMonths());
+            return;
+        }
+
+        // Sections are only known to be saved again once every changed section is
+        savedFilePath = null;
+        Set<YearMonth> scheduleMonths = new TreeSet<>(savedScheduleMonths);
+        for (YearMonth month : changes.getChangedScheduleMonths()) {
+            if (changes.getUnloadedScheduleMonths().contains(month)) {
+                // Only the schedules which could be seen are in the address book, so saving would lose the others
+                logger.warning("Not saving the schedules in " + month + ", as they were not loaded");
+                continue;
+            }
+            List<Schedule> schedules = AddressBookChanges.getSchedulesIn(addressBook, month);
+            if (!schedules.isEmpty()) {
+                saveScheduleSection(filePath, month, schedules);
+                scheduleMonths.add(month);
+            } else {
+                scheduleMonths.remove(month);
+            }
+        }
+
+        if (changes.arePersonsChanged() || !scheduleMonths.equals(savedScheduleMonths)) {
+            saveMainFile(addressBook, filePath, scheduleMonths);
+        }
+        for (YearMonth month : savedScheduleMonths) {
+            if (!scheduleMonths.contains(month)) {
+                Files.deleteIfExists(getScheduleSectionPath(filePath, month));
+            }
+        }
+
+        savedFilePath = filePath;
+        savedScheduleMonths = scheduleMonths;
+    }
+
+    private void saveMainFile(ReadOnlyAddressBook addressBook, Path filePath, Set<YearMonth> scheduleMonths)
+            throws IOException {
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook.getPersonList(), scheduleMonths), filePath,
+                isCompact);
+    }
+
+    private void saveScheduleSection(Path filePath, YearMonth month, List<Schedule> schedules) throws IOException {
+        List<JsonAdaptedSchedule> section = schedules.stream().map(JsonAdaptedSchedule::new)
+                .collect(Collectors.toList());
+        JsonUtil.saveJsonFile(section, getScheduleSectionPath(filePath, month), isCompact);
+    }
+
+    /**
+     * Returns {@code schedules} grouped by month, in order of month.
+     */
+    private static Map<YearMonth, List<Schedule>> groupByMonth(List<Schedule> schedules) {
+        Map<YearMonth, List<Schedule>> schedulesByMonth = new TreeMap<>();
+        for (Schedule schedule : schedules) {
+            schedulesByMonth.computeIfAbsent(AddressBookChanges.getMonthOf(schedule), unused -> new ArrayList<>())
+                    .add(schedule);
+        }
+        return schedulesByMonth;
+    }
+
+    /**
+     * The schedule sections left unloaded by a read, which are read from the file path that was read when they are
+     * loaded.
+     */
+    private static class UnloadedScheduleSections implements UnloadedSchedules {
+        private final Path filePath;
+        private final Set<YearMonth> months;
+
+        UnloadedScheduleSections(Path filePath, Set<YearMonth> months) {
+            this.filePath = filePath;
+            this.months = Collections.unmodifiableSet(new TreeSet<>(months));
+        }
+
+        @Override
+        public Set<YearMonth> getMonths() {
+            return months;
+        }
+
+        @Override
+        public List<Schedule> load(YearMonth month, ReadOnlyAddressBook addressBook) throws DataLoadingException {
+            try {
+                return JsonAddressBookReader.readScheduleSection(filePath, month, addressBook);
+            } catch (IOException e) {
+                logger.warning("Error reading the schedules in " + month + " from " + filePath + ": " + e);
+                throw new DataLoadingException(e);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in the schedules in " + month + " from " + filePath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
     }
 
 }
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ScheduleArchive;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A {@code ScheduleArchive} stored as an append-only file of compressed blocks on the hard disk.
+ *
+ * Each {@link #append(List)} adds one block to the end of the file, so schedules archived before are never rewritten.
+ * A block starts with the length of its data and the first and last dates of its schedules, followed by its
+ * schedules as lines of json compressed with gzip. Finding schedules reads the file one block at a time, skipping the
+ * blocks outside the dates looked for without decompressing them.
+ *
+ * A block which was not completely written, such as when the app stopped while appending it, is ignored when
+ * reading, and overwritten by the next block appended.
+ */
+public class JsonScheduleArchive implements ScheduleArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonScheduleArchive.class);
+    private static final String ARCHIVE_FILE_SUFFIX = ".archive";
+    private static final int HEADER_LENGTH = Integer.BYTES + 2 * Long.BYTES;
+    private static final Comparator<Schedule> BY_START_TIME =
+            Comparator.comparing(schedule -> schedule.getStartTime().getTime());
+
+    private final Path filePath;
+
+    public JsonScheduleArchive(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the schedule archive of the address book at {@code addressBookFilePath}.
+     */
+    public static Path getArchiveFilePath(Path addressBookFilePath) {
+        return addressBookFilePath.resolveSibling(addressBookFilePath.getFileName() + ARCHIVE_FILE_SUFFIX);
+    }
+
+    public Path getArchiveFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void append(List<Schedule> schedules) throws IOException {
+        requireAllNonNull(schedules);
+        if (schedules.isEmpty()) {
+            return;
+        }
+
+        List<Schedule> orderedSchedules = new ArrayList<>(schedules);
+        orderedSchedules.sort(BY_START_TIME);
+        byte[] data = compress(orderedSchedules);
+        ByteBuffer block = ByteBuffer.allocate(HEADER_LENGTH + data.length)
+                .putInt(data.length)
+                .putLong(getDate(orderedSchedules.get(0)).toEpochDay())
+                .putLong(getDate(orderedSchedules.get(orderedSchedules.size() - 1)).toEpochDay())
+                .put(data);
+        block.flip();
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            long end = findEndOfBlocks(channel);
+            if (end < channel.size()) {
+                logger.warning("Overwriting an incomplete block at the end of " + filePath);
+                channel.truncate(end);
+            }
+            channel.position(end);
+            while (block.hasRemaining()) {
+                channel.write(block);
+            }
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public List<Schedule> find(PersonId tutorId, LocalDate startDate, LocalDate endDate,
+            ReadOnlyAddressBook addressBook) throws DataLoadingException {
+        requireAllNonNull(tutorId, startDate, endDate, addressBook);
+
+        List<Schedule> schedules = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return schedules;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long position = 0;
+            ByteBuffer header;
+            while ((header = readHeader(channel, position)) != null) {
+                int length = header.getInt();
+                LocalDate firstDate = LocalDate.ofEpochDay(header.getLong());
+                LocalDate lastDate = LocalDate.ofEpochDay(header.getLong());
+                if (!lastDate.isBefore(startDate) && !firstDate.isAfter(endDate)) {
+                    readBlock(channel, position + HEADER_LENGTH, length, tutorId, startDate, endDate, addressBook,
+                            schedules);
+                }
+                position += HEADER_LENGTH + length;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        schedules.sort(BY_START_TIME);
+        return schedules;
+    }
+
+    /**
+     * Adds the schedules of the tutor with {@code tutorId} from {@code startDate} to {@code endDate} in the block
+     * data at {@code position} to {@code schedules}.
+     * Only the schedules of the tutor are converted into the model's {@code Schedule}.
+     */
+    private static void readBlock(FileChannel channel, long position, int length, PersonId tutorId,
+            LocalDate startDate, LocalDate endDate, ReadOnlyAddressBook addressBook, List<Schedule> schedules)
+            throws IOException, IllegalValueException {
+        ByteBuffer data = ByteBuffer.allocate(length);
+        while (data.hasRemaining()) {
+            if (channel.read(data, position + data.position()) < 0) {
+                throw new IOException("Archive ended in the middle of a block.");
+            }
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(data.array())), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonAdaptedSchedule jsonAdaptedSchedule = JsonUtil.fromJsonString(line, JsonAdaptedSchedule.class);
+                if (!jsonAdaptedSchedule.isOfTutor(tutorId)) {
+                    continue;
+                }
+                Schedule schedule = jsonAdaptedSchedule.toModelType(addressBook);
+                LocalDate date = getDate(schedule);
+                if (!date.isBefore(startDate) && !date.isAfter(endDate)) {
+                    schedules.add(schedule);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the header of the block at {@code position}, ready to be read, or null if there is no complete block
+     * there.
+     */
+    private static ByteBuffer readHeader(FileChannel channel, long position) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        while (header.hasRemaining()) {
+            if (channel.read(header, position + header.position()) < 0) {
+                return null;
+            }
+        }
+        header.flip();
+
+        int length = header.getInt(0);
+        if (length < 0 || position + HEADER_LENGTH + length > channel.size()) {
+            return null;
+        }
+        return header;
+    }
+
+    /**
+     * Returns the position just after the last complete block in the archive.
+     */
+    private static long findEndOfBlocks(FileChannel channel) throws IOException {
+        long position = 0;
+        ByteBuffer header;
+        while ((header = readHeader(channel, position)) != null) {
+            position += HEADER_LENGTH + header.getInt();
+        }
+        return position;
+    }
+
+    private static byte[] compress(List<Schedule> schedules) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(data), StandardCharsets.UTF_8)) {
+            for (Schedule schedule : schedules) {
+                writer.write(JsonUtil.toCompactJsonString(new JsonAdaptedSchedule(schedule)));
+                writer.write('\n');
+            }
+        }
+        return data.toByteArray();
+    }
+
+    private static LocalDate getDate(Schedule schedule) {
+        requireNonNull(schedule);
+        return schedule.getStartTime().getTime().toLocalDate();
+    }
+
+}
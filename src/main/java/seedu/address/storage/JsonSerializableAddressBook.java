@@ -1,10 +1,13 @@
 package seedu.address.storage;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -26,15 +29,25 @@ class JsonSerializableAddressBook {
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
+    /** Identifies this address book to the journal of changes made after it, if it was saved with a journal. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String snapshotId;
+    /** Months of the schedule sections saved next to this address book, if it was saved in sections. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<String> scheduleMonths;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
-                                       @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules) {
+                                       @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules,
+                                       @JsonProperty("snapshotId") String snapshotId,
+                                       @JsonProperty("scheduleMonths") List<String> scheduleMonths) {
         this.persons.addAll(persons);
         this.schedules.addAll(schedules);
+        this.snapshotId = snapshotId;
+        this.scheduleMonths = scheduleMonths;
     }
 
     /**
@@ -43,37 +56,84 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} into this class for Jackson use, identified by {@code snapshotId}
+     * to the journal of changes made after it.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, String snapshotId) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
         schedules.addAll(source.getScheduleList().stream().map(JsonAdaptedSchedule::new).collect(Collectors.toList()));
+        this.snapshotId = snapshotId;
+        this.scheduleMonths = null;
+    }
+
+    /**
+     * Converts the persons of an address book saved in sections into this class for Jackson use, with the months of
+     * its schedule sections.
+     */
+    public JsonSerializableAddressBook(List<Person> persons, Collection<YearMonth> scheduleMonths) {
+        this.persons.addAll(persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        this.snapshotId = null;
+        this.scheduleMonths = scheduleMonths.stream().map(YearMonth::toString).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the id identifying this address book to its journal, or null if it was not saved with a journal.
+     */
+    public String getSnapshotId() {
+        return snapshotId;
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * An address book saved in sections has to be read by {@link JsonAddressBookReader} instead.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, or if it was saved in sections.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        if (scheduleMonths != null && !scheduleMonths.isEmpty()) {
+            throw new IllegalValueException(JsonAddressBookReader.MESSAGE_SECTIONS_NOT_FOUND);
+        }
+        AddressBookLoader loader = new AddressBookLoader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            loader.addPerson(jsonAdaptedPerson.toModelType());
         }
         for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
-            Schedule schedule = jsonAdaptedSchedule.toModelType(addressBook);
-            if (addressBook.hasSchedule(schedule)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
-            }
-            for (Schedule existingSchedule : addressBook.getScheduleList()) {
-                if (schedule.isClashing(existingSchedule)) {
-                    throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
-                }
-            }
-            addressBook.addSchedule(schedule);
+            loader.addSchedule(jsonAdaptedSchedule);
+        }
+        return loader.build();
+    }
+
+    /**
+     * Adds {@code person} read from storage to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already has the same person.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.addPerson(person);
+    }
+
+    /**
+     * Adds {@code schedule} read from storage to {@code addressBook}.
+     *
+     * @throws IllegalValueException if {@code addressBook} already has the same schedule, or one that clashes with it.
+     */
+    static void addSchedule(AddressBook addressBook, Schedule schedule) throws IllegalValueException {
+        if (addressBook.hasSchedule(schedule)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
+        }
+        if (!addressBook.findClashes(schedule).isEmpty()) {
+            throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
         }
-        return addressBook;
+        addressBook.addSchedule(schedule);
     }
 
 }
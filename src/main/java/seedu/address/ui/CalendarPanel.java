@@ -2,7 +2,9 @@ package seedu.address.ui;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -17,6 +19,7 @@ import javafx.util.Pair;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.Schedule;
 
 
@@ -74,16 +77,21 @@ public class CalendarPanel extends UiPart<Region> {
         ObservableList<Schedule> scheduleList) {
         personWithSchedulesList.clear();
         createTimetableLabels();
+
+        // Group the schedules by tutor in a single pass, instead of scanning every schedule for every tutor
+        Map<PersonId, List<Pair<Schedule, Index>>> schedulesByTutor = new HashMap<>();
+        for (int i = 0; i < scheduleList.size(); i++) {
+            Schedule schedule = scheduleList.get(i);
+            schedulesByTutor.computeIfAbsent(schedule.getTutorId(), unused -> new ArrayList<>())
+                .add(new Pair<>(schedule, Index.fromZeroBased(i)));
+        }
+
+        List<PersonWithSchedules> rows = new ArrayList<>();
         for (Person person : personList) {
-            List<Pair<Schedule, Index>> schedules = new ArrayList<>();
-            for (int i = 0; i < scheduleList.size(); i++) {
-                Schedule schedule = scheduleList.get(i);
-                if (schedule.getTutor().equals(person)) {
-                    schedules.add(new Pair<>(schedule, Index.fromZeroBased(i)));
-                }
-            }
-            personWithSchedulesList.add(new PersonWithSchedules(person, schedules, null));
+            List<Pair<Schedule, Index>> schedules = schedulesByTutor.getOrDefault(person.getId(), new ArrayList<>());
+            rows.add(new PersonWithSchedules(person, schedules, null));
         }
+        personWithSchedulesList.addAll(rows);
     }
 
     /**
@@ -7,6 +7,7 @@ import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 
@@ -34,9 +35,11 @@ public class ListsPanel extends UiPart<Region> {
     private ObservableList<Schedule> scheduleList;
 
     /**
-     * Creates a {@code ListsPanel} with the given {@code personList} and {@code scheduleList}.
+     * Creates a {@code ListsPanel} with the given {@code personList} and {@code scheduleList}, looking up the tutors of
+     * the schedules in {@code addressBook}.
      */
-    public ListsPanel(ObservableList<Person> personList, ObservableList<Schedule> scheduleList) {
+    public ListsPanel(ObservableList<Person> personList, ObservableList<Schedule> scheduleList,
+            ReadOnlyAddressBook addressBook) {
         super(FXML);
 
         this.personList = personList;
@@ -45,7 +48,7 @@ public class ListsPanel extends UiPart<Region> {
         personListPanel = new PersonListPanel(personList);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
-        scheduleListPanel = new ScheduleListPanel(scheduleList);
+        scheduleListPanel = new ScheduleListPanel(scheduleList, addressBook);
         scheduleListPanelPlaceholder.getChildren().add(scheduleListPanel.getRoot());
     }
 }
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -127,10 +128,12 @@ public class MainWindow extends UiPart<Stage> {
     void fillInnerParts() {
         calendarPanel = new CalendarPanel(logic.getFilteredPersonList(), logic.getFilteredCalendarScheduleList());
 
-        listsPanel = new ListsPanel(logic.getFilteredPersonList(), logic.getFilteredScheduleList());
+        listsPanel = new ListsPanel(logic.getFilteredPersonList(), logic.getFilteredScheduleList(),
+            logic.getAddressBook());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
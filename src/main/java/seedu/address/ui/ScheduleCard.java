@@ -9,6 +9,7 @@ import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
+import seedu.address.model.person.Person;
 import seedu.address.model.schedule.Schedule;
 
 /**
@@ -48,13 +49,13 @@ public class ScheduleCard extends UiPart<Region> {
     private Label status;
 
     /**
-     * Creates a {@code ScheduleCode} with the given {@code Schedule} and index to display.
+     * Creates a {@code ScheduleCode} with the given {@code Schedule}, its tutor and index to display.
      */
-    public ScheduleCard(Schedule schedule, int displayedIndex) {
+    public ScheduleCard(Schedule schedule, Person tutor, int displayedIndex) {
         super(FXML);
         this.schedule = schedule;
         id.setText(displayedIndex + ". ");
-        name.setText(schedule.getTutor().getName().fullName);
+        name.setText(tutor.getName().fullName);
         startTime.setText(schedule.getStartTime().toString());
         endTime.setText(schedule.getEndTime().toString());
         status.setText(schedule.getStatus().toString());
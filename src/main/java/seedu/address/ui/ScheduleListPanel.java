@@ -1,6 +1,6 @@
 package seedu.address.ui;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
@@ -13,8 +13,10 @@ import javafx.scene.control.Separator;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.schedule.Schedule;
-import seedu.address.model.schedule.StartTime;
 
 /**
  * Panel containing the list of schedules.
@@ -27,27 +29,39 @@ public class ScheduleListPanel extends UiPart<Region> {
     @FXML
     private ListView<Schedule> scheduleListView;
 
+    private final ReadOnlyAddressBook addressBook;
+
     /**
-     * Creates a {@code ScheduleListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ScheduleListPanel} with the given {@code ObservableList}, looking up the tutors of the
+     * schedules in {@code addressBook}.
      */
-    public ScheduleListPanel(ObservableList<Schedule> scheduleList) {
+    public ScheduleListPanel(ObservableList<Schedule> scheduleList, ReadOnlyAddressBook addressBook) {
         super(FXML);
+        this.addressBook = addressBook;
         scheduleListView.setItems(scheduleList);
         scheduleListView.setCellFactory(listView -> new ScheduleListViewCell());
 
         setDividerIndex(scheduleList);
         scheduleList.addListener((ListChangeListener<Schedule>) c -> setDividerIndex(scheduleList));
+        // Schedules refer to their tutor by id, so editing a tutor does not change the schedule list
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) c -> scheduleListView.refresh());
     }
 
     private void setDividerIndex(ObservableList<Schedule> scheduleList) {
-        LocalDateTime now = LocalDateTime.now();
-        for (int i = 0; i < scheduleList.size(); i++) {
-            if (scheduleList.get(i).getStartTime().compareDays(new StartTime(now)) < 0) {
-                dividerIndex = i;
-                return;
+        // Schedules from today onwards are listed before the schedules before today, so binary search for the first
+        // schedule before today
+        LocalDate today = LocalDate.now();
+        int low = 0;
+        int high = scheduleList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (scheduleList.get(mid).isOnOrAfter(today)) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        dividerIndex = -1;
+        dividerIndex = low < scheduleList.size() ? low : -1;
     }
 
     /**
@@ -61,15 +75,19 @@ public class ScheduleListPanel extends UiPart<Region> {
             if (empty || schedule == null) {
                 setGraphic(null);
                 setText(null);
-            } else if (getIndex() == dividerIndex) {
+                return;
+            }
+
+            Person tutor = addressBook.getPerson(schedule.getTutorId()).orElseThrow(PersonNotFoundException::new);
+            if (getIndex() == dividerIndex) {
                 VBox container = new VBox();
                 Label dividerLabel = new Label("Schedules Before Today");
                 Separator separator = new Separator();
                 container.getChildren()
-                        .addAll(dividerLabel, separator, new ScheduleCard(schedule, getIndex() + 1).getRoot());
+                        .addAll(dividerLabel, separator, new ScheduleCard(schedule, tutor, getIndex() + 1).getRoot());
                 setGraphic(container);
             } else {
-                setGraphic(new ScheduleCard(schedule, getIndex() + 1).getRoot());
+                setGraphic(new ScheduleCard(schedule, tutor, getIndex() + 1).getRoot());
             }
         }
     }
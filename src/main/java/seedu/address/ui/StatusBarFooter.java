@@ -17,6 +17,7 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
     private static final String TIME_DISPLAY_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final DateTimeFormatter TIME_DISPLAY_FORMATTER = DateTimeFormatter.ofPattern(TIME_DISPLAY_FORMAT);
 
     @FXML
     private Label saveLocationStatus;
@@ -34,9 +35,16 @@ public class StatusBarFooter extends UiPart<Region> {
         //Reused from https://stackoverflow.com/a/42384436
         // with minor modifications
         AnimationTimer timer = new AnimationTimer() {
+            private LocalDateTime shownTime;
+
             @Override
             public void handle(long now) {
-                currentTime.setText(LocalDateTime.now().format(DateTimeFormatter.ofPattern(TIME_DISPLAY_FORMAT)));
+                // Called every frame, but the time shown only changes every second
+                LocalDateTime time = LocalDateTime.now().withNano(0);
+                if (!time.equals(shownTime)) {
+                    shownTime = time;
+                    currentTime.setText(time.format(TIME_DISPLAY_FORMATTER));
+                }
             }
         };
         //@@author
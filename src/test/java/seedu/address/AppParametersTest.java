@@ -39,10 +39,112 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validExportPath_success() {
+        parametersStub.namedParameters.put("export", "export.json");
+        expected.setExportPath(Paths.get("export.json"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidExportPath_success() {
+        parametersStub.namedParameters.put("export", "a\0");
+        expected.setExportPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validScriptPath_success() {
+        parametersStub.namedParameters.put("script", "roster.txt");
+        expected.setScriptPath(Paths.get("roster.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_success() {
+        parametersStub.namedParameters.put("script", "a\0");
+        expected.setScriptPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validCommandsPath_success() {
+        parametersStub.namedParameters.put("commands", "commands.txt");
+        expected.setCommandsPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidCommandsPath_success() {
+        parametersStub.namedParameters.put("commands", "a\0b");
+        expected.setCommandsPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_validServerPort_success() {
+        parametersStub.namedParameters.put("serve", "8080");
+        expected.setServerPort(8080);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        // boundary values
+        parametersStub.namedParameters.put("serve", "0");
+        expected.setServerPort(0);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+
+        parametersStub.namedParameters.put("serve", "65535");
+        expected.setServerPort(65535);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidServerPort_success() {
+        expected.setServerPort(null);
+        for (String invalidPort : new String[] {"", "65536", "123456", "-1", "+80", "80a", "http"}) {
+            parametersStub.namedParameters.put("serve", invalidPort);
+            assertEquals(expected, AppParameters.parse(parametersStub));
+        }
+    }
+
+    @Test
+    public void parse_args_success() {
+        // no arguments
+        assertEquals(expected, AppParameters.parse(new String[0]));
+
+        // named parameters and the headless flag
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setCommandsPath(Paths.get("commands=1.txt"));
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", AppParameters.HEADLESS_FLAG,
+            "--commands=commands=1.txt"}));
+
+        // named parameters and the allow file commands flag
+        expected.setHeadless(false);
+        expected.setCommandsPath(null);
+        expected.setServerPort(8080);
+        expected.setFileCommandsAllowed(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--serve=8080",
+            AppParameters.ALLOW_FILE_COMMANDS_FLAG}));
+
+        // arguments which are neither named parameters nor flags are ignored
+        expected.setConfigPath(null);
+        expected.setServerPort(null);
+        expected.setFileCommandsAllowed(false);
+        expected.setHeadless(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"headless", "--=config.json", "--config",
+            "allow-file-commands", AppParameters.HEADLESS_FLAG}));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
-        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath() + "}";
+        String expected = AppParameters.class.getCanonicalName() + "{configPath=" + appParameters.getConfigPath()
+                + ", exportPath=" + appParameters.getExportPath()
+                + ", scriptPath=" + appParameters.getScriptPath()
+                + ", isHeadless=" + appParameters.isHeadless()
+                + ", commandsPath=" + appParameters.getCommandsPath()
+                + ", serverPort=" + appParameters.getServerPort()
+                + ", areFileCommandsAllowed=" + appParameters.areFileCommandsAllowed() + "}";
         assertEquals(expected, appParameters.toString());
     }
 
@@ -66,6 +168,36 @@ public class AppParametersTest {
         AppParameters otherAppParameters = new AppParameters();
         otherAppParameters.setConfigPath(Paths.get("configPath"));
         assertFalse(appParameters.equals(otherAppParameters));
+
+        // different export path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setExportPath(Paths.get("exportPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different script path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setScriptPath(Paths.get("scriptPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different headless flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setHeadless(true);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different commands path -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setCommandsPath(Paths.get("commandsPath"));
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different server port -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setServerPort(8080);
+        assertFalse(appParameters.equals(otherAppParameters));
+
+        // different allow file commands flag -> returns false
+        otherAppParameters = new AppParameters();
+        otherAppParameters.setFileCommandsAllowed(true);
+        assertFalse(appParameters.equals(otherAppParameters));
     }
 
     private static class ParametersStub extends Application.Parameters {
@@ -0,0 +1,201 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddTutorCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListTutorCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.MutableClock;
+
+public class HeadlessAppTest {
+    private static final String ADD_AMY_COMMAND =
+            AddTutorCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+    private static final LocalDate ROLL_OVER_DATE = LocalDate.of(2023, 1, 2);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private Model model = new ModelManager();
+    private AddressBookSaver addressBookSaver;
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        addressBookSaver = new AddressBookSaver(new StorageManager(addressBookStorage, userPrefsStorage));
+        headlessApp = new HeadlessApp(new LogicManager(model, addressBookSaver),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // Saves must be written before the temporary folder is deleted
+        addressBookSaver.close();
+    }
+
+    @Test
+    public void run_commands_printsResultsAndCountsFailures() throws Exception {
+        String commands = String.join("\n", "# add a tutor", "", ADD_AMY_COMMAND, "unknown",
+                "  " + ListTutorCommand.COMMAND_WORD);
+
+        assertEquals(1, headlessApp.run(new BufferedReader(new StringReader(commands))));
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(Arrays.asList(
+                String.format(AddTutorCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                ListTutorCommand.MESSAGE_SUCCESS), getLines(out));
+        assertEquals(Arrays.asList(MESSAGE_UNKNOWN_COMMAND), getLines(err));
+    }
+
+    @Test
+    public void run_exitCommand_stopsReadingCommands() throws Exception {
+        String commands = String.join("\n", ExitCommand.COMMAND_WORD, ADD_AMY_COMMAND);
+
+        assertEquals(0, headlessApp.run(new BufferedReader(new StringReader(commands))));
+        assertFalse(model.hasPerson(AMY));
+        assertEquals(Arrays.asList(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getLines(out));
+    }
+
+    @Test
+    public void run_newDay_rollsOverSchedulesBeforeNextCommand() throws Exception {
+        Model typicalModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        MutableClock clock = new MutableClock();
+        headlessApp = new HeadlessApp(new LogicManager(typicalModel, addressBookSaver),
+                new PrintStream(out, true, StandardCharsets.UTF_8), new PrintStream(err, true, StandardCharsets.UTF_8),
+                clock);
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Schedule> schedulesBeforeRollOver = new ArrayList<>(expectedModel.getAddressBook().getScheduleList());
+        expectedModel.rollOverSchedules(ROLL_OVER_DATE);
+        assertNotEquals(schedulesBeforeRollOver, expectedModel.getAddressBook().getScheduleList());
+
+        // same day -> not rolled over
+        headlessApp.run(new BufferedReader(new StringReader(ListTutorCommand.COMMAND_WORD)));
+        assertEquals(schedulesBeforeRollOver, typicalModel.getAddressBook().getScheduleList());
+
+        // another day -> rolled over
+        clock.setTime(ROLL_OVER_DATE.atTime(9, 0));
+        headlessApp.run(new BufferedReader(new StringReader(ListTutorCommand.COMMAND_WORD)));
+        assertEquals(expectedModel.getAddressBook().getScheduleList(), typicalModel.getAddressBook().getScheduleList());
+    }
+
+    @Test
+    public void run_appParameters_executesCommandsFileAndSavesData() throws Exception {
+        Path commandsFilePath = temporaryFolder.resolve("commands.txt");
+        Files.writeString(commandsFilePath, "clear\n" + ADD_AMY_COMMAND + "\n");
+
+        AppParameters appParameters = AppParameters.parse(new String[] {AppParameters.HEADLESS_FLAG,
+            "--config=" + initConfigFile(), "--commands=" + commandsFilePath});
+        assertEquals(0, HeadlessApp.run(appParameters));
+
+        ReadOnlyAddressBook savedAddressBook = new JournalAddressBookStorage(getAddressBookFilePath())
+                .readAddressBook().get();
+        assertEquals(1, savedAddressBook.getPersonList().size());
+        assertTrue(savedAddressBook.getPerson(AMY.getName()).isPresent());
+    }
+
+    @Test
+    public void run_unreadableCommandsFile_failure() throws Exception {
+        AppParameters appParameters = new AppParameters();
+        appParameters.setHeadless(true);
+        appParameters.setConfigPath(initConfigFile());
+        appParameters.setCommandsPath(temporaryFolder.resolve("missing.txt"));
+        assertEquals(1, HeadlessApp.run(appParameters));
+    }
+
+    @Test
+    public void run_failingScriptAndExport_failure() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, "uicfhmowqewca\n");
+        // the export cannot be written, as its folder would be inside a file
+        Path exportPath = scriptPath.resolve("export.json");
+
+        AppParameters appParameters = new AppParameters();
+        appParameters.setHeadless(true);
+        appParameters.setConfigPath(initConfigFile());
+        appParameters.setScriptPath(scriptPath);
+        appParameters.setExportPath(exportPath);
+        Path commandsFilePath = temporaryFolder.resolve("commands.txt");
+        Files.writeString(commandsFilePath, ListTutorCommand.COMMAND_WORD + "\n");
+        appParameters.setCommandsPath(commandsFilePath);
+
+        PrintStream systemErr = System.err;
+        ByteArrayOutputStream startUpErr = new ByteArrayOutputStream();
+        try {
+            System.setErr(new PrintStream(startUpErr, true, StandardCharsets.UTF_8));
+            assertEquals(1, HeadlessApp.run(appParameters));
+        } finally {
+            System.setErr(systemErr);
+        }
+        String errors = startUpErr.toString(StandardCharsets.UTF_8);
+        assertTrue(errors.contains(String.format(AppComponents.MESSAGE_EXPORT_FAILED, exportPath, "")));
+        assertTrue(errors.contains(String.format(AppComponents.MESSAGE_SCRIPT_FAILED, scriptPath, "")));
+    }
+
+    /**
+     * Creates a config file, and the preferences file it refers to, which keep the data in the temporary folder.
+     */
+    private Path initConfigFile() throws IOException {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(getAddressBookFilePath());
+        Path userPrefsFilePath = temporaryFolder.resolve("preferences.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        Path configFilePath = temporaryFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+        return configFilePath;
+    }
+
+    private Path getAddressBookFilePath() {
+        return temporaryFolder.resolve("data").resolve("addressbook.json");
+    }
+
+    private static List<String> getLines(ByteArrayOutputStream stream) {
+        return Arrays.asList(stream.toString(StandardCharsets.UTF_8).split(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DateTimeUtilTest {
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm");
+
+    @Test
+    public void parseDateTime_validDateTime_success() {
+        assertEquals(LocalDateTime.of(2023, 9, 15, 9, 5), DateTimeUtil.parseDateTime("2023-09-15T09:05"));
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59), DateTimeUtil.parseDateTime("2024-02-29T23:59"));
+        assertEquals(LocalDateTime.of(0, 1, 1, 0, 0), DateTimeUtil.parseDateTime("0000-01-01T00:00"));
+    }
+
+    @Test
+    public void parseDateTime_invalidDateTime_returnsNull() {
+        assertNull(DateTimeUtil.parseDateTime("")); // empty
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15 09:05")); // no T
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15T09:05:00")); // seconds
+        assertNull(DateTimeUtil.parseDateTime("2023-9-15T09:05")); // single digit month
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15T9:05 ")); // single digit hour
+        assertNull(DateTimeUtil.parseDateTime("2023-13-15T09:05")); // month 13
+        assertNull(DateTimeUtil.parseDateTime("2023-02-29T09:05")); // not a leap year
+        assertNull(DateTimeUtil.parseDateTime("2023-04-31T09:05")); // 31st of a 30 day month
+        assertNull(DateTimeUtil.parseDateTime("2023-09-00T09:05")); // day 0
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15T24:00")); // hour 24
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15T09:60")); // minute 60
+        assertNull(DateTimeUtil.parseDateTime("2023-09-15T0a:05")); // letter
+        assertNull(DateTimeUtil.parseDateTime("+023-09-15T09:05")); // sign
+        assertNull(DateTimeUtil.parseDateTime("\uFF12\uFF10\uFF12\uFF13-09-15T09:05")); // non ASCII digits
+    }
+
+    @Test
+    public void parseDateTime_randomText_sameAsDateTimeFormatter() {
+        String characters = "0123456789-T:";
+        Random random = new Random(20231018);
+        for (int i = 0; i < 20000; i++) {
+            char[] text = "2023-09-15T09:05".toCharArray();
+            int changes = random.nextInt(3);
+            for (int j = 0; j < changes; j++) {
+                text[random.nextInt(text.length)] = characters.charAt(random.nextInt(characters.length()));
+            }
+            String dateTime = new String(text);
+            assertEquals(parseWithFormatter(dateTime), DateTimeUtil.parseDateTime(dateTime), dateTime);
+        }
+    }
+
+    @Test
+    public void parseDate() {
+        assertEquals(LocalDate.of(2023, 9, 15), DateTimeUtil.parseDate("2023-09-15"));
+        assertNull(DateTimeUtil.parseDate("2023-09-15T09:05"));
+        assertNull(DateTimeUtil.parseDate("2023-02-30"));
+        assertNull(DateTimeUtil.parseDate("15-09-2023"));
+        assertThrows(NullPointerException.class, () -> DateTimeUtil.parseDate(null));
+    }
+
+    @Test
+    public void formatDateTime() {
+        assertEquals("2023-09-15T09:05", DateTimeUtil.formatDateTime(LocalDateTime.of(2023, 9, 15, 9, 5)));
+        assertEquals("0012-01-01T00:00", DateTimeUtil.formatDateTime(LocalDateTime.of(12, 1, 1, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () ->
+                DateTimeUtil.formatDateTime(LocalDateTime.of(10000, 1, 1, 0, 0)));
+
+        LocalDateTime dateTime = LocalDateTime.of(1999, 12, 31, 23, 59);
+        assertEquals(dateTime.format(DATE_TIME_FORMATTER), DateTimeUtil.formatDateTime(dateTime));
+    }
+
+    @Test
+    public void appendDateTime_appendsToBuilder() {
+        StringBuilder builder = new StringBuilder("from ");
+        DateTimeUtil.appendDateTime(builder, LocalDateTime.of(2023, 9, 15, 9, 5));
+        assertEquals("from 2023-09-15T09:05", builder.toString());
+    }
+
+    @Test
+    public void formatTime() {
+        assertEquals("09:05", DateTimeUtil.formatTime(LocalTime.of(9, 5)));
+        assertEquals("23:59", DateTimeUtil.formatTime(LocalTime.of(23, 59, 30)));
+    }
+
+    private static LocalDateTime parseWithFormatter(String text) {
+        if (!text.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}")) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +126,48 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for splitWords --------------------------------------
+
+    @Test
+    public void splitWords_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.splitWords(null));
+    }
+
+    @Test
+    public void splitWords_validInputs_correctResult() {
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.splitWords(" \t\n\u000B\f\r"));
+        assertEquals(Arrays.asList("Aaa"), StringUtil.splitWords("Aaa"));
+        assertEquals(Arrays.asList("AAA", "bBb", "ccc@1"), StringUtil.splitWords("  AAA \t bBb\nccc@1  "));
+
+        // Same words as splitting with the regular expression
+        String sentence = "\u00A0aaa\u2003bbb ccc";
+        assertEquals(Arrays.asList(sentence.trim().split("\\s+")), StringUtil.splitWords(sentence));
+    }
+
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_nullWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_validInputs_equalIfAndOnlyIfEqualIgnoringCase() {
+        assertEquals(StringUtil.foldCase("bbb"), StringUtil.foldCase("bBB"));
+        assertEquals(StringUtil.foldCase("ccc@1"), StringUtil.foldCase("CCc@1"));
+        assertFalse(StringUtil.foldCase("bb").equals(StringUtil.foldCase("bbb")));
+
+        // Characters which are only equal ignoring case through their upper case or lower case
+        String[] words = {"i", "I", "\u0130", "\u0131", "k", "K", "\u212A", "s", "\u017F", "\u00DF", "\u1E9E"};
+        for (String word : words) {
+            for (String otherWord : words) {
+                assertEquals(word.equalsIgnoreCase(otherWord),
+                        StringUtil.foldCase(word).equals(StringUtil.foldCase(otherWord)), word + " " + otherWord);
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
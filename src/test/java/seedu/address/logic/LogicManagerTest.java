@@ -1,48 +1,85 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddTutorCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteTutorCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListTutorCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UnloadedSchedules;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.exceptions.SchedulesNotLoadedException;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_AMY_COMMAND =
+            AddTutorCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+    private static final String ADD_BOB_COMMAND =
+            AddTutorCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB;
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private AddressBookSaver addressBookSaver;
     private Logic logic;
 
     @BeforeEach
@@ -51,7 +88,14 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new AddressBookSaver(storage);
+        logic = new LogicManager(model, addressBookSaver);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // Saves must be written before the temporary folder is deleted
+        addressBookSaver.close();
     }
 
     @Test
@@ -73,14 +117,170 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+    public void execute_validCommand_savesAddressBook() throws Exception {
+        Path addressBookFilePath = temporaryFolder.resolve("SavedAddressBook.json");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookFilePath);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        addressBookSaver = new AddressBookSaver(
+                new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, addressBookSaver);
+
+        String addTutorCommand = AddTutorCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+        logic.execute(addTutorCommand);
+        addressBookSaver.flush();
+
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_commandWithoutChanges_doesNotSaveAddressBook() throws Exception {
+        logic.execute(ListTutorCommand.COMMAND_WORD);
+        addressBookSaver.flush();
+
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeScript_validScript_appliesAllCommandsAndSaves() throws Exception {
+        Path scriptPath = writeScript("# weekly roster", ADD_AMY_COMMAND, "", ADD_BOB_COMMAND);
+
+        CommandResult result = logic.executeScript(scriptPath);
+        addressBookSaver.flush();
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 2, scriptPath), result.getFeedbackToUser());
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).build());
+        expectedModel.addPerson(new PersonBuilder(BOB).build());
+        assertEquals(expectedModel, model);
+        assertEquals(model.getAddressBook(),
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")).readAddressBook().get());
+    }
+
+    @Test
+    public void executeScript_validScript_notifiesListsOncePerScript() throws Exception {
+        List<ListChangeListener.Change<? extends Person>> personChanges = new ArrayList<>();
+        logic.getFilteredPersonList().addListener((ListChangeListener<Person>) personChanges::add);
+        // the index of the last command refers to the tutors listed after the earlier commands
+        Path scriptPath = writeScript(ADD_AMY_COMMAND, ADD_BOB_COMMAND, DeleteTutorCommand.COMMAND_WORD + " 1");
+
+        logic.executeScript(scriptPath);
+
+        assertEquals(1, personChanges.size());
+        assertEquals(Arrays.asList(new PersonBuilder(BOB).build()), logic.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeScript_failingCommand_noChanges() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY_COMMAND, DeleteTutorCommand.COMMAND_WORD + " 9");
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_SCRIPT_NOT_RUN + "\n"
+                + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 2, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), ()
+                -> logic.executeScript(scriptPath));
+        addressBookSaver.flush();
+
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeScript_commandThrowsUnexpectedException_noChanges() throws Exception {
+        model = new ModelManager() {
+            @Override
+            public void deletePerson(Person target) {
+                throw new IllegalStateException("dummy unexpected exception");
+            }
+        };
+        logic = new LogicManager(model, addressBookSaver);
+        Path scriptPath = writeScript(ADD_AMY_COMMAND, DeleteTutorCommand.COMMAND_WORD + " 1");
+
+        assertThrows(IllegalStateException.class, () -> logic.executeScript(scriptPath));
+        addressBookSaver.flush();
+
+        assertEquals(new ModelManager(), model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeScript_commandsActingOnWindow_reportsEveryLine() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY_COMMAND, ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD,
+                ThemeCommand.COMMAND_WORD + " dark");
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_SCRIPT_NOT_RUN
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 2,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, ExitCommand.COMMAND_WORD))
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 3,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, HelpCommand.COMMAND_WORD))
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 4,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, ThemeCommand.COMMAND_WORD)), ()
+                -> logic.executeScript(scriptPath));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void execute_monthCannotBeLoaded_throwsCommandException() throws Exception {
+        YearMonth january = YearMonth.of(2023, 1);
+        model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), new UserPrefs(),
+                new UnloadedSchedules() {
+                    @Override
+                    public Set<YearMonth> getMonths() {
+                        return Set.of(january);
+                    }
+
+                    @Override
+                    public List<Schedule> load(YearMonth month, ReadOnlyAddressBook addressBook)
+                            throws DataLoadingException {
+                        throw new DataLoadingException(new IOException("Cannot read " + month));
+                    }
+                });
+        logic = new LogicManager(model, addressBookSaver);
+        String expectedMessage = new SchedulesNotLoadedException(january).getMessage();
+
+        // deleting a tutor deletes their schedules in every month, which cannot be done for January
+        assertCommandException(DeleteTutorCommand.COMMAND_WORD + " 1", expectedMessage);
+        assertThrows(CommandException.class, LogicManager.MESSAGE_SCRIPT_NOT_RUN + "\n" + expectedMessage, ()
+                -> logic.executeScript(writeScript(ADD_AMY_COMMAND)));
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void executeScript_invalidLines_reportsEveryLine() throws Exception {
+        Path scriptPath = writeScript("uicfhmowqewca", ADD_AMY_COMMAND, ArchiveCommand.COMMAND_WORD + " 2023-01-01",
+                RunCommand.COMMAND_WORD + " other.txt");
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_SCRIPT_NOT_RUN
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 1, MESSAGE_UNKNOWN_COMMAND)
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 3,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, ArchiveCommand.COMMAND_WORD))
+                + "\n" + String.format(LogicManager.MESSAGE_SCRIPT_LINE_ERROR, 4,
+                        String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD)), ()
+                -> logic.executeScript(scriptPath));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void executeScript_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, () -> logic.executeScript(temporaryFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void execute_runCommand_runsScript() throws Exception {
+        Path scriptPath = writeScript(ADD_AMY_COMMAND);
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath);
+
+        assertEquals(String.format(RunCommand.MESSAGE_SUCCESS, 1, scriptPath), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(new PersonBuilder(AMY).build()), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_reportsSaveFailure() {
+        assertSaveFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
     }
 
     @Test
-    public void execute_storageThrowsAdException_throwsCommandException() {
-        assertCommandFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
+    public void execute_storageThrowsAdException_reportsSaveFailure() {
+        assertSaveFailureForExceptionFromStorage(DUMMY_AD_EXCEPTION, String.format(
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
@@ -99,6 +299,13 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCalendarScheduleList().remove(0));
     }
 
+    /**
+     * Writes a script with {@code lines} to the temporary folder and returns its path.
+     */
+    private Path writeScript(String... lines) throws IOException {
+        return Files.write(temporaryFolder.resolve("script.txt"), Arrays.asList(lines));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -154,11 +361,13 @@ public class LogicManagerTest {
 
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     * The command succeeds, as the address book is saved in the background, and the save failure is reported to the
+     * save failure handler instead.
      *
      * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * @param expectedMessage the message expected to be given to the save failure handler
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private void assertSaveFailureForExceptionFromStorage(IOException e, String expectedMessage) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
@@ -168,20 +377,53 @@ public class LogicManagerTest {
                     throws IOException {
                 throw e;
             }
+
+            @Override
+            public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                    throws IOException {
+                throw e;
+            }
         };
 
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        addressBookSaver = new AddressBookSaver(storage);
+        List<String> saveFailures = new CopyOnWriteArrayList<>();
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, addressBookSaver);
+        logic.setSaveFailureHandler(saveFailures::add);
 
         // Triggers the saveAddressBook method by executing an add command
         String addTutorCommand = AddTutorCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
         Person expectedPerson = new PersonBuilder(AMY).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addTutorCommand, CommandException.class, expectedMessage, expectedModel);
+        String expectedResult = String.format(AddTutorCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson));
+        try {
+            assertCommandSuccess(addTutorCommand, expectedResult, expectedModel);
+        } catch (CommandException | ParseException ex) {
+            throw new AssertionError("Execution of command should not fail.", ex);
+        }
+
+        addressBookSaver.flush();
+        assertEquals(Collections.singletonList(expectedMessage), saveFailures);
+    }
+
+    @Test
+    public void rollOverSchedules_reordersSchedulesOfModel() {
+        Model expectedModel = new ModelManager();
+        for (Model m : Arrays.asList(model, expectedModel)) {
+            m.addPerson(ALICE);
+            m.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+            m.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        }
+        List<Schedule> schedulesBeforeRollOver = new ArrayList<>(model.getAddressBook().getScheduleList());
+        expectedModel.rollOverSchedules(LocalDate.of(2023, 1, 1));
+        assertNotEquals(schedulesBeforeRollOver, expectedModel.getAddressBook().getScheduleList());
+
+        logic.rollOverSchedules(LocalDate.of(2023, 1, 1));
+        assertEquals(expectedModel.getAddressBook().getScheduleList(), model.getAddressBook().getScheduleList());
     }
 
     @Test
@@ -199,7 +441,7 @@ public class LogicManagerTest {
             new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-        Logic logic2 = new LogicManager(model2, storage);
+        Logic logic2 = new LogicManager(model2, new AddressBookSaver(storage));
         assertEquals(model2.getAddressBookFilePath(), logic2.getAddressBookFilePath());
 
         assertEquals(model.getAddressBookFilePath(), logic.getAddressBookFilePath());
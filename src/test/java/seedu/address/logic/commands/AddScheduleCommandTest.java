@@ -18,9 +18,15 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -29,13 +35,17 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.MatchQuality;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.StartTime;
@@ -76,7 +86,7 @@ class AddScheduleCommandTest {
                 SCHEDULE_ALICE_FIRST_JAN.getEndTime());
 
         String expectedMessage = String.format(AddScheduleCommand.MESSAGE_SUCCESS,
-                Messages.format(schedule));
+                Messages.format(schedule, model.getTutor(schedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.addSchedule(schedule);
@@ -96,7 +106,7 @@ class AddScheduleCommandTest {
                 SCHEDULE_ALICE_FIRST_JAN.getEndTime());
 
         String expectedMessage = String.format(AddScheduleCommand.MESSAGE_SUCCESS,
-                Messages.format(schedule));
+                Messages.format(schedule, model.getTutor(schedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
@@ -182,7 +192,7 @@ class AddScheduleCommandTest {
                         .withEndTime(baseScheduleStartTime).build();
 
         String expectedMessage = String.format(AddScheduleCommand.MESSAGE_SUCCESS,
-                Messages.format(schedule));
+                Messages.format(schedule, model.getTutor(schedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.addSchedule(schedule);
@@ -199,7 +209,7 @@ class AddScheduleCommandTest {
                         .withEndTime(baseScheduleEndTime.plusDays(1)).build();
 
         String expectedMessage2 = String.format(AddScheduleCommand.MESSAGE_SUCCESS,
-                Messages.format(schedule2));
+                Messages.format(schedule2, model.getTutor(schedule2)));
 
         expectedModel.addSchedule(schedule2);
 
@@ -216,7 +226,7 @@ class AddScheduleCommandTest {
                         .withEndTime(baseScheduleEndTime).build();
 
         String expectedMessage3 = String.format(AddScheduleCommand.MESSAGE_SUCCESS,
-                Messages.format(schedule3));
+                Messages.format(schedule3, model.getTutor(schedule3)));
 
         expectedModel.addSchedule(schedule3);
 
@@ -329,6 +339,31 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllSchedules() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllSchedulesToChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -344,6 +379,16 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<PersonId> findPersonIdsByNameWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<PersonId, MatchQuality> searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -354,6 +399,11 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addSchedule(Schedule schedule) {
             throw new AssertionError("This method should not be called.");
@@ -364,6 +414,11 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Schedule> findClashes(Schedule schedule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -379,6 +434,21 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void archiveSchedules(List<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> findArchivedSchedules(Person tutor, Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollOverSchedules(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Schedule> getFilteredScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -389,6 +459,21 @@ class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Schedule> getSchedulesOn(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateCalendarDate(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Schedule> getFilteredCalendarScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -405,7 +490,7 @@ class AddScheduleCommandTest {
         }
 
         @Override
-        public void updateTutorSchedules(Person oldPerson, Person editedPerson) {
+        public Person getTutor(Schedule schedule) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -447,8 +532,9 @@ class AddScheduleCommandTest {
         }
 
         @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            return new AddressBook();
+        public List<Schedule> findClashes(Schedule schedule) {
+            requireNonNull(schedule);
+            return schedulesAdded.stream().filter(schedule::isClashing).collect(Collectors.toList());
         }
     }
 }
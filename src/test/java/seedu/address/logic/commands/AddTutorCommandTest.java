@@ -8,8 +8,13 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -19,11 +24,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.MatchQuality;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.PersonBuilder;
 
@@ -139,6 +148,31 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookChanges takeAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllSchedules() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void loadAllSchedulesToChange() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -154,6 +188,16 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Set<PersonId> findPersonIdsByNameWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<PersonId, MatchQuality> searchPersons(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -164,6 +208,11 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addSchedule(Schedule schedule) {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +223,11 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Schedule> findClashes(Schedule schedule) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteSchedule(Schedule target) {
             throw new AssertionError("This method should not be called.");
@@ -189,6 +243,21 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void archiveSchedules(List<Schedule> schedules) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> findArchivedSchedules(Person tutor, Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollOverSchedules(LocalDate today) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Schedule> getFilteredScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -199,6 +268,21 @@ public class AddTutorCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Schedule> getSchedulesOn(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updateCalendarDate(Date date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Schedule> getFilteredCalendarScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -215,7 +299,7 @@ public class AddTutorCommandTest {
         }
 
         @Override
-        public void updateTutorSchedules(Person oldPerson, Person editedPerson) {
+        public Person getTutor(Schedule schedule) {
             throw new AssertionError("This method should not be called.");
         }
     }
@@ -0,0 +1,117 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ScheduleArchive;
+import seedu.address.model.UnloadedSchedules;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Status;
+import seedu.address.storage.JsonScheduleArchive;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model and a schedule archive) and unit tests for
+ * {@code ArchiveCommand}.
+ */
+public class ArchiveCommandTest {
+
+    private static final Schedule COMPLETED_ALICE_FIRST_JAN =
+            new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.COMPLETED).build();
+    private static final Schedule MISSED_BOB_SECOND_JAN =
+            new ScheduleBuilder(SCHEDULE_BOB_SECOND_JAN).withStatus(Status.MISSED).build();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_finishedSchedulesBeforeDate_archived() throws Exception {
+        ScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("ab.archive"));
+        Model model = new ModelManager(getAddressBook(), new UserPrefs(), UnloadedSchedules.NONE, archive);
+
+        AddressBook expectedAddressBook = getAddressBook();
+        expectedAddressBook.removeSchedules(Arrays.asList(COMPLETED_ALICE_FIRST_JAN, MISSED_BOB_SECOND_JAN));
+        Model expectedModel = new ModelManager(expectedAddressBook, new UserPrefs());
+
+        ArchiveCommand archiveCommand = new ArchiveCommand(new Date(LocalDate.of(2023, 1, 3)));
+        assertCommandSuccess(archiveCommand, model,
+                String.format(ArchiveCommand.MESSAGE_SUCCESS, 2, new Date(LocalDate.of(2023, 1, 3))), expectedModel);
+
+        assertEquals(Arrays.asList(COMPLETED_ALICE_FIRST_JAN), model.findArchivedSchedules(ALICE,
+                new Date(LocalDate.MIN), new Date(LocalDate.MAX)));
+    }
+
+    @Test
+    public void execute_finishedSchedulesOnDate_notArchived() {
+        ScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("ab.archive"));
+        Model model = new ModelManager(getAddressBook(), new UserPrefs(), UnloadedSchedules.NONE, archive);
+        Model expectedModel = new ModelManager(getAddressBook(), new UserPrefs());
+
+        Date date = new Date(LocalDate.of(2023, 1, 1));
+        assertCommandSuccess(new ArchiveCommand(date), model,
+                String.format(ArchiveCommand.MESSAGE_SUCCESS, 0, date), expectedModel);
+    }
+
+    @Test
+    public void execute_noArchive_failure() {
+        Model model = new ModelManager(getAddressBook(), new UserPrefs());
+
+        assertCommandFailure(new ArchiveCommand(new Date(LocalDate.of(2023, 1, 3))), model,
+                String.format(ArchiveCommand.MESSAGE_ARCHIVE_FAILED, ScheduleArchive.MESSAGE_NO_ARCHIVE));
+    }
+
+    @Test
+    public void constructor_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ArchiveCommand(null));
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveFirstCommand = new ArchiveCommand(new Date(LocalDate.of(2023, 9, 15)));
+        ArchiveCommand archiveSecondCommand = new ArchiveCommand(new Date(LocalDate.of(2023, 9, 16)));
+
+        // same object -> returns true
+        assertTrue(archiveFirstCommand.equals(archiveFirstCommand));
+
+        // same values -> returns true
+        assertTrue(archiveFirstCommand.equals(new ArchiveCommand(new Date(LocalDate.of(2023, 9, 15)))));
+
+        // different types -> returns false
+        assertFalse(archiveFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(archiveFirstCommand.equals(null));
+
+        // different date -> returns false
+        assertFalse(archiveFirstCommand.equals(archiveSecondCommand));
+    }
+
+    private static AddressBook getAddressBook() {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        addressBook.addSchedule(COMPLETED_ALICE_FIRST_JAN);
+        addressBook.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        addressBook.addSchedule(MISSED_BOB_SECOND_JAN);
+        return addressBook;
+    }
+}
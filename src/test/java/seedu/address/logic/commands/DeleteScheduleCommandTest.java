@@ -32,7 +32,7 @@ public class DeleteScheduleCommandTest {
         DeleteScheduleCommand deleteScheduleCommand = new DeleteScheduleCommand(INDEX_FIRST_PERSON);
 
         String expectedMessage = String.format(DeleteScheduleCommand.MESSAGE_DELETE_SCHEDULE_SUCCESS,
-                Messages.format(scheduleToDelete));
+                Messages.format(scheduleToDelete, model.getTutor(scheduleToDelete)));
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
         expectedModel.deleteSchedule(scheduleToDelete);
@@ -47,7 +47,7 @@ public class EditScheduleCommandTest {
         EditScheduleCommand editScheduleCommand = new EditScheduleCommand(INDEX_SECOND_SCHEDULE, descriptor);
 
         String expectedMessage = String.format(EditScheduleCommand.MESSAGE_EDIT_SCHEDULE_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(model.getFilteredScheduleList().get(1), editedSchedule);
@@ -70,7 +70,7 @@ public class EditScheduleCommandTest {
         EditScheduleCommand editScheduleCommand = new EditScheduleCommand(indexLastSchedule, descriptor);
 
         String expectedMessage = String.format(EditScheduleCommand.MESSAGE_EDIT_SCHEDULE_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(lastSchedule, editedSchedule);
@@ -85,7 +85,7 @@ public class EditScheduleCommandTest {
         Schedule editedSchedule = model.getFilteredScheduleList().get(INDEX_FIRST_SCHEDULE.getZeroBased());
 
         String expectedMessage = String.format(EditScheduleCommand.MESSAGE_EDIT_SCHEDULE_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
 
@@ -105,7 +105,7 @@ public class EditScheduleCommandTest {
             new EditScheduleDescriptorBuilder().withStartTime(newStartTime.toString()).build());
 
         String expectedMessage = String.format(EditScheduleCommand.MESSAGE_EDIT_SCHEDULE_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(model.getFilteredScheduleList().get(0), editedSchedule);
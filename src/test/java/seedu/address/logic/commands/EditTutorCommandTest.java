@@ -46,7 +46,6 @@ public class EditTutorCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         Person oldPerson = model.getFilteredPersonList().get(0);
-        expectedModel.updateTutorSchedules(oldPerson, editedPerson);
         expectedModel.setPerson(oldPerson, editedPerson);
 
         assertCommandSuccess(editTutorCommand, model, expectedMessage, expectedModel);
@@ -68,7 +67,6 @@ public class EditTutorCommandTest {
             Messages.format(editedPerson));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
-        expectedModel.updateTutorSchedules(lastPerson, editedPerson);
         expectedModel.setPerson(lastPerson, editedPerson);
 
         assertCommandSuccess(editTutorCommand, model, expectedMessage, expectedModel);
@@ -101,7 +99,6 @@ public class EditTutorCommandTest {
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         Person oldPerson = model.getFilteredPersonList().get(0);
-        expectedModel.updateTutorSchedules(oldPerson, editedPerson);
         expectedModel.setPerson(oldPerson, editedPerson);
 
         assertCommandSuccess(editTutorCommand, model, expectedMessage, expectedModel);
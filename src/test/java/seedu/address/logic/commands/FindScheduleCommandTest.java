@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_2;
@@ -19,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.schedule.TutorNameContainsKeywordsPredicate;
+import seedu.address.model.schedule.TutorPredicate;
 import seedu.address.testutil.TypicalSchedules;
 
 /**
@@ -67,7 +69,7 @@ public class FindScheduleCommandTest {
         String expectedMessage = String.format(MESSAGE_SCHEDULES_LISTED_OVERVIEW, 0);
         TutorNameContainsKeywordsPredicate predicate = preparePredicate(" ");
         FindScheduleCommand command = new FindScheduleCommand(predicate);
-        expectedModel.updateFilteredScheduleList(predicate);
+        expectedModel.updateFilteredScheduleList(schedule -> false);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredScheduleList());
     }
@@ -77,7 +79,7 @@ public class FindScheduleCommandTest {
         String expectedMessage = String.format(MESSAGE_SCHEDULES_LISTED_OVERVIEW, 3);
         TutorNameContainsKeywordsPredicate predicate = preparePredicate("Alice");
         FindScheduleCommand command = new FindScheduleCommand(predicate);
-        expectedModel.updateFilteredScheduleList(predicate);
+        expectedModel.updateFilteredScheduleList(new TutorPredicate(ALICE));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Arrays.asList(SCHEDULE_ALICE_SECOND_JAN_2, SCHEDULE_ALICE_SECOND_JAN_1, SCHEDULE_ALICE_FIRST_JAN),
             model.getFilteredScheduleList());
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ScheduleArchive;
+import seedu.address.model.UnloadedSchedules;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.Date;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Status;
+import seedu.address.storage.JsonScheduleArchive;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Contains integration tests (interaction with the Model and a schedule archive) and unit tests for
+ * {@code ListArchiveCommand}.
+ */
+public class ListArchiveCommandTest {
+
+    private static final Date FIRST_DATE = new Date(LocalDate.MIN);
+    private static final Date LAST_DATE = new Date(LocalDate.MAX);
+    private static final Schedule ALICE_JAN = new ScheduleBuilder().withTutor(ALICE)
+            .withStartTime(LocalDateTime.of(2023, 1, 5, 9, 0)).withEndTime(LocalDateTime.of(2023, 1, 5, 10, 0))
+            .withStatus(Status.COMPLETED).build();
+    private static final Schedule ALICE_FEB = new ScheduleBuilder().withTutor(ALICE)
+            .withStartTime(LocalDateTime.of(2023, 2, 5, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 5, 10, 0))
+            .withStatus(Status.MISSED).build();
+    private static final Schedule BOB_JAN = new ScheduleBuilder().withTutor(BOB)
+            .withStartTime(LocalDateTime.of(2023, 1, 5, 9, 0)).withEndTime(LocalDateTime.of(2023, 1, 5, 10, 0))
+            .withStatus(Status.COMPLETED).build();
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        ScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("ab.archive"));
+        archive.append(Arrays.asList(ALICE_FEB, BOB_JAN, ALICE_JAN));
+        model = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs(), UnloadedSchedules.NONE,
+                archive);
+        expectedModel = new ModelManager(TypicalPersons.getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allDates_listsArchivedSchedulesOfTutor() {
+        String expectedMessage = String.format(Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW, 2)
+                + "\n" + Messages.format(ALICE_JAN, ALICE) + "\n" + Messages.format(ALICE_FEB, ALICE);
+        assertCommandSuccess(new ListArchiveCommand(INDEX_FIRST_PERSON, FIRST_DATE, LAST_DATE), model,
+                expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_dateRange_listsArchivedSchedulesInRange() {
+        String expectedMessage = String.format(Messages.MESSAGE_SCHEDULES_LISTED_OVERVIEW, 1)
+                + "\n" + Messages.format(ALICE_FEB, ALICE);
+        ListArchiveCommand command = new ListArchiveCommand(INDEX_FIRST_PERSON, new Date(LocalDate.of(2023, 2, 1)),
+                new Date(LocalDate.of(2023, 2, 28)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new ListArchiveCommand(outOfBoundIndex, FIRST_DATE, LAST_DATE), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        ListArchiveCommand listFirstCommand = new ListArchiveCommand(INDEX_FIRST_PERSON, FIRST_DATE, LAST_DATE);
+
+        // same object -> returns true
+        assertTrue(listFirstCommand.equals(listFirstCommand));
+
+        // same values -> returns true
+        assertTrue(listFirstCommand.equals(new ListArchiveCommand(INDEX_FIRST_PERSON, FIRST_DATE, LAST_DATE)));
+
+        // different types -> returns false
+        assertFalse(listFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(listFirstCommand.equals(new ListArchiveCommand(INDEX_SECOND_PERSON, FIRST_DATE, LAST_DATE)));
+
+        // different dates -> returns false
+        assertFalse(listFirstCommand.equals(new ListArchiveCommand(INDEX_FIRST_PERSON, FIRST_DATE, FIRST_DATE)));
+    }
+}
@@ -35,7 +35,7 @@ public class MarkScheduleCommandTest {
         MarkScheduleCommand markScheduleCommand = new MarkScheduleCommand(INDEX_FIRST_SCHEDULE, Status.MISSED);
 
         String expectedMessage = String.format(MarkScheduleCommand.MESSAGE_MARK_MISSED_SUCCESS,
-                Messages.format(editedSchedule));
+                Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
@@ -51,7 +51,7 @@ public class MarkScheduleCommandTest {
         MarkScheduleCommand markScheduleCommand = new MarkScheduleCommand(INDEX_FIRST_SCHEDULE, Status.COMPLETED);
 
         String expectedMessage = String.format(MarkScheduleCommand.MESSAGE_MARK_COMPLETED_SUCCESS,
-                Messages.format(editedSchedule));
+                Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
@@ -71,7 +71,7 @@ public class MarkScheduleCommandTest {
         MarkScheduleCommand markScheduleCommand = new MarkScheduleCommand(INDEX_FIRST_SCHEDULE, Status.MISSED);
 
         String expectedMessage = String.format(MarkScheduleCommand.MESSAGE_MARK_MISSED_SUCCESS,
-                Messages.format(editedSchedule));
+                Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
@@ -91,7 +91,7 @@ public class MarkScheduleCommandTest {
         MarkScheduleCommand markScheduleCommand = new MarkScheduleCommand(INDEX_FIRST_SCHEDULE, Status.COMPLETED);
 
         String expectedMessage = String.format(MarkScheduleCommand.MESSAGE_MARK_COMPLETED_SUCCESS,
-                Messages.format(editedSchedule));
+                Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
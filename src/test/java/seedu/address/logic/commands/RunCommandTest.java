@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+
+/**
+ * Contains unit tests for {@code RunCommand}. Running scripts is tested in {@code LogicManagerTest}.
+ */
+public class RunCommandTest {
+
+    @Test
+    public void constructor_nullScriptPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunCommand(null));
+    }
+
+    @Test
+    public void execute_onModel_failure() {
+        assertCommandFailure(new RunCommand(Paths.get("roster.txt")), new ModelManager(),
+                String.format(RunCommand.MESSAGE_NOT_IN_SCRIPT, RunCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Paths.get("first.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Paths.get("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different script path -> returns false
+        assertFalse(runFirstCommand.equals(new RunCommand(Paths.get("second.txt"))));
+    }
+}
@@ -7,6 +7,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -14,7 +15,6 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.schedule.Date;
-import seedu.address.model.schedule.ScheduleIsOnDatePredicate;
 import seedu.address.testutil.TypicalSchedules;
 
 /**
@@ -31,11 +31,21 @@ public class ShowCalendarCommandTest {
         ShowCalendarCommand showCalendarCommand = new ShowCalendarCommand(date);
 
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
-        expectedModel.updateFilteredCalendarScheduleList(new ScheduleIsOnDatePredicate(date));
+        expectedModel.updateCalendarDate(date);
 
         assertCommandSuccess(showCalendarCommand, model, ShowCalendarCommand.MESSAGE_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void execute_dateWithSchedules_showsOnlySchedulesOnDate() throws Exception {
+        Date date = new Date(LocalDate.of(2023, 1, 2));
+        new ShowCalendarCommand(date).execute(model);
+
+        assertEquals(Arrays.asList(TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1,
+            TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_2, TypicalSchedules.SCHEDULE_BOB_SECOND_JAN),
+            model.getFilteredCalendarScheduleList());
+    }
+
     @Test
     public void execute_nullDate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new ShowCalendarCommand(null));
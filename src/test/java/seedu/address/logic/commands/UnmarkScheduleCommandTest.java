@@ -34,7 +34,7 @@ public class UnmarkScheduleCommandTest {
         UnmarkScheduleCommand unmarkScheduleCommand = new UnmarkScheduleCommand(INDEX_FIRST_SCHEDULE);
 
         String expectedMessage = String.format(UnmarkScheduleCommand.MESSAGE_UNMARK_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
@@ -54,7 +54,7 @@ public class UnmarkScheduleCommandTest {
         UnmarkScheduleCommand unmarkScheduleCommand = new UnmarkScheduleCommand(INDEX_FIRST_SCHEDULE);
 
         String expectedMessage = String.format(UnmarkScheduleCommand.MESSAGE_UNMARK_SUCCESS,
-            Messages.format(editedSchedule));
+            Messages.format(editedSchedule, model.getTutor(editedSchedule)));
 
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         expectedModel.setSchedule(firstSchedule, editedSchedule);
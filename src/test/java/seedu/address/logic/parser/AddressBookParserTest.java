@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_SCHEDULE;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddScheduleCommand;
 import seedu.address.logic.commands.AddTutorCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteScheduleCommand;
 import seedu.address.logic.commands.DeleteTutorCommand;
@@ -29,9 +31,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindScheduleCommand;
 import seedu.address.logic.commands.FindTutorCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListArchiveCommand;
 import seedu.address.logic.commands.ListScheduleCommand;
 import seedu.address.logic.commands.ListTutorCommand;
 import seedu.address.logic.commands.MarkScheduleCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.SearchTutorCommand;
 import seedu.address.logic.commands.ShowCalendarCommand;
 import seedu.address.logic.commands.ThemeCommand;
 import seedu.address.logic.commands.UnmarkScheduleCommand;
@@ -97,6 +102,14 @@ public class AddressBookParserTest {
         assertEquals(new FindTutorCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_searchTutor() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        SearchTutorCommand command = (SearchTutorCommand) parser.parseCommand(
+                SearchTutorCommand.COMMAND_WORD + " " + String.join(" ", keywords));
+        assertEquals(new SearchTutorCommand(keywords), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -111,6 +124,27 @@ public class AddressBookParserTest {
         assertEquals(new ThemeCommand(themePath, theme), command);
     }
 
+    @Test
+    public void parseCommand_archive() throws Exception {
+        Date date = new Date(LocalDate.of(2023, 9, 15));
+        ArchiveCommand command = (ArchiveCommand) parser.parseCommand(ArchiveCommand.COMMAND_WORD + " 2023-09-15");
+        assertEquals(new ArchiveCommand(date), command);
+    }
+
+    @Test
+    public void parseCommand_listArchive() throws Exception {
+        ListArchiveCommand command = (ListArchiveCommand) parser.parseCommand(ListArchiveCommand.COMMAND_WORD
+            + " " + INDEX_FIRST_PERSON.getOneBased() + " 2023-09-01 2023-09-30");
+        assertEquals(new ListArchiveCommand(INDEX_FIRST_PERSON, new Date(LocalDate.of(2023, 9, 1)),
+            new Date(LocalDate.of(2023, 9, 30))), command);
+    }
+
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " roster.txt");
+        assertEquals(new RunCommand(Paths.get("roster.txt")), command);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListTutorCommand.COMMAND_WORD) instanceof ListTutorCommand);
@@ -4,6 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +148,39 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesAtSamePosition_longestPrefixTaken() {
+        Prefix dashTt = new Prefix("-tt");
+        String argsString = "preamble -tt value -t other value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTt);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTt, "value");
+        assertArgumentPresent(argMultimap, dashT, "other value");
+    }
+
+    @Test
+    public void tokenize_randomArguments_sameAsSearchingEachPrefix() {
+        Prefix[] prefixes = {PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_START_TIME, PREFIX_END_TIME,
+            PREFIX_STATUS};
+        String[] pieces = {" ", "  ", "\t", "n/", "p/", "e/", "st/", "et/", "m/", "s", "t", "/", "a", "1", "-"};
+        Random random = new Random(20231018);
+
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder argsString = new StringBuilder();
+            int pieceCount = random.nextInt(20);
+            for (int j = 0; j < pieceCount; j++) {
+                argsString.append(pieces[random.nextInt(pieces.length)]);
+            }
+
+            ArgumentMultimap expected = SearchingArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+            ArgumentMultimap actual = ArgumentTokenizer.tokenize(argsString.toString(), prefixes);
+            assertEquals(expected.getPreamble(), actual.getPreamble(), argsString.toString());
+            for (Prefix prefix : prefixes) {
+                assertEquals(expected.getAllValues(prefix), actual.getAllValues(prefix), argsString.toString());
+            }
+        }
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -147,4 +192,49 @@ public class ArgumentTokenizerTest {
         assertNotEquals(aaa, new Prefix("aab"));
     }
 
+    /**
+     * The previous {@code ArgumentTokenizer}, which searches the arguments string for each prefix in turn, to check
+     * the single pass tokenizer against.
+     */
+    private static class SearchingArgumentTokenizer {
+
+        static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
+            List<PrefixPosition> positions = Arrays.stream(prefixes)
+                    .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
+                    .collect(Collectors.toList());
+            positions.sort((prefix1, prefix2) -> prefix1.startPosition - prefix2.startPosition);
+            positions.add(0, new PrefixPosition(new Prefix(""), 0));
+            positions.add(new PrefixPosition(new Prefix(""), argsString.length()));
+
+            ArgumentMultimap argMultimap = new ArgumentMultimap();
+            for (int i = 0; i < positions.size() - 1; i++) {
+                PrefixPosition current = positions.get(i);
+                int valueStartPos = current.startPosition + current.prefix.getPrefix().length();
+                argMultimap.put(current.prefix,
+                        argsString.substring(valueStartPos, positions.get(i + 1).startPosition).trim());
+            }
+            return argMultimap;
+        }
+
+        private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
+            List<PrefixPosition> positions = new ArrayList<>();
+            int prefixIndex = argsString.indexOf(" " + prefix.getPrefix());
+            while (prefixIndex != -1) {
+                positions.add(new PrefixPosition(prefix, prefixIndex + 1));
+                prefixIndex = argsString.indexOf(" " + prefix.getPrefix(), prefixIndex + 1);
+            }
+            return positions;
+        }
+
+        private static class PrefixPosition {
+            private final Prefix prefix;
+            private final int startPosition;
+
+            PrefixPosition(Prefix prefix, int startPosition) {
+                this.prefix = prefix;
+                this.startPosition = startPosition;
+            }
+        }
+    }
+
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListArchiveCommand;
+import seedu.address.model.schedule.Date;
+
+public class ListArchiveCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListArchiveCommand.MESSAGE_USAGE);
+
+    private ListArchiveCommandParser parser = new ListArchiveCommandParser();
+
+    @Test
+    public void parse_indexOnly_returnsListArchiveCommandOfAllDates() {
+        assertParseSuccess(parser, " 1", new ListArchiveCommand(INDEX_FIRST_PERSON, new Date(LocalDate.MIN),
+                new Date(LocalDate.MAX)));
+    }
+
+    @Test
+    public void parse_indexAndDates_returnsListArchiveCommand() {
+        assertParseSuccess(parser, " 1 2023-09-01  2023-09-30", new ListArchiveCommand(INDEX_FIRST_PERSON,
+                new Date(LocalDate.of(2023, 9, 1)), new Date(LocalDate.of(2023, 9, 30))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2023-09-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2023-09-01 a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 2023-09-30 2023-09-01", MESSAGE_INVALID_FORMAT);
+    }
+}
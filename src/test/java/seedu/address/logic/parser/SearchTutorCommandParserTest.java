@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchTutorCommand;
+
+public class SearchTutorCommandParserTest {
+
+    private SearchTutorCommandParser parser = new SearchTutorCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchTutorCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchTutorCommand() {
+        // no leading and trailing whitespaces
+        SearchTutorCommand expectedSearchTutorCommand = new SearchTutorCommand(Arrays.asList("Alcie", "9435"));
+        assertParseSuccess(parser, "Alcie 9435", expectedSearchTutorCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Alcie \n \t 9435  \t", expectedSearchTutorCommand);
+    }
+
+}
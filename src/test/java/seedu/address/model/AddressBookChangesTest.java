@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class AddressBookChangesTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2023, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2023, 2);
+
+    @Test
+    public void constructor_nullMonths_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookChanges(false, null));
+        assertThrows(NullPointerException.class, () -> new AddressBookChanges(false, Set.of(), null));
+    }
+
+    @Test
+    public void constructor_monthsChangedAfterwards_changesUnchanged() {
+        Set<YearMonth> months = new HashSet<>(Set.of(JANUARY));
+        AddressBookChanges changes = new AddressBookChanges(false, months);
+        months.add(FEBRUARY);
+        assertEquals(Set.of(JANUARY), changes.getChangedScheduleMonths());
+        assertThrows(UnsupportedOperationException.class, () -> changes.getChangedScheduleMonths().add(FEBRUARY));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertTrue(AddressBookChanges.NONE.isEmpty());
+        assertFalse(new AddressBookChanges(true, Collections.emptySet()).isEmpty());
+        assertFalse(new AddressBookChanges(false, Set.of(JANUARY)).isEmpty());
+    }
+
+    @Test
+    public void union() {
+        AddressBookChanges personChanges = new AddressBookChanges(true, Set.of(JANUARY));
+        AddressBookChanges scheduleChanges = new AddressBookChanges(false, Set.of(FEBRUARY));
+        assertEquals(new AddressBookChanges(true, Set.of(JANUARY, FEBRUARY)), personChanges.union(scheduleChanges));
+        assertEquals(scheduleChanges, AddressBookChanges.NONE.union(scheduleChanges));
+
+        // the months left unloaded are those after the later changes
+        AddressBookChanges earlierChanges = new AddressBookChanges(false, Set.of(JANUARY), Set.of(FEBRUARY));
+        AddressBookChanges laterChanges = new AddressBookChanges(false, Set.of(FEBRUARY), Collections.emptySet());
+        assertEquals(new AddressBookChanges(false, Set.of(JANUARY, FEBRUARY), Collections.emptySet()),
+                earlierChanges.union(laterChanges));
+    }
+
+    @Test
+    public void getMonthOf() {
+        assertEquals(JANUARY, AddressBookChanges.getMonthOf(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void equals() {
+        AddressBookChanges changes = new AddressBookChanges(true, Set.of(JANUARY));
+
+        // same values -> returns true
+        assertTrue(changes.equals(new AddressBookChanges(true, Set.of(JANUARY))));
+
+        // same object -> returns true
+        assertTrue(changes.equals(changes));
+
+        // null -> returns false
+        assertFalse(changes.equals(null));
+
+        // different type -> returns false
+        assertFalse(changes.equals(5));
+
+        // different persons changed -> returns false
+        assertFalse(changes.equals(new AddressBookChanges(false, Set.of(JANUARY))));
+
+        // different months -> returns false
+        assertFalse(changes.equals(new AddressBookChanges(true, Set.of(FEBRUARY))));
+
+        // different unloaded months -> returns false
+        assertFalse(changes.equals(new AddressBookChanges(true, Set.of(JANUARY), Set.of(FEBRUARY))));
+    }
+}
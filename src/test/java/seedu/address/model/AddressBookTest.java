@@ -7,6 +7,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
 
 import java.time.LocalDateTime;
@@ -14,17 +15,23 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.StartTime;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
+import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.ScheduleBuilder;
 
@@ -49,6 +56,21 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withValidReadOnlyAddressBook_notifiesEachListOnce() {
+        addressBook.addPerson(ALICE);
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        int[] personChangeCount = {0};
+        int[] scheduleChangeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> personChangeCount[0]++);
+        addressBook.getScheduleList().addListener((ListChangeListener<Schedule>) change -> scheduleChangeCount[0]++);
+
+        addressBook.resetData(getTypicalAddressBook());
+
+        assertEquals(1, personChangeCount[0]);
+        assertEquals(1, scheduleChangeCount[0]);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields
@@ -111,7 +133,7 @@ public class AddressBookTest {
                 1, 0, 0, 0));
         EndTime endTime = new EndTime(LocalDateTime.of(2023, 1,
                 1, 1, 0, 0));
-        Schedule schedule = new Schedule(ALICE, startTime, endTime);
+        Schedule schedule = new Schedule(ALICE.getId(), startTime, endTime);
         addressBook.addSchedule(schedule);
         assertThrows(DuplicateScheduleException.class, () -> addressBook.addSchedule(schedule));
     }
@@ -132,6 +154,47 @@ public class AddressBookTest {
         assertFalse(addressBook.hasSchedule(SCHEDULE_ALICE_FIRST_JAN));
     }
 
+    @Test
+    public void getSchedulesOf_tutorWithSchedules_returnsOnlyTheirSchedulesInStartOrder() {
+        addressBook.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        addressBook.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+
+        assertEquals(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_ALICE_SECOND_JAN_1),
+            addressBook.getSchedulesOf(ALICE));
+        assertEquals(Collections.emptyList(), addressBook.getSchedulesOf(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void getSchedulesOf_afterSetAndRemoveSchedule_reflectsChanges() {
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        addressBook.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        addressBook.setSchedule(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_BOB_SECOND_JAN);
+        assertEquals(Collections.singletonList(SCHEDULE_ALICE_SECOND_JAN_1), addressBook.getSchedulesOf(ALICE));
+
+        addressBook.removeSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        assertEquals(Collections.emptyList(), addressBook.getSchedulesOf(ALICE));
+    }
+
+    @Test
+    public void removeSchedules_scheduleNotInAddressBook_throwsScheduleNotFoundException() {
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        assertThrows(ScheduleNotFoundException.class, () -> addressBook
+            .removeSchedules(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_BOB_SECOND_JAN)));
+        assertTrue(addressBook.hasSchedule(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void removeSchedules_schedulesInAddressBook_removesSchedules() {
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        addressBook.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        addressBook.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        addressBook.removeSchedules(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_ALICE_SECOND_JAN_1));
+
+        assertEquals(Collections.singletonList(SCHEDULE_BOB_SECOND_JAN), addressBook.getScheduleList());
+        assertEquals(Collections.emptyList(), addressBook.getSchedulesOf(ALICE));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -166,10 +229,25 @@ public class AddressBookTest {
             return persons;
         }
 
+        @Override
+        public Optional<Person> getPerson(PersonId id) {
+            return persons.stream().filter(person -> person.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public Optional<Person> getPerson(Name name) {
+            return persons.stream().filter(person -> person.getName().equals(name)).findFirst();
+        }
+
         @Override
         public ObservableList<Schedule> getScheduleList() {
             return schedules;
         }
+
+        @Override
+        public List<Schedule> getSchedulesBetween(Date startDate, Date endDate) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
@@ -7,24 +7,38 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.schedule.Date;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleIsOnDatePredicate;
 import seedu.address.model.schedule.Status;
+import seedu.address.model.schedule.exceptions.SchedulesNotLoadedException;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.ScheduleBuilder;
@@ -109,11 +123,236 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void deletePerson_targetWithOtherId_throwsPersonNotFoundException() {
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        assertThrows(PersonNotFoundException.class, () ->
+            modelManager.deletePerson(new PersonBuilder(ALICE).withId(PersonId.generate().value).build()));
+        assertTrue(modelManager.hasSchedule(SCHEDULE_ALICE_FIRST_JAN));
+        assertTrue(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void deletePerson_personWithSchedules_notifiesEachListOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        modelManager.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        List<ListChangeListener.Change<? extends Person>> personChanges = recordChanges(
+            modelManager.getFilteredPersonList());
+        List<ListChangeListener.Change<? extends Schedule>> scheduleChanges = recordChanges(
+            modelManager.getFilteredScheduleList());
+
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(1, personChanges.size());
+        assertEquals(1, scheduleChanges.size());
+        assertEquals(Arrays.asList(SCHEDULE_BOB_SECOND_JAN), modelManager.getFilteredScheduleList());
+    }
+
+    @Test
+    public void beginBatch_changesMade_notifiedOnceOnOutermostCommit() {
+        // JavaFX hands exceptions thrown by list listeners to the uncaught exception handler instead of the caller
+        List<Throwable> uncaughtExceptions = new ArrayList<>();
+        Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        Thread.currentThread().setUncaughtExceptionHandler((thread, exception) -> uncaughtExceptions.add(exception));
+        try {
+            List<ListChangeListener.Change<? extends Person>> personChanges = recordChanges(
+                modelManager.getFilteredPersonList());
+            List<ListChangeListener.Change<? extends Schedule>> scheduleChanges = recordChanges(
+                modelManager.getFilteredScheduleList());
+
+            modelManager.beginBatch();
+            modelManager.addPerson(ALICE);
+            modelManager.addPerson(BOB);
+            modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+            modelManager.beginBatch();
+            modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Bob")));
+            modelManager.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+            modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+            modelManager.commitBatch();
+
+            // changes are applied immediately, and seen in the filtered lists, but only reported once the outermost
+            // batch is committed
+            assertTrue(modelManager.hasSchedule(SCHEDULE_ALICE_SECOND_JAN_1));
+            assertEquals(Arrays.asList(ALICE, BOB), modelManager.getFilteredPersonList());
+            assertEquals(0, personChanges.size());
+            assertEquals(0, scheduleChanges.size());
+
+            modelManager.commitBatch();
+            assertEquals(1, personChanges.size());
+            assertEquals(1, scheduleChanges.size());
+            assertEquals(modelManager.getAddressBook().getPersonList(), modelManager.getFilteredPersonList());
+            assertEquals(modelManager.getAddressBook().getScheduleList(), modelManager.getFilteredScheduleList());
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+        assertEquals(List.of(), uncaughtExceptions);
+    }
+
+    @Test
+    public void setAddressBook_bothListsReplaced_observersSeeBothReplaced() {
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        AddressBook newData = new AddressBookBuilder().withPerson(BOB).build();
+        newData.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        List<List<Schedule>> schedulesSeen = new ArrayList<>();
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change ->
+            schedulesSeen.add(new ArrayList<>(modelManager.getFilteredScheduleList())));
+
+        modelManager.setAddressBook(newData);
+        assertEquals(List.of(List.of(SCHEDULE_BOB_SECOND_JAN)), schedulesSeen);
+    }
+
+    @Test
+    public void takeAddressBookChanges_changesMade_returnsChangedSectionsOnce() {
+        Schedule februarySchedule = new ScheduleBuilder(SCHEDULE_BOB_SECOND_JAN)
+            .withStartTime(LocalDateTime.of(2023, 2, 1, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 1, 10, 0)).build();
+        assertEquals(AddressBookChanges.NONE, modelManager.takeAddressBookChanges());
+
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+        assertEquals(new AddressBookChanges(true, Collections.emptySet()), modelManager.takeAddressBookChanges());
+
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.addSchedule(februarySchedule);
+        assertEquals(new AddressBookChanges(false, Set.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2))),
+            modelManager.takeAddressBookChanges());
+        assertEquals(AddressBookChanges.NONE, modelManager.takeAddressBookChanges());
+
+        modelManager.setSchedule(februarySchedule, new ScheduleBuilder(februarySchedule).withStatus(Status.COMPLETED)
+            .build());
+        assertEquals(new AddressBookChanges(false, Set.of(YearMonth.of(2023, 2))),
+            modelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void takeAddressBookChanges_schedulesOnlyReordered_returnsNoChanges() {
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        modelManager.takeAddressBookChanges();
+
+        modelManager.rollOverSchedules(LocalDate.of(2023, 1, 2));
+        modelManager.rollOverSchedules(LocalDate.of(2000, 1, 1));
+        assertEquals(AddressBookChanges.NONE, modelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void updateCalendarDate_monthLeftInStorage_loadsOnlyThatMonth() {
+        UnloadedSchedulesStub unloadedSchedules = new UnloadedSchedulesStub();
+        ModelManager lazyModelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BOB)
+            .build(), new UserPrefs(), unloadedSchedules);
+        assertTrue(lazyModelManager.getFilteredScheduleList().isEmpty());
+
+        lazyModelManager.updateCalendarDate(new Date(LocalDate.of(2023, 1, 2)));
+        assertEquals(Arrays.asList(SCHEDULE_BOB_SECOND_JAN), lazyModelManager.getFilteredCalendarScheduleList());
+        assertEquals(Arrays.asList(YearMonth.of(2023, 1)), unloadedSchedules.loadedMonths);
+        assertEquals(2, lazyModelManager.getFilteredScheduleList().size());
+
+        // loading schedules is not a change to save, but the month is no longer left in storage
+        AddressBookChanges changes = lazyModelManager.takeAddressBookChanges();
+        assertTrue(changes.isEmpty());
+        assertEquals(Set.of(YearMonth.of(2023, 2)), changes.getUnloadedScheduleMonths());
+    }
+
+    @Test
+    public void findClashes_monthLeftInStorage_findsClashWithLoadedSchedule() {
+        ModelManager lazyModelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BOB)
+            .build(), new UserPrefs(), new UnloadedSchedulesStub());
+        Schedule clashingSchedule = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(LocalDateTime.of(2023, 1, 1, 10, 0)).withEndTime(LocalDateTime.of(2023, 1, 1, 12, 0))
+            .build();
+
+        assertEquals(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN), lazyModelManager.findClashes(clashingSchedule));
+        assertTrue(lazyModelManager.hasSchedule(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void loadAllSchedules_monthCannotBeLoaded_leavesMonthInStorage() {
+        UnloadedSchedulesStub unloadedSchedules = new UnloadedSchedulesStub();
+        unloadedSchedules.failingMonths.add(YearMonth.of(2023, 2));
+        ModelManager lazyModelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BOB)
+            .build(), new UserPrefs(), unloadedSchedules);
+
+        lazyModelManager.loadAllSchedules();
+        assertEquals(2, lazyModelManager.getFilteredScheduleList().size());
+
+        // only the month which could not be loaded is loaded again
+        unloadedSchedules.failingMonths.clear();
+        lazyModelManager.loadAllSchedules();
+        lazyModelManager.loadAllSchedules();
+        assertEquals(Arrays.asList(YearMonth.of(2023, 1), YearMonth.of(2023, 2)), unloadedSchedules.loadedMonths);
+        assertEquals(3, lazyModelManager.getFilteredScheduleList().size());
+    }
+
+    @Test
+    public void changeSchedules_monthCannotBeLoaded_throwsSchedulesNotLoadedException() {
+        UnloadedSchedulesStub unloadedSchedules = new UnloadedSchedulesStub();
+        unloadedSchedules.failingMonths.add(YearMonth.of(2023, 2));
+        ModelManager lazyModelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BOB)
+            .build(), new UserPrefs(), unloadedSchedules);
+        lazyModelManager.loadAllSchedules();
+        AddressBook addressBookBefore = new AddressBook(lazyModelManager.getAddressBook());
+        Schedule scheduleInFebruary = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(LocalDateTime.of(2023, 2, 3, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 3, 11, 0))
+            .build();
+
+        assertThrows(SchedulesNotLoadedException.class, () -> lazyModelManager.addSchedule(scheduleInFebruary));
+        assertThrows(SchedulesNotLoadedException.class, () ->
+            lazyModelManager.setSchedule(SCHEDULE_ALICE_FIRST_JAN, scheduleInFebruary));
+        assertThrows(SchedulesNotLoadedException.class, () -> lazyModelManager.deletePerson(ALICE));
+        assertThrows(SchedulesNotLoadedException.class, () -> lazyModelManager.setAddressBook(new AddressBook()));
+        assertThrows(SchedulesNotLoadedException.class, lazyModelManager::loadAllSchedulesToChange);
+        assertEquals(addressBookBefore, lazyModelManager.getAddressBook());
+        assertTrue(lazyModelManager.takeAddressBookChanges().isEmpty());
+
+        // the schedules of months which were loaded can still be changed
+        lazyModelManager.deleteSchedule(SCHEDULE_BOB_SECOND_JAN);
+        assertFalse(lazyModelManager.hasSchedule(SCHEDULE_BOB_SECOND_JAN));
+
+        // once the month is loaded, its schedules can be changed too
+        unloadedSchedules.failingMonths.clear();
+        lazyModelManager.addSchedule(scheduleInFebruary);
+        assertTrue(lazyModelManager.hasSchedule(scheduleInFebruary));
+    }
+
+    @Test
+    public void deletePerson_tutorWithSchedulesLeftInStorage_deletesAllTheirSchedules() {
+        ModelManager lazyModelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BOB)
+            .build(), new UserPrefs(), new UnloadedSchedulesStub());
+
+        lazyModelManager.deletePerson(ALICE);
+        assertEquals(Arrays.asList(SCHEDULE_BOB_SECOND_JAN), lazyModelManager.getFilteredScheduleList());
+        assertEquals(new AddressBookChanges(true, Set.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2))),
+            lazyModelManager.takeAddressBookChanges());
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_comparator_ordersUntilFilterUpdated() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BOB);
+
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS,
+                Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(Arrays.asList(BOB, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, BOB), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void hasSchedule_nullSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasSchedule(null));
@@ -189,21 +428,73 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void updateTutorSchedules_success() {
-        ModelManager model = new ModelManager();
-        model.addPerson(ALICE);
-        Schedule schedule = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.COMPLETED).build();
-        model.addSchedule(schedule);
+    public void getSchedulesOn_schedulesOnDate_returnsSchedulesInStartOrder() {
+        modelManager.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+
+        assertEquals(Arrays.asList(SCHEDULE_ALICE_SECOND_JAN_1, SCHEDULE_BOB_SECOND_JAN),
+            modelManager.getSchedulesOn(new Date(LocalDate.of(2023, 1, 2))));
+        assertEquals(Collections.emptyList(), modelManager.getSchedulesOn(new Date(LocalDate.of(2023, 1, 3))));
+        assertEquals(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_ALICE_SECOND_JAN_1, SCHEDULE_BOB_SECOND_JAN),
+            modelManager.getSchedulesBetween(new Date(LocalDate.of(2022, 12, 31)),
+                new Date(LocalDate.of(2023, 1, 2))));
+    }
 
-        Person editedPerson = new PersonBuilder().withName("John Doe").build();
-        Schedule editedSchedule = new Schedule(editedPerson, schedule.getStartTime(),
-            schedule.getEndTime(), schedule.getStatus());
+    @Test
+    public void updateCalendarDate_schedulesChanged_calendarScheduleListUpdated() {
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.updateCalendarDate(new Date(LocalDate.of(2023, 1, 2)));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredCalendarScheduleList());
+
+        modelManager.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        assertEquals(Collections.singletonList(SCHEDULE_BOB_SECOND_JAN),
+            modelManager.getFilteredCalendarScheduleList());
 
-        model.updateTutorSchedules(ALICE, editedPerson);
+        Schedule completedSchedule = new ScheduleBuilder(SCHEDULE_BOB_SECOND_JAN).withStatus(Status.COMPLETED).build();
+        modelManager.setSchedule(SCHEDULE_BOB_SECOND_JAN, completedSchedule);
+        assertEquals(Collections.singletonList(completedSchedule), modelManager.getFilteredCalendarScheduleList());
 
-        // Check if the schedule is updated correctly
-        assertTrue(model.getFilteredScheduleList().contains(editedSchedule));
-        assertFalse(model.getFilteredScheduleList().contains(schedule));
+        modelManager.deleteSchedule(completedSchedule);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredCalendarScheduleList());
+    }
+
+    @Test
+    public void setPerson_sameId_schedulesFollowEditedPerson() {
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        modelManager.addSchedule(SCHEDULE_ALICE_SECOND_JAN_1);
+        List<ListChangeListener.Change<? extends Schedule>> scheduleChanges = recordChanges(
+            modelManager.getFilteredScheduleList());
+
+        Person editedPerson = new PersonBuilder(ALICE).withName("John Doe").build();
+        modelManager.setPerson(ALICE, editedPerson);
+
+        assertEquals(0, scheduleChanges.size());
+        assertEquals(Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_ALICE_SECOND_JAN_1),
+            modelManager.getSchedulesFromTutor(editedPerson));
+        assertEquals(editedPerson, modelManager.getTutor(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void getTutor_tutorInAddressBook_returnsTutor() {
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        assertEquals(ALICE, modelManager.getTutor(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void getTutor_tutorNotInAddressBook_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> modelManager.getTutor(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    /**
+     * Returns the changes {@code list} notifies its listeners of from now on.
+     */
+    private static <T> List<ListChangeListener.Change<? extends T>> recordChanges(ObservableList<T> list) {
+        List<ListChangeListener.Change<? extends T>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<T>) changes::add);
+        return changes;
     }
 
     @Test
@@ -255,8 +546,42 @@ public class ModelManagerTest {
         modelManager.updateFilteredScheduleList(Model.PREDICATE_SHOW_ALL_SCHEDULES);
 
         // different filtered Calendar Schedule List -> return false
-        modelManager.updateFilteredCalendarScheduleList(
-            new ScheduleIsOnDatePredicate(new Date(LocalDate.of(2023, 9, 15))));
+        modelManager.updateCalendarDate(new Date(LocalDate.of(2023, 1, 1)));
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
+
+        // same calendar date, different calendar filter -> return false
+        ModelManager otherModelManager = new ModelManager(addressBook, userPrefs);
+        otherModelManager.updateCalendarDate(new Date(LocalDate.of(2023, 1, 1)));
+        otherModelManager.updateFilteredCalendarScheduleList(
+            new ScheduleIsOnDatePredicate(new Date(LocalDate.of(2023, 9, 15))));
+        assertFalse(modelManager.equals(otherModelManager));
+    }
+
+    /**
+     * Schedules of ALICE in January and February 2023, and of BOB in January 2023, left in storage.
+     * Records the months loaded, and fails to load the months in {@code failingMonths}.
+     */
+    private static class UnloadedSchedulesStub implements UnloadedSchedules {
+        private static final Schedule SCHEDULE_ALICE_FIRST_FEB = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(LocalDateTime.of(2023, 2, 1, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 1, 11, 0)).build();
+
+        private final List<YearMonth> loadedMonths = new ArrayList<>();
+        private final Set<YearMonth> failingMonths = new HashSet<>();
+
+        @Override
+        public Set<YearMonth> getMonths() {
+            return Set.of(YearMonth.of(2023, 1), YearMonth.of(2023, 2));
+        }
+
+        @Override
+        public List<Schedule> load(YearMonth month, ReadOnlyAddressBook addressBook) throws DataLoadingException {
+            if (failingMonths.contains(month)) {
+                throw new DataLoadingException(new IOException("Cannot read " + month));
+            }
+            loadedMonths.add(month);
+            return month.equals(YearMonth.of(2023, 1))
+                ? Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_BOB_SECOND_JAN)
+                : Arrays.asList(SCHEDULE_ALICE_FIRST_FEB);
+        }
     }
 }
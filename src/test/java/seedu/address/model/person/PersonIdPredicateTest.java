@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIdPredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        PersonIdPredicate firstPredicate = new PersonIdPredicate(Set.of(ALICE.getId()));
+        PersonIdPredicate secondPredicate = new PersonIdPredicate(Set.of(ALICE.getId(), BOB.getId()));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new PersonIdPredicate(Set.of(ALICE.getId()))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ids -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personIdGiven_returnsTrue() {
+        assertTrue(new PersonIdPredicate(Set.of(ALICE.getId())).test(ALICE));
+        assertTrue(new PersonIdPredicate(Set.of(ALICE.getId(), BOB.getId())).test(BOB));
+    }
+
+    @Test
+    public void test_personIdNotGiven_returnsFalse() {
+        assertFalse(new PersonIdPredicate(Set.of()).test(ALICE));
+        assertFalse(new PersonIdPredicate(Set.of(BOB.getId())).test(ALICE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<PersonId> personIds = Set.of(ALICE.getId());
+        PersonIdPredicate predicate = new PersonIdPredicate(personIds);
+
+        String expected = PersonIdPredicate.class.getCanonicalName() + "{personIds=" + personIds + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
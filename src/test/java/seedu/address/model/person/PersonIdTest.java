@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonId(null));
+    }
+
+    @Test
+    public void constructor_invalidPersonId_throwsIllegalArgumentException() {
+        String invalidPersonId = "";
+        assertThrows(IllegalArgumentException.class, () -> new PersonId(invalidPersonId));
+    }
+
+    @Test
+    public void isValidPersonId() {
+        // null person id
+        assertThrows(NullPointerException.class, () -> PersonId.isValidPersonId(null));
+
+        // invalid person ids
+        assertFalse(PersonId.isValidPersonId("")); // empty string
+        assertFalse(PersonId.isValidPersonId(" ")); // spaces only
+        assertFalse(PersonId.isValidPersonId("123e4567")); // too short
+        assertFalse(PersonId.isValidPersonId("123e4567-e89b-12d3-a456-42661417400g")); // non-hexadecimal digit
+        assertFalse(PersonId.isValidPersonId("123e4567e89b12d3a456426614174000")); // missing hyphens
+
+        // valid person ids
+        assertTrue(PersonId.isValidPersonId("123e4567-e89b-12d3-a456-426614174000"));
+        assertTrue(PersonId.isValidPersonId("123E4567-E89B-12D3-A456-426614174000")); // upper case
+    }
+
+    @Test
+    public void constructor_upperCase_sameAsLowerCase() {
+        assertEquals(new PersonId("123e4567-e89b-12d3-a456-426614174000"),
+                new PersonId("123E4567-E89B-12D3-A456-426614174000"));
+    }
+
+    @Test
+    public void generate_returnsDifferentIds() {
+        assertFalse(PersonId.generate().equals(PersonId.generate()));
+    }
+
+    @Test
+    public void equals() {
+        PersonId personId = new PersonId("123e4567-e89b-12d3-a456-426614174000");
+
+        // same values -> returns true
+        assertTrue(personId.equals(new PersonId("123e4567-e89b-12d3-a456-426614174000")));
+
+        // same object -> returns true
+        assertTrue(personId.equals(personId));
+
+        // null -> returns false
+        assertFalse(personId.equals(null));
+
+        // different types -> returns false
+        assertFalse(personId.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(personId.equals(new PersonId("123e4567-e89b-12d3-a456-426614174001")));
+    }
+}
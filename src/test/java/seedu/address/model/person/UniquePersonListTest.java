@@ -6,13 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -55,6 +66,37 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_personWithDuplicateId_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithNewName = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(aliceWithNewName));
+    }
+
+    @Test
+    public void get_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void get_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void get_name_returnsPersonWithName() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.get(BOB.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.get(CARL.getName()));
+
+        Person editedBob = new PersonBuilder(BOB).withName("Bob Tan").build();
+        uniquePersonList.setPerson(BOB, editedBob);
+        assertEquals(Optional.empty(), uniquePersonList.get(BOB.getName()));
+        assertEquals(Optional.of(editedBob), uniquePersonList.get(editedBob.getName()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -105,6 +147,35 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonKeepsId_foundByIdAsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void setPerson_targetWithOtherId_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherId = new PersonBuilder(ALICE).withId(PersonId.generate().value).build();
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(aliceWithOtherId, editedAlice));
+        assertEquals(Optional.of(ALICE), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void setPerson_editedName_replacesLookups() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertEquals(Optional.of(editedAlice), uniquePersonList.get(ALICE.getId()));
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(List.of("Pauline")));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByNameWords(List.of("Tan")));
+        assertFalse(uniquePersonList.search(List.of("Pauline")).containsKey(ALICE.getId()));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -115,6 +186,53 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOtherPersons_laterPersonsStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        uniquePersonList.setPerson(CARL, editedCarl);
+        uniquePersonList.remove(BOB);
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedCarl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void remove_personWithOtherId_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.remove(new PersonBuilder(ALICE).withId(PersonId.generate().value).build()));
+        assertEquals(Optional.of(ALICE), uniquePersonList.get(ALICE.getId()));
+    }
+
+    @Test
+    public void remove_existingPerson_removesLookups() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Optional.empty(), uniquePersonList.get(ALICE.getId()));
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(List.of("Alice")));
+        assertEquals(Map.of(), uniquePersonList.search(List.of("Alice")));
+        assertEquals(Optional.of(BOB), uniquePersonList.get(BOB.getName()));
+        // ALICE can be added again, as her id is no longer taken
+        uniquePersonList.add(ALICE);
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -158,6 +276,197 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findIdsByNameWords_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findIdsByNameWords(null));
+    }
+
+    @Test
+    public void findIdsByNameWords_wordsInNames_returnsIdsOfMatchingPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+
+        assertEquals(Set.of(ALICE.getId(), CARL.getId()),
+                uniquePersonList.findIdsByNameWords(Arrays.asList("aLICE", "KURZ")));
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(Arrays.asList("Alic", "Alice Pauline", "")));
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(Collections.emptyList()));
+    }
+
+    @Test
+    public void findIdsByNameWords_afterChanges_returnsIdsOfMatchingPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(Arrays.asList("Pauline")));
+        assertEquals(Set.of(ALICE.getId()), uniquePersonList.findIdsByNameWords(Arrays.asList("kurz")));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Set.of(), uniquePersonList.findIdsByNameWords(Arrays.asList("Alice", "Kurz")));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL));
+        assertEquals(Set.of(ALICE.getId(), CARL.getId()),
+                uniquePersonList.findIdsByNameWords(Arrays.asList("Pauline", "Kurz", "Bob")));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(BOB);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(Set.of(BOB.getId()), uniquePersonList.findIdsByNameWords(Arrays.asList("Pauline", "bob")));
+    }
+
+    @Test
+    public void findIdsByNameWords_randomNames_sameAsComparingEveryName() {
+        Random random = new Random(22);
+        String[] words = {"Alex", "alex", "ALEX", "Tan", "tan", "Lee", "Ng", "Wei", "wei", "Ming"};
+        for (int i = 0; i < 200; i++) {
+            StringBuilder name = new StringBuilder(words[random.nextInt(words.length)]);
+            for (int j = random.nextInt(3); j > 0; j--) {
+                name.append(" ".repeat(1 + random.nextInt(2))).append(words[random.nextInt(words.length)]);
+            }
+            Person person = new PersonBuilder().withName(name + " " + i).build();
+            if (random.nextInt(4) == 0 && !uniquePersonList.asUnmodifiableObservableList().isEmpty()) {
+                Person target = uniquePersonList.asUnmodifiableObservableList().get(0);
+                uniquePersonList.setPerson(target, new PersonBuilder(person).withId(target.getId().value).build());
+            } else {
+                uniquePersonList.add(person);
+            }
+            if (random.nextInt(5) == 0) {
+                uniquePersonList.remove(uniquePersonList.asUnmodifiableObservableList().get(0));
+            }
+        }
+
+        for (String word : words) {
+            Set<PersonId> expectedIds = uniquePersonList.asUnmodifiableObservableList().stream()
+                    .filter(person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, word))
+                    .map(Person::getId)
+                    .collect(Collectors.toSet());
+            assertEquals(expectedIds, uniquePersonList.findIdsByNameWords(Arrays.asList(word)));
+        }
+    }
+
+    @Test
+    public void search_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.search(null));
+    }
+
+    @Test
+    public void search_keywords_returnsMatchingPersonsWithClosestMatch() {
+        uniquePersonList.setPersons(getTypicalPersons());
+
+        // words of names, emails and phone numbers, ignoring case
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.EXACT, CARL.getId(), MatchQuality.EXACT),
+                uniquePersonList.search(Arrays.asList("PAULINE", "heinz@example.com")));
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.PREFIX), uniquePersonList.search(Arrays.asList("al")));
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.PREFIX), uniquePersonList.search(Arrays.asList("943")));
+
+        // the closest match of any keyword is kept
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.EXACT),
+                uniquePersonList.search(Arrays.asList("alcie", "Alice", "alic")));
+
+        // one edit for short keywords, two edits for long keywords
+        assertEquals(Map.of(CARL.getId(), MatchQuality.ONE_EDIT), uniquePersonList.search(Arrays.asList("kurx")));
+        assertEquals(Map.of(), uniquePersonList.search(Arrays.asList("kuhs")));
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.TWO_EDITS), uniquePersonList.search(Arrays.asList("paulnee")));
+
+        // no match
+        assertEquals(Map.of(), uniquePersonList.search(Arrays.asList("xyz", "", "  ")));
+    }
+
+    @Test
+    public void search_afterChanges_returnsMatchingPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Kurz").withEmail("kurz@example.com").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Map.of(), uniquePersonList.search(Arrays.asList("Pauline", "alice@example.com")));
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.PREFIX), uniquePersonList.search(Arrays.asList("kur")));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Map.of(), uniquePersonList.search(Arrays.asList("Alice", "kurz")));
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL));
+        assertEquals(Map.of(ALICE.getId(), MatchQuality.EXACT, CARL.getId(), MatchQuality.ONE_EDIT),
+                uniquePersonList.search(Arrays.asList("Pauline", "Kuhz", "Bob")));
+    }
+
+    @Test
+    public void search_largeRoster_sameAsComparingEveryPerson() {
+        Random random = new Random(23);
+        String[] syllables = {"al", "an", "bel", "chen", "da", "el", "fi", "ka", "li", "mei", "na", "on", "ra", "tan"};
+        List<Person> persons = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        while (persons.size() < 50000) {
+            String firstName = randomWord(random, syllables);
+            String lastName = randomWord(random, syllables);
+            if (!names.add(firstName + " " + lastName)) {
+                continue;
+            }
+            persons.add(new PersonBuilder()
+                    .withName(firstName + " " + lastName)
+                    .withEmail(firstName + persons.size() + "@example.com")
+                    .withPhone(String.valueOf(80000000 + random.nextInt(20000000)))
+                    .build());
+        }
+        uniquePersonList.setPersons(persons);
+
+        String[] queries = {"a", "ch", "alda", "chan", "meina", "tanelfi", "RAKA", "danie", "8123", "81234567"};
+        for (String query : queries) {
+            assertEquals(searchEveryPerson(persons, query), uniquePersonList.search(Arrays.asList(query)), query);
+        }
+    }
+
+    private static String randomWord(Random random, String[] syllables) {
+        StringBuilder word = new StringBuilder();
+        for (int i = 1 + random.nextInt(3); i > 0; i--) {
+            word.append(syllables[random.nextInt(syllables.length)]);
+        }
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Returns the persons matching {@code query}, found by comparing the query with the fields of every person.
+     */
+    private static Map<PersonId, MatchQuality> searchEveryPerson(List<Person> persons, String query) {
+        String foldedQuery = query.toLowerCase();
+        int maxEdits = query.length() < 3 ? 0 : query.length() < 6 ? 1 : 2;
+        Map<PersonId, MatchQuality> matches = new HashMap<>();
+        for (Person person : persons) {
+            List<String> tokens = new ArrayList<>(Arrays.asList(person.getName().fullName.split(" ")));
+            tokens.add(person.getEmail().value);
+            tokens.add(person.getPhone().value);
+            for (String token : tokens) {
+                String foldedToken = token.toLowerCase();
+                int edits = getEditDistance(foldedQuery, foldedToken);
+                MatchQuality quality = foldedToken.equals(foldedQuery) ? MatchQuality.EXACT
+                        : foldedToken.startsWith(foldedQuery) ? MatchQuality.PREFIX
+                        : edits == 1 && edits <= maxEdits ? MatchQuality.ONE_EDIT
+                        : edits == 2 && edits <= maxEdits ? MatchQuality.TWO_EDITS
+                        : null;
+                if (quality != null) {
+                    matches.merge(person.getId(), quality, (first, second) -> first.compareTo(second) <= 0
+                            ? first : second);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static int getEditDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = distances[i - 1][j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                    distances[i][j] = Math.min(substitution, Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 import org.junit.jupiter.api.Test;
 
@@ -339,6 +340,40 @@ class ScheduleTest {
         assertTrue(laterSchedule.compareTo(ealierSchedule) < 0);
     }
 
+    @Test
+    public void orderedAround() {
+        LocalDate pivotDate = LocalDate.of(2023, 1, 2);
+        Comparator<Schedule> order = Schedule.orderedAround(pivotDate);
+
+        Schedule earlierPast = new ScheduleBuilder().withStartTime(LocalDateTime.of(2023, 1, 1, 9, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 1, 10, 0)).build();
+        Schedule laterPast = new ScheduleBuilder().withStartTime(LocalDateTime.of(2023, 1, 1, 11, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 1, 12, 0)).build();
+        Schedule onPivotDate = new ScheduleBuilder().withStartTime(LocalDateTime.of(2023, 1, 2, 9, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 2, 10, 0)).build();
+        Schedule afterPivotDate = new ScheduleBuilder().withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 3, 10, 0)).build();
+
+        // upcoming schedules in ascending order
+        assertTrue(order.compare(onPivotDate, afterPivotDate) < 0);
+
+        // past schedules in descending order
+        assertTrue(order.compare(laterPast, earlierPast) < 0);
+
+        // upcoming schedules before past schedules
+        assertTrue(order.compare(afterPivotDate, laterPast) < 0);
+        assertTrue(order.compare(earlierPast, onPivotDate) > 0);
+
+        // same start time
+        assertEquals(0, order.compare(onPivotDate, new ScheduleBuilder(onPivotDate).withTutor(TypicalPersons.BOB)
+            .build()));
+
+        // same result as compareTo for the current day
+        Comparator<Schedule> orderToday = Schedule.orderedAround(LocalDate.now());
+        assertEquals(Integer.signum(earlierPast.compareTo(afterPivotDate)),
+            Integer.signum(orderToday.compare(earlierPast, afterPivotDate)));
+    }
+
     @Test
     public void testIsOnDate() {
         LocalDateTime sameDay = LocalDateTime.of(2023, 1, 1, 0, 0, 0);
@@ -354,7 +389,7 @@ class ScheduleTest {
 
     @Test
     public void toStringMethod() {
-        String expected = Schedule.class.getCanonicalName() + "{tutor=" + SCHEDULE_ALICE_FIRST_JAN.getTutor()
+        String expected = Schedule.class.getCanonicalName() + "{tutorId=" + SCHEDULE_ALICE_FIRST_JAN.getTutorId()
                 + ", startTime=" + SCHEDULE_ALICE_FIRST_JAN.getStartTime()
                 + ", endTime=" + SCHEDULE_ALICE_FIRST_JAN.getEndTime()
                 + ", status=" + SCHEDULE_ALICE_FIRST_JAN.getStatus() + "}";
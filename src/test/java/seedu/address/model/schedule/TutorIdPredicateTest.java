@@ -0,0 +1,66 @@
+package seedu.address.model.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.PersonId;
+
+public class TutorIdPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new TutorIdPredicate(null));
+    }
+
+    @Test
+    public void equals() {
+        TutorIdPredicate firstPredicate = new TutorIdPredicate(Set.of(ALICE.getId()));
+        TutorIdPredicate secondPredicate = new TutorIdPredicate(Set.of(ALICE.getId(), BOB.getId()));
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new TutorIdPredicate(Set.of(ALICE.getId()))));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different ids -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_tutorIdGiven_returnsTrue() {
+        assertTrue(new TutorIdPredicate(Set.of(ALICE.getId())).test(SCHEDULE_ALICE_FIRST_JAN));
+        assertTrue(new TutorIdPredicate(Set.of(ALICE.getId(), BOB.getId())).test(SCHEDULE_BOB_SECOND_JAN));
+    }
+
+    @Test
+    public void test_tutorIdNotGiven_returnsFalse() {
+        assertFalse(new TutorIdPredicate(Set.of()).test(SCHEDULE_ALICE_FIRST_JAN));
+        assertFalse(new TutorIdPredicate(Set.of(BOB.getId())).test(SCHEDULE_ALICE_FIRST_JAN));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<PersonId> tutorIds = Set.of(ALICE.getId());
+        TutorIdPredicate predicate = new TutorIdPredicate(tutorIds);
+
+        String expected = TutorIdPredicate.class.getCanonicalName() + "{tutorIds=" + tutorIds + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
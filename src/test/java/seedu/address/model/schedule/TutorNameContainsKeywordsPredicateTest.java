@@ -3,6 +3,7 @@ package seedu.address.model.schedule;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -10,7 +11,6 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.testutil.ScheduleBuilder;
 
 public class TutorNameContainsKeywordsPredicateTest {
 
@@ -47,30 +47,30 @@ public class TutorNameContainsKeywordsPredicateTest {
         // One keyword
         TutorNameContainsKeywordsPredicate predicate =
             new TutorNameContainsKeywordsPredicate(Collections.singletonList("Alice"));
-        assertTrue(predicate.test(new ScheduleBuilder().build()));
+        assertTrue(predicate.test(ALICE));
 
         // Multiple keywords
         predicate = new TutorNameContainsKeywordsPredicate(Arrays.asList("Alice", "Pauline"));
-        assertTrue(predicate.test(new ScheduleBuilder().build()));
+        assertTrue(predicate.test(ALICE));
 
         // Only one matching keyword
         predicate = new TutorNameContainsKeywordsPredicate(Arrays.asList("Alice", "Carol"));
-        assertTrue(predicate.test(new ScheduleBuilder().build()));
+        assertTrue(predicate.test(ALICE));
 
         // Mixed-case keywords
         predicate = new TutorNameContainsKeywordsPredicate(Arrays.asList("aLIce", "pAuLiNe"));
-        assertTrue(predicate.test(new ScheduleBuilder().build()));
+        assertTrue(predicate.test(ALICE));
     }
 
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
         TutorNameContainsKeywordsPredicate predicate = new TutorNameContainsKeywordsPredicate(Collections.emptyList());
-        assertFalse(predicate.test(new ScheduleBuilder().build()));
+        assertFalse(predicate.test(ALICE));
 
         // Non-matching keyword
         predicate = new TutorNameContainsKeywordsPredicate(Arrays.asList("Carol"));
-        assertFalse(predicate.test(new ScheduleBuilder().build()));
+        assertFalse(predicate.test(ALICE));
 
     }
 
@@ -5,17 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 import seedu.address.testutil.ScheduleBuilder;
@@ -46,6 +57,24 @@ public class UniqueScheduleListTest {
         assertTrue(uniqueScheduleList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_scheduleWithDifferentStatusInList_returnsTrue() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        Schedule completedAlice = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.COMPLETED).build();
+        assertTrue(uniqueScheduleList.contains(completedAlice));
+    }
+
+    @Test
+    public void contains_afterSetScheduleAndRemove_reflectsCurrentSchedules() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        uniqueScheduleList.setSchedule(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_BOB_SECOND_JAN);
+        assertFalse(uniqueScheduleList.contains(SCHEDULE_ALICE_FIRST_JAN));
+        assertTrue(uniqueScheduleList.contains(SCHEDULE_BOB_SECOND_JAN));
+
+        uniqueScheduleList.remove(SCHEDULE_BOB_SECOND_JAN);
+        assertFalse(uniqueScheduleList.contains(SCHEDULE_BOB_SECOND_JAN));
+    }
+
     @Test
     public void add_nullSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueScheduleList.add(null));
@@ -57,6 +86,93 @@ public class UniqueScheduleListTest {
         assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN));
     }
 
+    @Test
+    public void add_schedulesInAnyOrder_keepsListSorted() {
+        List<Schedule> schedules = getSchedulesAround(LocalDate.now());
+        Collections.shuffle(schedules, new Random(0));
+        schedules.forEach(uniqueScheduleList::add);
+
+        List<Schedule> expectedSchedules = new ArrayList<>(schedules);
+        Collections.sort(expectedSchedules);
+        assertEquals(expectedSchedules, uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_schedule_doesNotPermutateList() {
+        uniqueScheduleList.add(SCHEDULE_BOB_SECOND_JAN);
+        List<Boolean> permutations = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Schedule>) change -> {
+            while (change.next()) {
+                permutations.add(change.wasPermutated());
+            }
+        });
+
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        assertEquals(Collections.singletonList(false), permutations);
+    }
+
+    @Test
+    public void addAll_nullCollection_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueScheduleList.addAll(null));
+    }
+
+    @Test
+    public void addAll_scheduleInList_throwsDuplicateScheduleException() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.addAll(
+            Arrays.asList(SCHEDULE_BOB_SECOND_JAN, SCHEDULE_ALICE_FIRST_JAN)));
+        assertEquals(Collections.singletonList(SCHEDULE_ALICE_FIRST_JAN),
+            uniqueScheduleList.asUnmodifiableObservableList());
+        assertFalse(uniqueScheduleList.contains(SCHEDULE_BOB_SECOND_JAN));
+    }
+
+    @Test
+    public void addAll_duplicateSchedules_throwsDuplicateScheduleException() {
+        assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList.addAll(
+            Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, SCHEDULE_ALICE_FIRST_JAN)));
+        assertTrue(uniqueScheduleList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void addAll_schedulesAmongListedSchedules_sameResultAsAddingEach() {
+        List<Schedule> schedules = getSchedulesAround(LocalDate.now());
+        Collections.shuffle(schedules, new Random(0));
+        List<Schedule> listedSchedules = schedules.subList(0, schedules.size() / 2);
+        List<Schedule> addedSchedules = schedules.subList(schedules.size() / 2, schedules.size());
+        listedSchedules.forEach(uniqueScheduleList::add);
+        List<Schedule> recordedSchedules = recordAddedSchedules();
+
+        uniqueScheduleList.addAll(addedSchedules);
+
+        List<Schedule> expectedSchedules = new ArrayList<>(schedules);
+        Collections.sort(expectedSchedules);
+        assertEquals(expectedSchedules, uniqueScheduleList.asUnmodifiableObservableList());
+        assertEquals(new HashSet<>(addedSchedules), new HashSet<>(recordedSchedules));
+        assertTrue(addedSchedules.stream().allMatch(uniqueScheduleList::contains));
+        assertEquals(expectedSchedules.stream().filter(schedule -> schedule.getTutorId().equals(BOB.getId()))
+            .sorted(Comparator.comparing(schedule -> schedule.getStartTime().getTime())).collect(Collectors.toList()),
+            uniqueScheduleList.getSchedulesOf(BOB.getId()));
+    }
+
+    @Test
+    public void addAll_pastMonth_insertedAtOnce() {
+        LocalDate today = LocalDate.now();
+        getSchedulesAround(today).forEach(uniqueScheduleList::add);
+        List<Schedule> pastSchedules = getSchedulesAround(today.minusMonths(2));
+        List<Integer> addedCounts = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Schedule>) change -> {
+            while (change.next()) {
+                addedCounts.add(change.getAddedSize());
+            }
+        });
+
+        uniqueScheduleList.addAll(pastSchedules);
+
+        assertEquals(Collections.singletonList(pastSchedules.size()), addedCounts);
+        assertEquals(pastSchedules.size(), uniqueScheduleList.getSchedulesBetween(today.minusMonths(3),
+            today.minusMonths(1)).size());
+    }
+
     @Test
     public void setSchedule_nullTargetSchedule_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueScheduleList
@@ -103,6 +219,24 @@ public class UniqueScheduleListTest {
         assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
     }
 
+    @Test
+    public void setSchedule_editedScheduleOrderedElsewhere_keepsListSorted() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        uniqueScheduleList.add(SCHEDULE_ALICE_SECOND_JAN_1);
+        uniqueScheduleList.add(SCHEDULE_BOB_SECOND_JAN);
+        Schedule movedSchedule = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 3, 10, 0))
+            .build();
+        uniqueScheduleList.setSchedule(SCHEDULE_ALICE_FIRST_JAN, movedSchedule);
+
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.add(movedSchedule);
+        expectedUniqueScheduleList.add(SCHEDULE_BOB_SECOND_JAN);
+        expectedUniqueScheduleList.add(SCHEDULE_ALICE_SECOND_JAN_1);
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+    }
+
     @Test
     public void setSchedule_editedScheduleHasNonUniqueFields_throwsDuplicateScheduleException() {
         uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
@@ -165,6 +299,137 @@ public class UniqueScheduleListTest {
             .setSchedules(listWithDuplicateSchedules));
     }
 
+    @Test
+    public void setSchedules_listWithSchedulesDifferingOnlyInStatus_throwsDuplicateScheduleException() {
+        Schedule completedAlice = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.COMPLETED).build();
+        List<Schedule> listWithDuplicateSchedules = Arrays.asList(SCHEDULE_ALICE_FIRST_JAN, completedAlice);
+        assertThrows(DuplicateScheduleException.class, () -> uniqueScheduleList
+            .setSchedules(listWithDuplicateSchedules));
+    }
+
+    @Test
+    public void findClashes_nullSchedule_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueScheduleList.findClashes(null));
+    }
+
+    @Test
+    public void findClashes_touchingEndpoints_returnsEmptyList() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        LocalDateTime start = SCHEDULE_ALICE_FIRST_JAN.getStartTime().getTime();
+        LocalDateTime end = SCHEDULE_ALICE_FIRST_JAN.getEndTime().getTime();
+
+        Schedule before = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(start.minusHours(1)).withEndTime(start).build();
+        Schedule after = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(end).withEndTime(end.plusHours(1)).build();
+
+        assertEquals(Collections.emptyList(), uniqueScheduleList.findClashes(before));
+        assertEquals(Collections.emptyList(), uniqueScheduleList.findClashes(after));
+    }
+
+    @Test
+    public void findClashes_overlappingSchedules_returnsClashingSchedules() {
+        uniqueScheduleList.add(SCHEDULE_ALICE_FIRST_JAN);
+        uniqueScheduleList.add(SCHEDULE_ALICE_SECOND_JAN_1);
+        uniqueScheduleList.add(SCHEDULE_BOB_SECOND_JAN);
+
+        // same tutor, overlapping times -> clash
+        Schedule overlapping = new ScheduleBuilder(SCHEDULE_ALICE_SECOND_JAN_1)
+            .withStartTime(LocalDateTime.of(2023, 1, 2, 10, 0))
+            .withEndTime(LocalDateTime.of(2023, 1, 2, 12, 0))
+            .build();
+        assertEquals(Collections.singletonList(SCHEDULE_ALICE_SECOND_JAN_1),
+            uniqueScheduleList.findClashes(overlapping));
+
+        // different tutor, same times -> no clash
+        Schedule otherTutor = new ScheduleBuilder(SCHEDULE_BOB_SECOND_JAN).withTutor(ALICE).build();
+        assertEquals(Collections.emptyList(), uniqueScheduleList.findClashes(otherTutor));
+
+        // removed schedules no longer clash
+        uniqueScheduleList.remove(SCHEDULE_ALICE_SECOND_JAN_1);
+        assertEquals(Collections.emptyList(), uniqueScheduleList.findClashes(overlapping));
+    }
+
+    @Test
+    public void findClashes_variousSchedules_sameResultAsIsClashing() {
+        List<Schedule> schedules = new ArrayList<>();
+        LocalDateTime dayStart = LocalDateTime.of(2023, 1, 1, 0, 0);
+        for (int startHour = 0; startHour < 23; startHour += 3) {
+            for (int length = 1; startHour + length < 24; length += 4) {
+                Schedule schedule = new ScheduleBuilder().withTutor(ALICE)
+                    .withStartTime(dayStart.plusHours(startHour))
+                    .withEndTime(dayStart.plusHours(startHour + length))
+                    .build();
+                schedules.add(schedule);
+                uniqueScheduleList.add(schedule);
+            }
+        }
+
+        for (int startHour = 0; startHour < 24; startHour++) {
+            for (int endHour = startHour + 1; endHour < 24; endHour++) {
+                Schedule toCheck = new ScheduleBuilder().withTutor(ALICE)
+                    .withStartTime(dayStart.plusHours(startHour))
+                    .withEndTime(dayStart.plusHours(endHour))
+                    .build();
+                Set<Schedule> expected = schedules.stream().filter(toCheck::isClashing).collect(Collectors.toSet());
+                assertEquals(expected, new HashSet<>(uniqueScheduleList.findClashes(toCheck)));
+            }
+        }
+    }
+
+    @Test
+    public void rollOver_nextDay_movesOnlyExpiredSchedules() {
+        LocalDate today = LocalDate.now();
+        List<Schedule> schedules = getSchedulesAround(today);
+        schedules.forEach(uniqueScheduleList::add);
+        List<Schedule> movedSchedules = recordAddedSchedules();
+
+        LocalDate tomorrow = today.plusDays(1);
+        uniqueScheduleList.rollOver(tomorrow);
+
+        List<Schedule> expectedSchedules = new ArrayList<>(schedules);
+        expectedSchedules.sort(Schedule.orderedAround(tomorrow));
+        assertEquals(expectedSchedules, uniqueScheduleList.asUnmodifiableObservableList());
+        assertEquals(schedules.stream().filter(schedule -> schedule.getStartTime().getTime().toLocalDate()
+            .equals(today)).collect(Collectors.toSet()), new HashSet<>(movedSchedules));
+    }
+
+    @Test
+    public void rollOver_previousDay_movesOnlyRenewedSchedules() {
+        LocalDate today = LocalDate.now();
+        List<Schedule> schedules = getSchedulesAround(today);
+        schedules.forEach(uniqueScheduleList::add);
+        List<Schedule> movedSchedules = recordAddedSchedules();
+
+        LocalDate yesterday = today.minusDays(1);
+        uniqueScheduleList.rollOver(yesterday);
+
+        List<Schedule> expectedSchedules = new ArrayList<>(schedules);
+        expectedSchedules.sort(Schedule.orderedAround(yesterday));
+        assertEquals(expectedSchedules, uniqueScheduleList.asUnmodifiableObservableList());
+        assertEquals(schedules.stream().filter(schedule -> schedule.getStartTime().getTime().toLocalDate()
+            .equals(yesterday)).collect(Collectors.toSet()), new HashSet<>(movedSchedules));
+    }
+
+    @Test
+    public void rollOver_thenModifyList_keepsListSortedForNewDay() {
+        LocalDate today = LocalDate.now();
+        List<Schedule> schedules = getSchedulesAround(today);
+        List<Schedule> laterSchedules = new ArrayList<>(schedules.subList(0, 6));
+        schedules.removeAll(laterSchedules);
+        uniqueScheduleList.setSchedules(schedules);
+
+        LocalDate pivotDate = today.plusDays(2);
+        uniqueScheduleList.rollOver(pivotDate);
+        laterSchedules.forEach(uniqueScheduleList::add);
+        uniqueScheduleList.remove(schedules.get(0));
+
+        List<Schedule> expectedSchedules = new ArrayList<>(schedules.subList(1, schedules.size()));
+        expectedSchedules.addAll(laterSchedules);
+        expectedSchedules.sort(Schedule.orderedAround(pivotDate));
+        assertEquals(expectedSchedules, uniqueScheduleList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -229,4 +494,33 @@ public class UniqueScheduleListTest {
         assertEquals(SCHEDULE_ALICE_FIRST_JAN, iterator.next());
         assertFalse(iterator.hasNext());
     }
+
+    /**
+     * Returns schedules of two tutors on each day from three days before to three days after {@code date}.
+     */
+    private static List<Schedule> getSchedulesAround(LocalDate date) {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int days = -3; days <= 3; days++) {
+            LocalDateTime start = date.plusDays(days).atTime(10, 0);
+            schedules.add(new ScheduleBuilder().withStartTime(start).withEndTime(start.plusHours(1)).build());
+            schedules.add(new ScheduleBuilder().withTutor(BOB)
+                .withStartTime(start).withEndTime(start.plusHours(2)).build());
+        }
+        return schedules;
+    }
+
+    /**
+     * Returns a list which records the schedules added to {@code uniqueScheduleList} from now on, failing if the
+     * list is ever permutated.
+     */
+    private List<Schedule> recordAddedSchedules() {
+        List<Schedule> addedSchedules = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Schedule>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasPermutated());
+                addedSchedules.addAll(change.getAddedSubList());
+            }
+        });
+        return addedSchedules;
+    }
 }
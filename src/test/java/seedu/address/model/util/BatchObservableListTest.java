@@ -0,0 +1,162 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+    /** Copy of {@code list} kept up to date by replaying the changes reported by {@code list}. */
+    private final List<String> mirror = new ArrayList<>();
+    private int changeCount = 0;
+
+    @BeforeEach
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        mirror.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            while (change.next()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+    }
+
+    @Test
+    public void addAll_atIndex_reportsAddition() {
+        assertTrue(list.addAll(2, Arrays.asList("x", "y")));
+        assertEquals(Arrays.asList("a", "b", "x", "y", "c", "d", "e"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void addAll_emptyCollection_returnsFalse() {
+        assertFalse(list.addAll(2, List.of()));
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void addAll_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(6, List.of("x")));
+    }
+
+    @Test
+    public void setAll_replacement_reportsReplacement() {
+        assertTrue(list.setAll(Arrays.asList("x", "y")));
+        assertEquals(Arrays.asList("x", "y"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void remove_range_reportsRemoval() {
+        list.remove(1, 4);
+        assertEquals(Arrays.asList("a", "e"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeAll_scatteredElements_reportsRemovals() {
+        assertTrue(list.removeAll(Set.of("a", "c", "d")));
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void removeAll_noElementsPresent_returnsFalse() {
+        assertFalse(list.removeAll(Set.of("x")));
+        assertEquals(0, changeCount);
+    }
+
+    @Test
+    public void commitBatch_changesInBatch_reportedTogether() {
+        list.beginBatch();
+        list.add("f");
+        list.remove("a");
+        list.set(1, "x");
+        list.beginBatch();
+        list.add(0, "y");
+        list.commitBatch();
+        assertEquals(0, changeCount);
+
+        list.commitBatch();
+        assertEquals(Arrays.asList("y", "b", "x", "d", "e", "f"), list);
+        assertEquals(list, mirror);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void commitBatch_noBatch_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, list::commitBatch);
+    }
+
+    @Test
+    public void following_changesToSource_followed() {
+        ObservableList<String> source = FXCollections.observableArrayList("c", "a", "b");
+        FilteredList<String> filtered = new FilteredList<>(source);
+        SortedList<String> sorted = new SortedList<>(filtered);
+        BatchObservableList<String> follower = BatchObservableList.following(sorted);
+        assertEquals(sorted, follower);
+
+        source.addAll("e", "d");
+        source.remove("a");
+        sorted.setComparator(Comparator.naturalOrder());
+        assertEquals(Arrays.asList("b", "c", "d", "e"), follower);
+
+        filtered.setPredicate(element -> !element.equals("c"));
+        source.set(0, "f");
+        sorted.setComparator(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("f", "e", "d", "b"), follower);
+    }
+
+    @Test
+    public void following_changesToSourceInBatch_reportedTogether() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        FilteredList<String> filtered = new FilteredList<>(source);
+        BatchObservableList<String> follower = BatchObservableList.following(filtered);
+        List<String> followerMirror = new ArrayList<>(follower);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        follower.addListener((ListChangeListener<String>) change -> {
+            changes.add(change);
+            while (change.next()) {
+                followerMirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                followerMirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        });
+
+        follower.beginBatch();
+        source.add("d");
+        // the follower is up to date within the batch
+        assertEquals(filtered, follower);
+        filtered.setPredicate(element -> !element.equals("b"));
+        source.remove("a");
+        source.add(0, "e");
+        assertEquals(Arrays.asList("e", "c", "d"), follower);
+        assertEquals(0, changes.size());
+
+        follower.commitBatch();
+        assertEquals(1, changes.size());
+        assertEquals(follower, followerMirror);
+    }
+}
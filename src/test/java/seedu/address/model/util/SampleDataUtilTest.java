@@ -41,7 +41,7 @@ public class SampleDataUtilTest {
 
         for (Schedule schedule : sampleSchedules) {
             assertNotNull(schedule);
-            assertNotNull(schedule.getTutor());
+            assertNotNull(schedule.getTutorId());
             assertNotNull(schedule.getStartTime());
             assertNotNull(schedule.getEndTime());
         }
@@ -0,0 +1,325 @@
+package seedu.address.server;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddScheduleCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+/**
+ * Measures the throughput and latency of an {@link ApiServer} under load, and prints them for each kind of request.
+ * This is not a test case; run it with {@code ./gradlew apiLoadTest}, giving options with
+ * {@code --args="name=value ..."}:
+ * <ul>
+ *     <li>{@code clients}: number of clients sending requests at once, each waiting for its previous response
+ *     (default 16).</li>
+ *     <li>{@code seconds}: how long requests are measured for, after as long a warm-up (default 10).</li>
+ *     <li>{@code writes}: percentage of requests that are {@code add-s} commands, the rest being reads
+ *     (default 5).</li>
+ *     <li>{@code tutors}, {@code schedules}: size of the address book served (defaults 200 and 20000).</li>
+ *     <li>{@code url}: address of a running server to send the requests to instead, such as
+ *     {@code http://127.0.0.1:8080}. Use it with a copy of the data, as the writes add schedules to the first tutor
+ *     listed.</li>
+ *     <li>{@code token}: path of the token file of the running server at {@code url}.</li>
+ * </ul>
+ */
+public class ApiLoadTester {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2024, 1, 1);
+    /** Writes book schedules from this date on, so that they do not clash with the generated schedules. */
+    private static final LocalDate FIRST_WRITE_DATE = LocalDate.of(2100, 1, 1);
+    private static final int SCHEDULES_PER_DAY = 10;
+    private static final String[] REQUEST_KINDS = {"calendar", "tutors", "schedules", "command"};
+    private static final int CALENDAR = 0;
+    private static final int TUTORS = 1;
+    private static final int SCHEDULES = 2;
+    private static final int COMMAND = 3;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private final String baseUrl;
+    private final String authorization;
+    private final int writePercentage;
+    private final int days;
+
+    private ApiLoadTester(String baseUrl, String token, int writePercentage, int days) {
+        this.baseUrl = baseUrl;
+        this.authorization = "Bearer " + token;
+        this.writePercentage = writePercentage;
+        this.days = days;
+    }
+
+    /**
+     * Runs the load test with the options in {@code args}.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "");
+        }
+        int clients = Integer.parseInt(options.getOrDefault("clients", "16"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "10"));
+        int writePercentage = Integer.parseInt(options.getOrDefault("writes", "5"));
+        int tutors = Integer.parseInt(options.getOrDefault("tutors", "200"));
+        int schedules = Integer.parseInt(options.getOrDefault("schedules", "20000"));
+        int days = Math.max(1, (schedules + SCHEDULES_PER_DAY - 1) / SCHEDULES_PER_DAY);
+
+        // Logging every command would measure the console rather than the server
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        if (options.containsKey("url")) {
+            if (!options.containsKey("token")) {
+                throw new IllegalArgumentException("Give the token file of the server at url as token=PATH");
+            }
+            String token = FileUtil.readFromFile(Paths.get(options.get("token"))).trim();
+            new ApiLoadTester(options.get("url"), token, writePercentage, days).run(clients, seconds);
+            return;
+        }
+
+        Path dataFolder = Files.createTempDirectory("api-load-test");
+        AddressBookSaver addressBookSaver =
+                new AddressBookSaver(new JournalAddressBookStorage(dataFolder.resolve("addressbook.json")));
+        ApiToken token = ApiToken.generate();
+        ApiServer server = new ApiServer(new LogicManager(
+                new ModelManager(generateAddressBook(tutors, schedules), new UserPrefs()), addressBookSaver),
+                token, false);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        System.out.printf("Serving %d tutors and %d schedules%n", tutors, schedules);
+        try {
+            InetSocketAddress address = server.getAddress();
+            String baseUrl = "http://" + address.getHostString() + ":" + address.getPort();
+            new ApiLoadTester(baseUrl, token.getValue(), writePercentage, days).run(clients, seconds);
+        } finally {
+            server.stop();
+            addressBookSaver.close();
+        }
+    }
+
+    /**
+     * Returns an address book of {@code tutorCount} tutors, with {@code scheduleCount} schedules spread over days
+     * from {@code FIRST_DATE}.
+     */
+    private static AddressBook generateAddressBook(int tutorCount, int scheduleCount) {
+        AddressBook addressBook = new AddressBook();
+        List<Person> tutors = new ArrayList<>();
+        for (int i = 0; i < tutorCount; i++) {
+            Person tutor = new PersonBuilder().withName("Tutor " + toLetters(i)).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("tutor" + i + "@example.com").build();
+            tutors.add(tutor);
+            addressBook.addPerson(tutor);
+        }
+        for (int i = 0; i < scheduleCount; i++) {
+            LocalDateTime startTime = FIRST_DATE.plusDays(i / SCHEDULES_PER_DAY).atTime(8 + i % SCHEDULES_PER_DAY, 0);
+            addressBook.addSchedule(new ScheduleBuilder().withTutor(tutors.get(i % tutorCount))
+                    .withStartTime(startTime).withEndTime(startTime.plusMinutes(50)).build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code number} written with the letters a to z as digits, as names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    /**
+     * Sends requests from {@code clients} threads for a warm-up of {@code seconds} seconds, then for as long again
+     * while measuring them, and prints the results.
+     */
+    private void run(int clients, int seconds) throws Exception {
+        System.out.printf("Warming up for %d s with %d clients%n", seconds, clients);
+        sendRequests(clients, seconds);
+        System.out.printf("Measuring for %d s with %d clients, %d%% writes%n", seconds, clients, writePercentage);
+        long startTime = System.nanoTime();
+        Results results = sendRequests(clients, seconds);
+        double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("%-10s %10s %12s %10s %10s %10s %8s%n",
+                "request", "count", "requests/s", "p50 ms", "p99 ms", "max ms", "errors");
+        long totalCount = 0;
+        long[] allLatencies = new long[0];
+        for (int kind = 0; kind < REQUEST_KINDS.length; kind++) {
+            long[] latencies = results.getLatencies(kind);
+            printRow(REQUEST_KINDS[kind], latencies, results.errors[kind], elapsedSeconds);
+            totalCount += latencies.length;
+            allLatencies = concat(allLatencies, latencies);
+        }
+        printRow("all", allLatencies, Arrays.stream(results.errors).sum(), elapsedSeconds);
+        System.out.printf("Throughput: %.0f requests/s%n", totalCount / elapsedSeconds);
+    }
+
+    private static void printRow(String kind, long[] latencies, int errors, double elapsedSeconds) {
+        Arrays.sort(latencies);
+        System.out.printf("%-10s %10d %12.0f %10.2f %10.2f %10.2f %8d%n", kind, latencies.length,
+                latencies.length / elapsedSeconds, getPercentile(latencies, 0.50), getPercentile(latencies, 0.99),
+                getPercentile(latencies, 1.0), errors);
+    }
+
+    /**
+     * Returns the latency in milliseconds which {@code fraction} of the sorted {@code latencies} are at most.
+     */
+    private static double getPercentile(long[] latencies, double fraction) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = Math.max(0, (int) Math.ceil(fraction * latencies.length) - 1);
+        return latencies[index] / 1e6;
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private Results sendRequests(int clients, int seconds) throws InterruptedException {
+        long endTime = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Results> clientResults = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Results results = new Results();
+            clientResults.add(results);
+            threads.add(new Thread(() -> sendRequestsUntil(endTime, results)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Results results = new Results();
+        clientResults.forEach(results::addAll);
+        return results;
+    }
+
+    private void sendRequestsUntil(long endTime, Results results) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endTime) {
+            int kind = chooseRequestKind(random.nextInt(100));
+            HttpRequest request = createRequest(kind, random);
+            long startTime = System.nanoTime();
+            boolean isSuccessful;
+            try {
+                isSuccessful = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode()
+                        == HttpURLConnection.HTTP_OK;
+            } catch (Exception e) {
+                isSuccessful = false;
+            }
+            results.add(kind, System.nanoTime() - startTime, isSuccessful);
+        }
+    }
+
+    /**
+     * Returns the kind of request to send for the random {@code percentile}: writes as often as asked, and otherwise
+     * mostly the calendar of a day, as a booking tool would.
+     */
+    private int chooseRequestKind(int percentile) {
+        if (percentile < writePercentage) {
+            return COMMAND;
+        }
+        int readPercentile = (percentile - writePercentage) * 100 / (100 - writePercentage);
+        if (readPercentile < 75) {
+            return CALENDAR;
+        }
+        return readPercentile < 98 ? TUTORS : SCHEDULES;
+    }
+
+    private HttpRequest createRequest(int kind, ThreadLocalRandom random) {
+        switch (kind) {
+        case CALENDAR:
+            LocalDate date = FIRST_DATE.plusDays(random.nextInt(days));
+            return request(ApiServer.CALENDAR_PATH + "?date=" + DateTimeUtil.appendDate(new StringBuilder(), date))
+                    .build();
+        case TUTORS:
+            return request(ApiServer.TUTORS_PATH).build();
+        case SCHEDULES:
+            return request(ApiServer.SCHEDULES_PATH).build();
+        default:
+            // Every write books a different hour, so that none of them clash
+            int write = writeCount.getAndIncrement();
+            LocalDateTime startTime = FIRST_WRITE_DATE.plusDays(write / 12).atTime(8 + write % 12, 0);
+            String command = AddScheduleCommand.COMMAND_WORD + " 1 "
+                    + PREFIX_START_TIME + DateTimeUtil.formatDateTime(startTime) + " "
+                    + PREFIX_END_TIME + DateTimeUtil.formatDateTime(startTime.plusMinutes(50));
+            return request(ApiServer.COMMANDS_PATH).header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(ApiSnapshot.toJson(Map.of("command", command))))
+                    .build();
+        }
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery)).header("Authorization", authorization);
+    }
+
+    /**
+     * The latencies and errors of the requests sent, by kind of request.
+     */
+    private static class Results {
+        private final long[][] latencies = new long[REQUEST_KINDS.length][16];
+        private final int[] counts = new int[REQUEST_KINDS.length];
+        private final int[] errors = new int[REQUEST_KINDS.length];
+
+        void add(int kind, long latency, boolean isSuccessful) {
+            if (counts[kind] == latencies[kind].length) {
+                latencies[kind] = Arrays.copyOf(latencies[kind], counts[kind] * 2);
+            }
+            latencies[kind][counts[kind]++] = latency;
+            if (!isSuccessful) {
+                errors[kind]++;
+            }
+        }
+
+        void addAll(Results other) {
+            for (int kind = 0; kind < REQUEST_KINDS.length; kind++) {
+                for (long latency : other.getLatencies(kind)) {
+                    add(kind, latency, true);
+                }
+                errors[kind] += other.errors[kind];
+            }
+        }
+
+        long[] getLatencies(int kind) {
+            return Arrays.copyOf(latencies[kind], counts[kind]);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_2;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddTutorCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.ListTutorCommand;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.MutableClock;
+import seedu.address.testutil.PersonBuilder;
+
+public class ApiServerTest {
+    private static final String ADD_AMY_COMMAND =
+            AddTutorCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final ApiToken token = ApiToken.generate();
+    private final MutableClock clock = new MutableClock();
+    private AddressBookSaver addressBookSaver;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        startServer(false);
+    }
+
+    private void startServer(boolean areFileCommandsAllowed) throws Exception {
+        addressBookSaver =
+                new AddressBookSaver(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")));
+        server = new ApiServer(new LogicManager(model, addressBookSaver), token, areFileCommandsAllowed, clock);
+        server.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        // Saves must be written before the temporary folder is deleted
+        addressBookSaver.close();
+    }
+
+    @Test
+    public void getTutors_returnsTutorsInOrder() throws Exception {
+        HttpResponse<String> response = get(ApiServer.TUTORS_PATH);
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+        assertEquals("application/json; charset=utf-8", response.headers().firstValue("Content-Type").get());
+
+        List<?> tutors = readList(response.body());
+        assertEquals(model.getAddressBook().getPersonList().size(), tutors.size());
+        assertTutor(ALICE, tutors.get(0));
+    }
+
+    @Test
+    public void getSchedules_returnsSchedulesWithTutorNames() throws Exception {
+        HttpResponse<String> response = get(ApiServer.SCHEDULES_PATH);
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+        assertEquals(model.getAddressBook().getScheduleList().size(), readList(response.body()).size());
+    }
+
+    @Test
+    public void getCalendar_validDate_returnsSchedulesOnDateByStartTime() throws Exception {
+        HttpResponse<String> response = get(ApiServer.CALENDAR_PATH + "?date=2023-01-02");
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+
+        List<?> schedules = readList(response.body());
+        assertEquals(3, schedules.size());
+        assertSchedule(SCHEDULE_ALICE_SECOND_JAN_1, ALICE, schedules.get(0));
+        assertSchedule(SCHEDULE_ALICE_SECOND_JAN_2, ALICE, schedules.get(1));
+        assertSchedule(SCHEDULE_BOB_SECOND_JAN, BOB, schedules.get(2));
+
+        // no schedules on the date
+        response = get(ApiServer.CALENDAR_PATH + "?other=1&date=2023-02-02");
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+        assertEquals(List.of(), readList(response.body()));
+    }
+
+    @Test
+    public void getCalendar_invalidDate_badRequest() throws Exception {
+        assertError(HttpURLConnection.HTTP_BAD_REQUEST, ApiServer.MESSAGE_INVALID_DATE,
+                get(ApiServer.CALENDAR_PATH));
+        assertError(HttpURLConnection.HTTP_BAD_REQUEST, ApiServer.MESSAGE_INVALID_DATE,
+                get(ApiServer.CALENDAR_PATH + "?date=2023-02-30"));
+    }
+
+    @Test
+    public void postCommand_validCommand_changesReads() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ADD_AMY_COMMAND);
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+        assertEquals(Map.of("feedback", String.format(AddTutorCommand.MESSAGE_SUCCESS, Messages.format(AMY))),
+                JsonUtil.fromJsonString(response.body(), Map.class));
+
+        // the tutor added by the command is read once the command returns
+        List<?> tutors = readList(get(ApiServer.TUTORS_PATH).body());
+        assertEquals(model.getAddressBook().getPersonList().size(), tutors.size());
+        assertTutor(AMY, tutors.get(tutors.size() - 1));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        assertError(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_UNKNOWN_COMMAND,
+                post(ApiServer.COMMANDS_PATH, "unknown"));
+
+        // duplicate tutor
+        post(ApiServer.COMMANDS_PATH, ADD_AMY_COMMAND);
+        assertError(HttpURLConnection.HTTP_BAD_REQUEST, AddTutorCommand.MESSAGE_DUPLICATE_PERSON,
+                post(ApiServer.COMMANDS_PATH, ADD_AMY_COMMAND));
+    }
+
+    @Test
+    public void postCommand_concurrentCommands_allExecuted() throws Exception {
+        int tutorCount = model.getAddressBook().getPersonList().size();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Person tutor = new PersonBuilder().withName("Tutor " + (char) ('a' + i)).withPhone("9000000" + i)
+                    .withEmail("tutor" + i + "@example.com").build();
+            String command = AddTutorCommand.COMMAND_WORD + " n/" + tutor.getName().fullName
+                    + " p/" + tutor.getPhone().value + " e/" + tutor.getEmail().value;
+            responses.add(client.sendAsync(commandRequest(command).build(), HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(HttpURLConnection.HTTP_OK, response.get().statusCode());
+        }
+        assertEquals(tutorCount + 20, readList(get(ApiServer.TUTORS_PATH).body()).size());
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaType() throws Exception {
+        assertError(HttpURLConnection.HTTP_UNSUPPORTED_TYPE, ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE,
+                send(commandRequest(ADD_AMY_COMMAND).setHeader("Content-Type", "text/plain")));
+
+        // no content type
+        assertError(HttpURLConnection.HTTP_UNSUPPORTED_TYPE, ApiServer.MESSAGE_UNSUPPORTED_CONTENT_TYPE,
+                send(request(ApiServer.COMMANDS_PATH).POST(HttpRequest.BodyPublishers.ofString(ADD_AMY_COMMAND))));
+
+        // JSON in another charset and case is accepted
+        assertEquals(HttpURLConnection.HTTP_OK, send(commandRequest(ADD_AMY_COMMAND)
+                .setHeader("Content-Type", "Application/JSON; charset=UTF-8")).statusCode());
+    }
+
+    @Test
+    public void postCommand_invalidBody_badRequest() throws Exception {
+        for (String body : new String[] {ADD_AMY_COMMAND, "{}", "[]", "null", "{\"command\": \"list-t\""}) {
+            assertError(HttpURLConnection.HTTP_BAD_REQUEST, ApiServer.MESSAGE_INVALID_COMMAND_BODY,
+                    send(request(ApiServer.COMMANDS_PATH).header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))));
+        }
+        assertEquals(model.getAddressBook().getPersonList().size(), readList(get(ApiServer.TUTORS_PATH).body()).size());
+    }
+
+    @Test
+    public void postCommand_fileCommandNotAllowed_forbidden() throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, ADD_AMY_COMMAND);
+        assertError(HttpURLConnection.HTTP_FORBIDDEN,
+                String.format(ApiServer.MESSAGE_FILE_COMMAND_NOT_ALLOWED, RunCommand.COMMAND_WORD),
+                post(ApiServer.COMMANDS_PATH, RunCommand.COMMAND_WORD + " " + scriptPath));
+        assertError(HttpURLConnection.HTTP_FORBIDDEN,
+                String.format(ApiServer.MESSAGE_FILE_COMMAND_NOT_ALLOWED, ArchiveCommand.COMMAND_WORD),
+                post(ApiServer.COMMANDS_PATH, "  " + ArchiveCommand.COMMAND_WORD + " 2023-01-03"));
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void postCommand_fileCommandAllowed_executed() throws Exception {
+        tearDown();
+        startServer(true);
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.writeString(scriptPath, ADD_AMY_COMMAND);
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, RunCommand.COMMAND_WORD + " " + scriptPath);
+        assertEquals(HttpURLConnection.HTTP_OK, response.statusCode());
+        assertEquals(Map.of("feedback", String.format(RunCommand.MESSAGE_SUCCESS, 1, scriptPath)),
+                JsonUtil.fromJsonString(response.body(), Map.class));
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void postCommand_newDay_rollsOverSchedulesFirst() throws Exception {
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Schedule> schedulesBeforeRollOver = new ArrayList<>(expectedModel.getAddressBook().getScheduleList());
+        LocalDate rollOverDate = LocalDate.of(2023, 1, 2);
+        expectedModel.rollOverSchedules(rollOverDate);
+        assertNotEquals(schedulesBeforeRollOver, expectedModel.getAddressBook().getScheduleList());
+
+        // same day -> not rolled over
+        assertEquals(HttpURLConnection.HTTP_OK, post(ApiServer.COMMANDS_PATH, ListTutorCommand.COMMAND_WORD)
+                .statusCode());
+        assertEquals(schedulesBeforeRollOver, model.getAddressBook().getScheduleList());
+
+        // another day -> rolled over on the command thread before the command, and the reads are unchanged
+        String schedulesJson = get(ApiServer.SCHEDULES_PATH).body();
+        clock.setTime(rollOverDate.atTime(9, 0));
+        assertEquals(HttpURLConnection.HTTP_OK, post(ApiServer.COMMANDS_PATH, ListTutorCommand.COMMAND_WORD)
+                .statusCode());
+        assertEquals(expectedModel.getAddressBook().getScheduleList(), model.getAddressBook().getScheduleList());
+        assertEquals(schedulesJson, get(ApiServer.SCHEDULES_PATH).body());
+    }
+
+    @Test
+    public void request_withoutToken_unauthorized() throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(request(ApiServer.TUTORS_PATH).build()
+                .uri()).GET().build(), HttpResponse.BodyHandlers.ofString());
+        assertError(HttpURLConnection.HTTP_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED, response);
+        assertEquals("Bearer", response.headers().firstValue("WWW-Authenticate").get());
+
+        // other token
+        assertError(HttpURLConnection.HTTP_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED,
+                send(request(ApiServer.TUTORS_PATH).setHeader("Authorization",
+                        "Bearer " + ApiToken.generate().getValue())));
+
+        // token without the Bearer scheme
+        assertError(HttpURLConnection.HTTP_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED,
+                send(request(ApiServer.TUTORS_PATH).setHeader("Authorization", token.getValue())));
+
+        // commands are not executed without the token
+        assertError(HttpURLConnection.HTTP_UNAUTHORIZED, ApiServer.MESSAGE_UNAUTHORIZED,
+                send(commandRequest(ADD_AMY_COMMAND).setHeader("Authorization", "Bearer")));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void request_otherHost_forbidden() throws Exception {
+        int port = server.getAddress().getPort();
+        String response = sendWithHost("attacker.example:" + port);
+        assertTrue(response.startsWith("HTTP/1.1 " + HttpURLConnection.HTTP_FORBIDDEN + " "));
+        assertEquals(Map.of("error", String.format(ApiServer.MESSAGE_INVALID_HOST, "attacker.example:" + port)),
+                JsonUtil.fromJsonString(response.substring(response.indexOf("\r\n\r\n") + 4), Map.class));
+
+        // loopback host names, with or without a port
+        assertTrue(sendWithHost("localhost:" + port).startsWith("HTTP/1.1 " + HttpURLConnection.HTTP_OK + " "));
+        assertTrue(sendWithHost("LocalHost").startsWith("HTTP/1.1 " + HttpURLConnection.HTTP_OK + " "));
+        assertTrue(sendWithHost("127.0.0.1:" + port).startsWith("HTTP/1.1 " + HttpURLConnection.HTTP_OK + " "));
+    }
+
+    @Test
+    public void request_unknownPath_notFound() throws Exception {
+        assertError(HttpURLConnection.HTTP_NOT_FOUND, String.format(ApiServer.MESSAGE_NOT_FOUND, "/api/tutors/1"),
+                get(ApiServer.TUTORS_PATH + "/1"));
+    }
+
+    @Test
+    public void request_wrongMethod_methodNotAllowed() throws Exception {
+        HttpResponse<String> response = post(ApiServer.TUTORS_PATH, "");
+        assertError(HttpURLConnection.HTTP_BAD_METHOD,
+                String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, "GET", ApiServer.TUTORS_PATH), response);
+        assertEquals("GET", response.headers().firstValue("Allow").get());
+
+        assertError(HttpURLConnection.HTTP_BAD_METHOD,
+                String.format(ApiServer.MESSAGE_METHOD_NOT_ALLOWED, "POST", ApiServer.COMMANDS_PATH),
+                get(ApiServer.COMMANDS_PATH));
+    }
+
+    private HttpRequest.Builder request(String pathAndQuery) {
+        InetSocketAddress address = server.getAddress();
+        return HttpRequest.newBuilder(
+                URI.create("http://" + address.getHostString() + ":" + address.getPort() + pathAndQuery))
+                .header("Authorization", "Bearer " + token.getValue());
+    }
+
+    /**
+     * Returns a request which sends {@code command} to the server as the API expects it.
+     */
+    private HttpRequest.Builder commandRequest(String command) {
+        return request(ApiServer.COMMANDS_PATH).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(ApiSnapshot.toJson(Map.of("command", command))));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        return send(request(pathAndQuery).GET());
+    }
+
+    private HttpResponse<String> post(String path, String command) throws Exception {
+        return send(request(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(ApiSnapshot.toJson(Map.of("command", command)))));
+    }
+
+    /**
+     * Sends a request for the tutors with the token and {@code host} as its {@code Host} header, which HTTP clients
+     * do not allow to be set, and returns the whole response.
+     */
+    private String sendWithHost(String host) throws Exception {
+        try (Socket socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort())) {
+            String request = "GET " + ApiServer.TUTORS_PATH + " HTTP/1.1\r\nHost: " + host
+                    + "\r\nAuthorization: Bearer " + token.getValue() + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            return new String(socket.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<?> readList(String json) throws Exception {
+        return JsonUtil.fromJsonString(json, List.class);
+    }
+
+    private static void assertError(int expectedStatus, String expectedMessage, HttpResponse<String> response)
+            throws Exception {
+        assertEquals(expectedStatus, response.statusCode());
+        assertEquals(Map.of("error", expectedMessage), JsonUtil.fromJsonString(response.body(), Map.class));
+    }
+
+    private static void assertTutor(Person expected, Object actual) {
+        Map<?, ?> tutor = (Map<?, ?>) actual;
+        assertEquals(expected.getName().fullName, tutor.get("name"));
+        assertEquals(expected.getPhone().value, tutor.get("phone"));
+        assertEquals(expected.getEmail().value, tutor.get("email"));
+    }
+
+    private static void assertSchedule(Schedule expected, Person expectedTutor, Object actual) {
+        Map<?, ?> schedule = (Map<?, ?>) actual;
+        assertEquals(expected.getTutorId().value, schedule.get("tutorId"));
+        assertEquals(expectedTutor.getName().fullName, schedule.get("tutorName"));
+        assertEquals(DateTimeUtil.formatDateTime(expected.getStartTime().getTime()), schedule.get("startTime"));
+        assertEquals(DateTimeUtil.formatDateTime(expected.getEndTime().getTime()), schedule.get("endTime"));
+        assertEquals(expected.getStatus().name(), schedule.get("status"));
+    }
+}
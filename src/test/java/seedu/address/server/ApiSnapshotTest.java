@@ -0,0 +1,115 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_SECOND_JAN_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ApiSnapshotTest {
+    private static final LocalDate FIRST_JAN = LocalDate.of(2023, 1, 1);
+    private static final LocalDate SECOND_JAN = LocalDate.of(2023, 1, 2);
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final List<ApiSnapshot.ScheduleChange> scheduleChanges = new ArrayList<>();
+    private ApiSnapshot snapshot;
+
+    @BeforeEach
+    public void setUp() {
+        snapshot = new ApiSnapshot(addressBook);
+        addressBook.getScheduleList().addListener((ListChangeListener<Schedule>) change ->
+                scheduleChanges.add(ApiSnapshot.ScheduleChange.of(change)));
+    }
+
+    @Test
+    public void getSchedulesJson_schedulesOfEveryDate_orderedByStartTime() {
+        String json = new String(snapshot.getSchedulesJson(), StandardCharsets.UTF_8);
+        String firstJanJson = new String(snapshot.getCalendarJson(FIRST_JAN), StandardCharsets.UTF_8);
+        String secondJanJson = new String(snapshot.getCalendarJson(SECOND_JAN), StandardCharsets.UTF_8);
+        assertEquals("[" + firstJanJson.substring(1, firstJanJson.length() - 1) + ","
+                + secondJanJson.substring(1), json);
+
+        // no schedules
+        assertEquals("[]", new String(new ApiSnapshot(new AddressBook()).getSchedulesJson(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void update_scheduleChanges_sameAsNewSnapshot() {
+        byte[] firstJanJson = snapshot.getCalendarJson(FIRST_JAN);
+        snapshot.getCalendarJson(SECOND_JAN);
+
+        Schedule movedSchedule = new ScheduleBuilder(SCHEDULE_ALICE_SECOND_JAN_1)
+                .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+                .withEndTime(LocalDateTime.of(2023, 1, 3, 10, 0)).build();
+        addressBook.setSchedule(SCHEDULE_ALICE_SECOND_JAN_1, movedSchedule);
+        addressBook.removeSchedule(SCHEDULE_BOB_SECOND_JAN);
+        addressBook.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+
+        ApiSnapshot updatedSnapshot = snapshot.update(addressBook, false, scheduleChanges);
+        assertSameJson(new ApiSnapshot(addressBook), updatedSnapshot);
+        // dates without changes are reused
+        assertSame(firstJanJson, updatedSnapshot.getCalendarJson(FIRST_JAN));
+    }
+
+    @Test
+    public void update_allSchedulesOnDateRemoved_sameAsNewSnapshot() {
+        addressBook.removeSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        ApiSnapshot updatedSnapshot = snapshot.update(addressBook, false, scheduleChanges);
+        assertSameJson(new ApiSnapshot(addressBook), updatedSnapshot);
+        assertEquals("[]", new String(updatedSnapshot.getCalendarJson(FIRST_JAN), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void update_addressBookReset_sameAsNewSnapshot() {
+        snapshot.getSchedulesJson();
+        AddressBook otherAddressBook = new AddressBook();
+        otherAddressBook.addPerson(BOB);
+        otherAddressBook.addSchedule(SCHEDULE_BOB_SECOND_JAN);
+        addressBook.resetData(otherAddressBook);
+
+        assertSameJson(new ApiSnapshot(addressBook), snapshot.update(addressBook, true, scheduleChanges));
+    }
+
+    @Test
+    public void update_personsChanged_tutorNamesUpdated() {
+        snapshot.getSchedulesJson();
+        snapshot.getTutorsJson();
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, renamedAlice);
+
+        ApiSnapshot updatedSnapshot = snapshot.update(addressBook, true, scheduleChanges);
+        assertSameJson(new ApiSnapshot(addressBook), updatedSnapshot);
+
+        // without changes
+        assertSameJson(updatedSnapshot, updatedSnapshot.update(addressBook, false, List.of()));
+    }
+
+    private static void assertSameJson(ApiSnapshot expected, ApiSnapshot actual) {
+        assertArrayEquals(expected.getTutorsJson(), actual.getTutorsJson());
+        assertArrayEquals(expected.getSchedulesJson(), actual.getSchedulesJson());
+        for (int day = 1; day <= 3; day++) {
+            LocalDate date = LocalDate.of(2023, 1, day);
+            assertArrayEquals(expected.getCalendarJson(date), actual.getCalendarJson(date));
+        }
+    }
+}
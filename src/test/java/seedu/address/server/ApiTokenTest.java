@@ -0,0 +1,64 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+
+public class ApiTokenTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void generate_differentTokens() {
+        assertNotEquals(ApiToken.generate().getValue(), ApiToken.generate().getValue());
+    }
+
+    @Test
+    public void isAuthorization() {
+        ApiToken token = ApiToken.generate();
+
+        // bearer token -> returns true
+        assertTrue(token.isAuthorization("Bearer " + token.getValue()));
+
+        // null -> returns false
+        assertFalse(token.isAuthorization(null));
+
+        // token without the bearer scheme -> returns false
+        assertFalse(token.isAuthorization(token.getValue()));
+
+        // other token -> returns false
+        assertFalse(token.isAuthorization("Bearer " + ApiToken.generate().getValue()));
+
+        // part of the token -> returns false
+        assertFalse(token.isAuthorization("Bearer " + token.getValue().substring(1)));
+    }
+
+    @Test
+    public void writeTo_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ApiToken.generate().writeTo(null));
+    }
+
+    @Test
+    public void writeTo_existingFile_replacedWithOwnerOnlyFile() throws Exception {
+        Path tokenPath = temporaryFolder.resolve("data").resolve("api-token.txt");
+        ApiToken.generate().writeTo(tokenPath);
+        ApiToken token = ApiToken.generate();
+        token.writeTo(tokenPath);
+
+        assertEquals(token.getValue(), FileUtil.readFromFile(tokenPath));
+        if (tokenPath.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenPath)));
+        }
+    }
+}
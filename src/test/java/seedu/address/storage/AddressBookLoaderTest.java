@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class AddressBookLoaderTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2023, 1, 1, 9, 0);
+
+    @Test
+    public void build_typicalAddressBook_success() throws Exception {
+        AddressBook expected = getTypicalAddressBook();
+        AddressBookLoader loader = new AddressBookLoader();
+        for (Person person : expected.getPersonList()) {
+            loader.addPerson(person);
+        }
+        // added in reverse to check that the schedules are sorted the same way as adding them one at a time
+        for (int i = expected.getScheduleList().size() - 1; i >= 0; i--) {
+            loader.addSchedule(expected.getScheduleList().get(i));
+        }
+        assertEquals(expected, loader.build());
+    }
+
+    @Test
+    public void build_touchingSchedules_success() throws Exception {
+        AddressBookLoader loader = newLoader();
+        loader.addSchedule(schedule(ALICE, 10, 11));
+        loader.addSchedule(schedule(ALICE, 9, 10));
+        loader.addSchedule(schedule(BENSON, 9, 11));
+        assertEquals(3, loader.build().getScheduleList().size());
+    }
+
+    @Test
+    public void build_duplicateSchedule_throwsIllegalValueException() throws Exception {
+        AddressBookLoader loader = newLoader();
+        loader.addSchedule(schedule(ALICE, 9, 10));
+        loader.addSchedule(schedule(BENSON, 9, 10));
+        loader.addSchedule(schedule(ALICE, 9, 10));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_SCHEDULE,
+                loader::build);
+    }
+
+    @Test
+    public void build_clashingSchedule_throwsIllegalValueException() throws Exception {
+        AddressBookLoader loader = newLoader();
+        loader.addSchedule(schedule(ALICE, 10, 12));
+        loader.addSchedule(schedule(ALICE, 9, 11));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CLASHING_SCHEDULE,
+                loader::build);
+    }
+
+    @Test
+    public void build_clashBeforeDuplicate_reportsClash() throws Exception {
+        // the duplicate sorts first, but the clash is found first when adding the schedules one at a time
+        AddressBookLoader loader = newLoader();
+        loader.addSchedule(schedule(ALICE, 12, 14));
+        loader.addSchedule(schedule(ALICE, 9, 10));
+        loader.addSchedule(schedule(ALICE, 13, 15));
+        loader.addSchedule(schedule(ALICE, 9, 10));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CLASHING_SCHEDULE,
+                loader::build);
+    }
+
+    @Test
+    public void addSchedule_invalidScheduleAfterClash_reportsClash() throws Exception {
+        AddressBookLoader loader = newLoader();
+        loader.addSchedule(schedule(ALICE, 9, 11));
+        loader.addSchedule(schedule(ALICE, 10, 12));
+        JsonAdaptedSchedule invalidSchedule = new JsonAdaptedSchedule(null, "DoesNotExist", "2023-01-01T09:00",
+                "2023-01-01T10:00", "PENDING");
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CLASHING_SCHEDULE, () ->
+                loader.addSchedule(invalidSchedule));
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_throwsIllegalValueException() throws Exception {
+        AddressBookLoader loader = newLoader();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                loader.addPerson(ALICE));
+    }
+
+    private static AddressBookLoader newLoader() throws IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+        loader.addPerson(ALICE);
+        loader.addPerson(BENSON);
+        return loader;
+    }
+
+    private static Schedule schedule(Person tutor, int startHour, int endHour) {
+        return new ScheduleBuilder().withTutor(tutor).withStartTime(NINE_AM.withHour(startHour))
+                .withEndTime(NINE_AM.withHour(endHour)).build();
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class AddressBookSaverTest {
+    private static final YearMonth JANUARY = YearMonth.of(2023, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2023, 2);
+    private static final Schedule SCHEDULE_ALICE_FIRST_FEB = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+            .withStartTime(LocalDateTime.of(2023, 2, 1, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 1, 11, 0)).build();
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSaver(null));
+    }
+
+    @Test
+    public void save_nullAddressBook_throwsNullPointerException() {
+        AddressBookSaver saver = new AddressBookSaver(new AddressBookStorageStub());
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_addressBookChangedAfterwards_savesAddressBookAsRequested() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.flush();
+
+        assertEquals(Collections.singletonList(expected), storage.saved);
+    }
+
+    @Test
+    public void save_whileWriting_coalescesIntoOneSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        storage.block();
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        AddressBook firstSave = new AddressBook(addressBook);
+        assertTrue(storage.writing.await(10, TimeUnit.SECONDS));
+
+        // saves requested while the first save is being written
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        addressBook.addPerson(CARL);
+        saver.save(addressBook);
+        storage.unblock();
+        saver.flush();
+
+        assertEquals(Arrays.asList(firstSave, addressBook), storage.saved);
+    }
+
+    @Test
+    public void save_changesWhileWriting_coalescesIntoOneSaveOfAllChanges() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        AddressBookChanges personChanges = new AddressBookChanges(true, Collections.emptySet());
+        AddressBookChanges januaryChanges = new AddressBookChanges(false, Set.of(YearMonth.of(2023, 1)));
+        AddressBookChanges februaryChanges = new AddressBookChanges(false, Set.of(YearMonth.of(2023, 2)));
+
+        storage.block();
+        saver.save(addressBook, personChanges);
+        assertTrue(storage.writing.await(10, TimeUnit.SECONDS));
+        saver.save(addressBook, januaryChanges);
+        saver.save(addressBook, februaryChanges);
+        storage.unblock();
+        saver.flush();
+
+        assertEquals(Arrays.asList(personChanges, januaryChanges.union(februaryChanges)), storage.savedChanges);
+    }
+
+    @Test
+    public void save_wholeAndChangesWhileWriting_coalescesIntoWholeSave() throws Exception {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        AddressBookChanges personChanges = new AddressBookChanges(true, Collections.emptySet());
+
+        storage.block();
+        saver.save(addressBook, personChanges);
+        assertTrue(storage.writing.await(10, TimeUnit.SECONDS));
+        saver.save(addressBook);
+        saver.save(addressBook, personChanges);
+        storage.unblock();
+        saver.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(Collections.singletonList(personChanges), storage.savedChanges);
+    }
+
+    @Test
+    public void save_changesAfterEarlierSaves_savesWholeAddressBook() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        saver.save(addressBook, new AddressBookChanges(true, Set.of(JANUARY)));
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_FEB);
+        saver.save(addressBook, new AddressBookChanges(false, Set.of(FEBRUARY)));
+        addressBook.addPerson(BENSON);
+        addressBook.removeSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        saver.save(addressBook, new AddressBookChanges(true, Set.of(JANUARY)));
+        saver.flush();
+
+        assertEquals(new AddressBook(addressBook), storage.saved.get(storage.saved.size() - 1));
+    }
+
+    @Test
+    public void save_monthLoadedSinceLastSave_savesItsSchedules() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook, new AddressBookChanges(true, Collections.emptySet(), Set.of(FEBRUARY)));
+        // loading the schedules of February is not a change to save
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_FEB);
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        saver.save(addressBook, new AddressBookChanges(false, Set.of(JANUARY)));
+        saver.flush();
+
+        assertEquals(new AddressBook(addressBook), storage.saved.get(storage.saved.size() - 1));
+    }
+
+    @Test
+    public void save_changesLeaveOutChange_savesWholeAddressBook() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook, new AddressBookChanges(true, Collections.emptySet()));
+        addressBook.addSchedule(SCHEDULE_ALICE_FIRST_JAN);
+        saver.save(addressBook, new AddressBookChanges(true, Collections.emptySet()));
+        saver.flush();
+
+        assertEquals(new AddressBook(addressBook), storage.saved.get(storage.saved.size() - 1));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_callsFailureHandler() {
+        IOException exception = new IOException("dummy IO exception");
+        AddressBookStorageStub storage = new AddressBookStorageStub() {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        saver.setFailureHandler(failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void close_pendingSave_savesBeforeClosing() {
+        AddressBookStorageStub storage = new AddressBookStorageStub();
+        AddressBookSaver saver = new AddressBookSaver(storage);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        saver.close();
+
+        assertEquals(Collections.singletonList(addressBook), storage.saved);
+    }
+
+    /**
+     * An {@code AddressBookStorage} that remembers the address books saved to it, and the changes saved with them,
+     * and can be blocked from saving.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        final List<AddressBook> saved = new CopyOnWriteArrayList<>();
+        final List<AddressBookChanges> savedChanges = new CopyOnWriteArrayList<>();
+        final CountDownLatch writing = new CountDownLatch(1);
+        private volatile CountDownLatch unblocked = new CountDownLatch(0);
+
+        void block() {
+            unblocked = new CountDownLatch(1);
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Paths.get("AddressBookStorageStub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writing.countDown();
+            try {
+                unblocked.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            saved.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+                throws IOException {
+            savedChanges.add(changes);
+            saveAddressBook(addressBook);
+        }
+    }
+}
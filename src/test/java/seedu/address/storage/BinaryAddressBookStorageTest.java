@@ -0,0 +1,162 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(testFolder)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertReadBack(original, filePath);
+
+        original.addPerson(HOON);
+        original.removeSchedule(SCHEDULE_BOB_SECOND_JAN);
+        storage.saveAddressBook(original);
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("TempAddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath, true).saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertReadBack(original, filePath);
+
+        // the json file is replaced by a binary file on the next save
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_jsonFileWithJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.addPerson(HOON);
+        journalStorage.saveAddressBook(original);
+
+        assertTrue(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void readAddressBook_invalidTutor_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // points the first schedule at a tutor after the last one
+        byte[] data = Files.readAllBytes(filePath);
+        int firstScheduleOffset = data.length - original.getScheduleList().size() * (4 + 8 + 8 + 1);
+        ByteBuffer.wrap(data).putInt(firstScheduleOffset, original.getPersonList().size());
+        Files.write(filePath, data);
+
+        DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertEquals(BinaryAddressBookStorage.MESSAGE_INVALID_TUTOR, e.getCause().getMessage());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void isBinaryFile_fileShorterThanMagic_returnsFalse() throws IOException {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        Files.write(filePath, Arrays.copyOf(BinaryAddressBookStorage.MAGIC, BinaryAddressBookStorage.MAGIC.length - 1));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        Files.write(filePath, BinaryAddressBookStorage.MAGIC);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    /**
+     * Asserts that the data file at {@code filePath} holds {@code expected}, with the same person ids.
+     */
+    private static void assertReadBack(AddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(getPersonIds(expected), getPersonIds(readBack));
+    }
+
+    private static List<PersonId> getPersonIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
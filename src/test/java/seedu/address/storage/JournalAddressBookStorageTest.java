@@ -0,0 +1,371 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JournalAddressBookStorage.getJournalFilePath;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Status;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class JournalAddressBookStorageTest {
+    private static final YearMonth JANUARY = YearMonth.of(2023, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2023, 2);
+    /** Data file saved before persons had ids. */
+    private static final Path PERSONS_WITHOUT_IDS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(testFolder)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(testFolder)
+                .saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void readAddressBook_snapshotSavedByJsonAddressBookStorage_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertReadBack(original, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath).saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        makeChanges(addressBook);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is untouched, and the changes are in one line after the journal header
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(getJournalFilePath(filePath)).size());
+        assertReadBack(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterRead_appendsChangesOfChangedMonthsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        makeChanges(addressBook);
+        Schedule februarySchedule = new ScheduleBuilder().withTutor(IDA)
+                .withStartTime(LocalDateTime.of(2023, 2, 3, 9, 0))
+                .withEndTime(LocalDateTime.of(2023, 2, 3, 11, 0)).build();
+        addressBook.addSchedule(februarySchedule);
+        storage.saveAddressBookChanges(addressBook, new AddressBookChanges(true, Set.of(JANUARY, FEBRUARY)));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(getJournalFilePath(filePath)).size());
+        assertReadBack(addressBook, filePath);
+
+        // only the months changed are compared with the data saved
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removeSchedule(februarySchedule);
+        storage.saveAddressBookChanges(addressBook, new AddressBookChanges(false, Set.of(JANUARY)));
+        assertEquals(2, Files.readAllLines(getJournalFilePath(filePath)).size());
+        assertReadBack(expected, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(getJournalFilePath(filePath)));
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        long journalSize = Files.size(getJournalFilePath(filePath));
+        storage.saveAddressBook(new AddressBook(addressBook));
+        assertEquals(journalSize, Files.size(getJournalFilePath(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(getJournalFilePath(filePath)));
+
+        List<Person> reversedPersons = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversedPersons);
+        addressBook.setPersons(reversedPersons);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(getJournalFilePath(filePath)));
+        assertReadBack(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingPersonsWithoutIds_savesSnapshotWithIds() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.copy(PERSONS_WITHOUT_IDS_FILE, filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person alice = addressBook.getPerson(ALICE.getName()).get();
+        addressBook.addSchedule(new ScheduleBuilder().withTutor(alice)
+                .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+                .withEndTime(LocalDateTime.of(2023, 1, 3, 11, 0)).build());
+        storage.saveAddressBook(addressBook);
+
+        // the schedule names its tutor by an id which is only in the data file once the whole file is saved
+        assertFalse(Files.exists(getJournalFilePath(filePath)));
+        assertReadBack(addressBook, filePath);
+    }
+
+    @Test
+    public void readAddressBook_binaryFile_replacedBySnapshotOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        makeChanges(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(getJournalFilePath(filePath)));
+        assertReadBack(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_compact_savesSnapshotOnSingleLineAndKeepsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, true);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(filePath).size());
+
+        // the journal started by the same storage belongs to the snapshot, so it is read back
+        makeChanges(addressBook);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(getJournalFilePath(filePath)).size());
+        assertReadBack(addressBook, filePath);
+    }
+
+    @Test
+    public void saveAddressBook_journalLargerThanSnapshot_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false, 0);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        boolean isCompacted = false;
+        for (int i = 0; i < 10; i++) {
+            Person editedAlice = new PersonBuilder(ALICE).withPhone("9000000" + i).build();
+            addressBook.setPerson(addressBook.getPersonList().get(0), editedAlice);
+            storage.saveAddressBook(addressBook);
+
+            Path journalFilePath = getJournalFilePath(filePath);
+            isCompacted |= !Files.exists(journalFilePath);
+            assertTrue(!Files.exists(journalFilePath) || Files.size(journalFilePath) <= Files.size(filePath));
+            assertReadBack(addressBook, filePath);
+        }
+        assertTrue(isCompacted);
+    }
+
+    @Test
+    public void readAddressBook_journalCutAtEveryByte_returnsLastCompleteSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook firstSave = new AddressBook(addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        AddressBook secondSave = new AddressBook(addressBook);
+
+        makeChanges(addressBook);
+        storage.saveAddressBook(addressBook);
+        AddressBook thirdSave = new AddressBook(addressBook);
+
+        byte[] journal = Files.readAllBytes(getJournalFilePath(filePath));
+        List<Integer> lineEnds = new ArrayList<>();
+        for (int i = 0; i < journal.length; i++) {
+            if (journal[i] == '\n') {
+                lineEnds.add(i + 1);
+            }
+        }
+        assertEquals(Arrays.asList(lineEnds.get(0), lineEnds.get(1), journal.length), lineEnds);
+
+        // A save killed while writing the journal leaves only the start of the journal written
+        for (int length = 0; length <= journal.length; length++) {
+            Files.write(getJournalFilePath(filePath), Arrays.copyOf(journal, length));
+            AddressBook expected = length < lineEnds.get(1)
+                    ? firstSave
+                    : length < lineEnds.get(2) ? secondSave : thirdSave;
+            assertReadBack(expected, filePath);
+        }
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteEntry_overwritesIncompleteEntry() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(getJournalFilePath(filePath), "{\"persons\":[{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopenedStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+        readBack.addPerson(IDA);
+        reopenedStorage.saveAddressBook(readBack);
+
+        assertReadBack(readBack, filePath);
+    }
+
+    @Test
+    public void readAddressBook_compactionInterrupted_ignoresOldJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        byte[] oldJournal = Files.readAllBytes(getJournalFilePath(filePath));
+
+        // A save killed after replacing the snapshot, but before deleting the old journal
+        AddressBook compacted = new AddressBook(addressBook);
+        compacted.removePerson(HOON);
+        new JournalAddressBookStorage(filePath).saveAddressBook(compacted);
+        Files.write(getJournalFilePath(filePath), oldJournal);
+
+        assertReadBack(compacted, filePath);
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        String missingPersonEntry = "{\"removedPersons\":[\"" + PersonId.generate() + "\"]}\n";
+        Files.write(getJournalFilePath(filePath), missingPersonEntry.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notJsonEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        Files.write(getJournalFilePath(filePath), "not json\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    /**
+     * Edits, removes and adds persons and schedules in {@code addressBook}.
+     */
+    private static void makeChanges(AddressBook addressBook) {
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removeSchedule(SCHEDULE_BOB_SECOND_JAN);
+        addressBook.removePerson(CARL);
+        addressBook.setSchedule(SCHEDULE_ALICE_FIRST_JAN,
+                new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.COMPLETED).build());
+        addressBook.addPerson(IDA);
+        addressBook.addSchedule(new ScheduleBuilder().withTutor(IDA)
+                .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+                .withEndTime(LocalDateTime.of(2023, 1, 3, 11, 0)).build());
+    }
+
+    /**
+     * Asserts that reading the address book at {@code filePath} gives {@code expected}, with the same person ids.
+     */
+    private static void assertReadBack(AddressBook expected, Path filePath) throws Exception {
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(expected, new AddressBook(readBack));
+        assertEquals(getPersonIds(expected), getPersonIds(readBack));
+    }
+
+    private static List<PersonId> getPersonIds(ReadOnlyAddressBook addressBook) {
+        return addressBook.getPersonList().stream().map(Person::getId).collect(Collectors.toList());
+    }
+}
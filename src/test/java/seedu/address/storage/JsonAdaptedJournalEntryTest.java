@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_BOB_SECOND_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Status;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void between_sameAddressBook_returnsEmptyEntry() {
+        AddressBook addressBook = getTypicalAddressBook();
+        assertTrue(between(addressBook, new AddressBook(addressBook)).get().isEmpty());
+    }
+
+    @Test
+    public void between_personsReordered_returnsEmpty() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook reordered = new AddressBook(original);
+        List<Person> persons = new ArrayList<>(reordered.getPersonList());
+        Collections.swap(persons, 0, 1);
+        reordered.setPersons(persons);
+
+        assertFalse(between(original, reordered).isPresent());
+    }
+
+    @Test
+    public void applyTo_changedAddressBook_returnsChangedAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook changed = new AddressBook(original);
+        changed.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("90000000").build());
+        changed.removeSchedule(SCHEDULE_BOB_SECOND_JAN);
+        changed.removePerson(BENSON);
+        changed.setSchedule(SCHEDULE_ALICE_FIRST_JAN,
+                new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN).withStatus(Status.MISSED).build());
+        changed.addPerson(HOON);
+
+        JsonAdaptedJournalEntry entry = between(original, changed).get();
+        assertFalse(entry.isEmpty());
+        entry.applyTo(original);
+        assertEquals(changed, original);
+    }
+
+    @Test
+    public void applyTo_removedPersonNotFound_throwsIllegalValueException() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook changed = new AddressBook(original);
+        changed.removePerson(BENSON);
+        JsonAdaptedJournalEntry entry = between(original, changed).get();
+
+        AddressBook withoutBenson = new AddressBook(changed);
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_MISSING_PERSON, () ->
+                entry.applyTo(withoutBenson));
+    }
+
+    @Test
+    public void applyTo_removedScheduleNotFound_throwsIllegalValueException() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook changed = new AddressBook(original);
+        changed.removeSchedule(SCHEDULE_BOB_SECOND_JAN);
+        JsonAdaptedJournalEntry entry = between(original, changed).get();
+
+        AddressBook withoutSchedule = new AddressBook(changed);
+        assertThrows(IllegalValueException.class, JsonAdaptedJournalEntry.MESSAGE_MISSING_SCHEDULE, () ->
+                entry.applyTo(withoutSchedule));
+    }
+
+    @Test
+    public void applyTo_duplicatePerson_throwsIllegalValueException() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook changed = new AddressBook(original);
+        changed.addPerson(HOON);
+        JsonAdaptedJournalEntry entry = between(original, changed).get();
+
+        AddressBook withOtherHoon = new AddressBook(original);
+        withOtherHoon.addPerson(new PersonBuilder(HOON).withId("123e4567-e89b-12d3-a456-426614174000").build());
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                entry.applyTo(withOtherHoon));
+    }
+
+    private static Optional<JsonAdaptedJournalEntry> between(AddressBook oldAddressBook, AddressBook newAddressBook) {
+        return JsonAdaptedJournalEntry.between(oldAddressBook.getPersonList(),
+                new HashSet<>(oldAddressBook.getScheduleList()), newAddressBook.getPersonList(),
+                new HashSet<>(newAddressBook.getScheduleList()));
+    }
+}
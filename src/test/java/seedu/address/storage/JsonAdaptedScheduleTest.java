@@ -3,7 +3,9 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.model.schedule.Time.DATETIME_INPUT_FORMAT;
 import static seedu.address.storage.JsonAdaptedSchedule.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.storage.JsonAdaptedSchedule.MISSING_TUTOR_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
 
 import java.time.format.DateTimeFormatter;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.StartTime;
 import seedu.address.testutil.TypicalSchedules;
@@ -20,6 +23,7 @@ import seedu.address.testutil.TypicalSchedules;
 public class JsonAdaptedScheduleTest {
 
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_INPUT_FORMAT);
+    private static final String INVALID_TUTOR_ID = "123e4567";
     private static final String INVALID_NAME = "R@chel";
     private static final String INVALID_STARTTIME = "15/02/2023 6pm";
     private static final String INVALID_ENDTIME = "14/02/2023 6pm";
@@ -27,8 +31,10 @@ public class JsonAdaptedScheduleTest {
     private static final String INVALID_STARTTIME2 = SCHEDULE_ALICE_FIRST_JAN.getEndTime().getTime().format(formatter);
     private static final String INVALID_ENDTIME2 = SCHEDULE_ALICE_FIRST_JAN.getStartTime().getTime().format(formatter);
     private static final String INVALID_TUTOR_NAME = "DoesNotExist";
+    private static final String UNKNOWN_TUTOR_ID = PersonId.generate().value;
 
-    private static final String VALID_NAME = SCHEDULE_ALICE_FIRST_JAN.getTutor().getName().toString();
+    private static final String VALID_TUTOR_ID = SCHEDULE_ALICE_FIRST_JAN.getTutorId().value;
+    private static final String VALID_NAME = ALICE.getName().toString();
     private static final String VALID_STARTTIME = SCHEDULE_ALICE_FIRST_JAN.getStartTime().getTime().format(formatter);
     private static final String VALID_ENDTIME = SCHEDULE_ALICE_FIRST_JAN.getEndTime().getTime().format(formatter);
     private static final String VALID_STATUS = SCHEDULE_ALICE_FIRST_JAN.getStatus().toString();
@@ -42,32 +48,55 @@ public class JsonAdaptedScheduleTest {
         assertEquals(SCHEDULE_ALICE_FIRST_JAN, schedule.toModelType(original));
     }
 
+    @Test
+    public void toModelType_invalidTutorId_throwsIllegalValueException() {
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(INVALID_TUTOR_ID, null, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+        String expectedMessage = PersonId.MESSAGE_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
+    }
+
+    @Test
+    public void toModelType_tutorWithIdNotFound_throwsIllegalValueException() {
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(UNKNOWN_TUTOR_ID, null, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+        assertThrows(IllegalValueException.class, MISSING_TUTOR_MESSAGE_FORMAT, () -> schedule.toModelType(original));
+    }
+
+    @Test
+    public void toModelType_legacyTutorName_returnsScheduleOfTutor() throws Exception {
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(null, VALID_NAME, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+        assertEquals(SCHEDULE_ALICE_FIRST_JAN, schedule.toModelType(original));
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedSchedule schedule =
-                new JsonAdaptedSchedule(INVALID_NAME, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+                new JsonAdaptedSchedule(null, INVALID_NAME, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
 
     @Test
-    public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(null, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
-        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
+    public void toModelType_nullTutorIdAndName_throwsIllegalValueException() {
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(null, null, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+        String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, PersonId.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_invalidStartTime_throwsIllegalValueException() {
         JsonAdaptedSchedule schedule =
-                new JsonAdaptedSchedule(VALID_NAME, INVALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
+                new JsonAdaptedSchedule(VALID_TUTOR_ID, null, INVALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
         String expectedMessage = StartTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_nullStartTime_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(VALID_NAME, null, VALID_ENDTIME, VALID_STATUS);
+        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(VALID_TUTOR_ID, null, null, VALID_ENDTIME, VALID_STATUS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, StartTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
@@ -75,14 +104,15 @@ public class JsonAdaptedScheduleTest {
     @Test
     public void toModelType_invalidEndTime_throwsIllegalValueException() {
         JsonAdaptedSchedule schedule =
-                new JsonAdaptedSchedule(VALID_NAME, VALID_STARTTIME, INVALID_ENDTIME, VALID_STATUS);
+                new JsonAdaptedSchedule(VALID_TUTOR_ID, null, VALID_STARTTIME, INVALID_ENDTIME, VALID_STATUS);
         String expectedMessage = EndTime.MESSAGE_CONSTRAINTS;
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_nullEndTime_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(VALID_NAME, VALID_STARTTIME, null, VALID_STATUS);
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(VALID_TUTOR_ID, null, VALID_STARTTIME, null, VALID_STATUS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EndTime.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, () -> schedule.toModelType(original));
     }
@@ -90,27 +120,28 @@ public class JsonAdaptedScheduleTest {
     @Test
     public void toModelType_invalidStatus_throwsIllegalValueException() {
         JsonAdaptedSchedule schedule =
-            new JsonAdaptedSchedule(VALID_NAME, VALID_STARTTIME, VALID_ENDTIME, INVALID_STATUS);
+            new JsonAdaptedSchedule(VALID_TUTOR_ID, null, VALID_STARTTIME, VALID_ENDTIME, INVALID_STATUS);
         assertThrows(IllegalValueException.class, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_nullStatus_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(VALID_NAME, VALID_STARTTIME, VALID_ENDTIME, null);
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(VALID_TUTOR_ID, null, VALID_STARTTIME, VALID_ENDTIME, null);
         assertThrows(IllegalValueException.class, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_endTimeBeforeStartTime_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(VALID_NAME, INVALID_STARTTIME2, INVALID_ENDTIME2,
-            VALID_STATUS);
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(VALID_TUTOR_ID, null, INVALID_STARTTIME2, INVALID_ENDTIME2, VALID_STATUS);
         assertThrows(IllegalValueException.class, () -> schedule.toModelType(original));
     }
 
     @Test
     public void toModelType_tutorWithNameNotFound_throwsIllegalValueException() {
-        JsonAdaptedSchedule schedule = new JsonAdaptedSchedule(INVALID_TUTOR_NAME, VALID_STARTTIME, VALID_ENDTIME,
-            VALID_STATUS);
+        JsonAdaptedSchedule schedule =
+                new JsonAdaptedSchedule(null, INVALID_TUTOR_NAME, VALID_STARTTIME, VALID_ENDTIME, VALID_STATUS);
         assertThrows(IllegalValueException.class, () -> schedule.toModelType(original));
     }
 
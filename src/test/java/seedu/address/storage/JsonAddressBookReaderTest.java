@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_ALICE_FIRST_JAN;
+import static seedu.address.testutil.TypicalSchedules.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final YearMonth JANUARY = YearMonth.of(2023, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2023, 2);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_nullInputStream_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonAddressBookReader().read(null));
+    }
+
+    @Test
+    public void read_savedAddressBook_returnsAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook, "snapshot"));
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        assertEquals(addressBook, reader.read(toInputStream(json)));
+        assertEquals("snapshot", reader.getSnapshotId());
+    }
+
+    @Test
+    public void read_schedulesBeforePersons_returnsAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<JsonAdaptedSchedule> schedules = addressBook.getScheduleList().stream()
+                .map(JsonAdaptedSchedule::new).collect(Collectors.toList());
+        List<JsonAdaptedPerson> persons = addressBook.getPersonList().stream()
+                .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        String json = "{\"unknown\": {\"persons\": []}, \"schedules\": " + JsonUtil.toJsonString(schedules)
+                + ", \"persons\": " + JsonUtil.toJsonString(persons) + "}";
+
+        JsonAddressBookReader reader = new JsonAddressBookReader();
+        assertEquals(addressBook, reader.read(toInputStream(json)));
+        assertNull(reader.getSnapshotId());
+    }
+
+    @Test
+    public void read_missingOrNullLists_returnsEmptyAddressBook() throws Exception {
+        assertEquals(new AddressBook(), new JsonAddressBookReader().read(toInputStream("{}")));
+        assertEquals(new AddressBook(), new JsonAddressBookReader().read(
+                toInputStream("{\"persons\": null, \"schedules\": null}")));
+    }
+
+    @Test
+    public void read_notObject_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(toInputStream("[]")));
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(toInputStream("not json format!")));
+    }
+
+    @Test
+    public void read_listNotList_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(toInputStream("{\"persons\": {}}")));
+        assertThrows(IOException.class, () -> new JsonAddressBookReader().read(toInputStream("{\"schedules\": 1}")));
+    }
+
+    @Test
+    public void read_sectionsWithoutFilePath_throwsIoException() {
+        assertThrows(IOException.class, JsonAddressBookReader.MESSAGE_SECTIONS_NOT_FOUND, () ->
+                new JsonAddressBookReader().read(toInputStream("{\"scheduleMonths\": [\"2023-01\"]}")));
+    }
+
+    @Test
+    public void read_invalidScheduleMonth_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_INVALID_SCHEDULE_MONTH, () ->
+                new JsonAddressBookReader().read(toInputStream("{\"scheduleMonths\": [\"2023-13\"]}")));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_INVALID_SCHEDULE_MONTH, () ->
+                new JsonAddressBookReader().read(toInputStream("{\"scheduleMonths\": [1]}")));
+    }
+
+    @Test
+    public void readScheduleSection_invalidSection_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        Schedule clashingSchedule = new ScheduleBuilder(SCHEDULE_ALICE_FIRST_JAN)
+                .withEndTime(LocalDateTime.of(2023, 1, 1, 12, 0)).build();
+        Files.createDirectories(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY).getParent());
+
+        JsonUtil.saveJsonFile(List.of(new JsonAdaptedSchedule(SCHEDULE_ALICE_FIRST_JAN)),
+                JsonAddressBookStorage.getScheduleSectionPath(filePath, FEBRUARY));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_SCHEDULE_IN_OTHER_MONTH, () ->
+                JsonAddressBookReader.readScheduleSection(filePath, FEBRUARY, addressBook));
+
+        JsonUtil.saveJsonFile(List.of(new JsonAdaptedSchedule(SCHEDULE_ALICE_FIRST_JAN),
+                new JsonAdaptedSchedule(clashingSchedule)), JsonAddressBookStorage.getScheduleSectionPath(filePath,
+                JANUARY));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_CLASHING_SCHEDULE, () ->
+                JsonAddressBookReader.readScheduleSection(filePath, JANUARY, addressBook));
+    }
+
+    @Test
+    public void read_sameFilesAsJsonSerializableAddressBook_sameResult() throws Exception {
+        String[] fileNames = {"typicalPersonsAddressBook.json", "invalidPersonAddressBook.json",
+            "duplicatePersonAddressBook.json", "clashingScheduleAddressBook.json", "invalidScheduleAddressBook.json"};
+
+        for (String fileName : fileNames) {
+            Path filePath = TEST_DATA_FOLDER.resolve(fileName);
+            JsonSerializableAddressBook jsonAddressBook = JsonUtil.readJsonFile(filePath,
+                    JsonSerializableAddressBook.class).get();
+            try (InputStream in = Files.newInputStream(filePath)) {
+                try {
+                    AddressBook expected = jsonAddressBook.toModelType();
+                    assertEquals(expected, new JsonAddressBookReader().read(in));
+                } catch (IllegalValueException ive) {
+                    assertThrows(IllegalValueException.class, ive.getMessage(), () ->
+                            new JsonAddressBookReader().read(in));
+                }
+            }
+        }
+    }
+
+    private static InputStream toInputStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+}
@@ -2,25 +2,50 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChanges;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UnloadedSchedules;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.TypicalSchedules;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final YearMonth JANUARY = YearMonth.of(2023, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2023, 2);
+    private static final Schedule SCHEDULE_BENSON_FEBRUARY = new ScheduleBuilder().withTutor(BENSON)
+            .withStartTime(LocalDateTime.of(2023, 2, 1, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 1, 10, 0)).build();
+    private static final Schedule SCHEDULE_CARL_FEBRUARY = new ScheduleBuilder().withTutor(CARL)
+            .withStartTime(LocalDateTime.of(2023, 2, 3, 9, 0)).withEndTime(LocalDateTime.of(2023, 2, 3, 10, 0)).build();
+    private static final Schedule SCHEDULE_CARL_JANUARY = new ScheduleBuilder().withTutor(CARL)
+            .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0)).withEndTime(LocalDateTime.of(2023, 1, 3, 10, 0)).build();
 
     @TempDir
     public Path testFolder;
@@ -86,6 +111,260 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_savesSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        assertFalse(Files.exists(testFolder.resolve("TempAddressBook.json.tmp")));
+    }
+
+    @Test
+    public void saveAddressBook_notCompact_savesIndented() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.readAllLines(filePath).size() > 1);
+    }
+
+    @Test
+    public void readAndSaveAddressBook_sectioned_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+
+        sectionedStorage.saveAddressBook(original);
+        assertTrue(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY)));
+        assertTrue(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, FEBRUARY)));
+        assertFalse(FileUtil.readFromFile(filePath).contains("startTime"));
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+
+        // read whether the storage saves in sections or not
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_sectioned_onlyRewritesChangedSections() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path januaryPath = JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY);
+        Path februaryPath = JsonAddressBookStorage.getScheduleSectionPath(filePath, FEBRUARY);
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+        sectionedStorage.saveAddressBook(original);
+
+        // trailing whitespace is kept as long as a file is not rewritten
+        Files.writeString(filePath, FileUtil.readFromFile(filePath) + " ");
+        Files.writeString(januaryPath, FileUtil.readFromFile(januaryPath) + " ");
+        Files.writeString(februaryPath, FileUtil.readFromFile(februaryPath) + " ");
+        String unchangedMainFile = FileUtil.readFromFile(filePath);
+        String unchangedJanuarySection = FileUtil.readFromFile(januaryPath);
+
+        original.removeSchedule(SCHEDULE_BENSON_FEBRUARY);
+        original.addSchedule(SCHEDULE_CARL_FEBRUARY);
+        sectionedStorage.saveAddressBookChanges(original, new AddressBookChanges(false, Set.of(FEBRUARY)));
+        assertEquals(unchangedMainFile, FileUtil.readFromFile(filePath));
+        assertEquals(unchangedJanuarySection, FileUtil.readFromFile(januaryPath));
+        assertFalse(FileUtil.readFromFile(februaryPath).endsWith(" "));
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+
+        // the month is no longer listed in the json file once it has no schedules
+        original.removeSchedule(SCHEDULE_CARL_FEBRUARY);
+        original.removePerson(CARL);
+        sectionedStorage.saveAddressBookChanges(original, new AddressBookChanges(true, Set.of(FEBRUARY)));
+        assertFalse(Files.exists(februaryPath));
+        assertEquals(unchangedJanuarySection, FileUtil.readFromFile(januaryPath));
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_sectionedAfterReadingUnsectionedFile_keepsUnchangedSchedules() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+        AddressBook addressBook = new AddressBook(sectionedStorage.readAddressBook().get());
+        addressBook.removeSchedule(SCHEDULE_BENSON_FEBRUARY);
+        sectionedStorage.saveAddressBookChanges(addressBook, new AddressBookChanges(false, Set.of(FEBRUARY)));
+
+        // the schedules of January were in the json file rather than in a section, so they are saved in one now
+        assertTrue(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY)));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_sectionedAfterReadingPersonsWithoutIds_savesPersonsWithIds() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        // saved before persons had ids
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json"), filePath);
+
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+        AddressBook addressBook = new AddressBook(sectionedStorage.readAddressBook().get());
+        addressBook.addSchedule(new ScheduleBuilder().withTutor(addressBook.getPerson(ALICE.getName()).get())
+                .withStartTime(LocalDateTime.of(2023, 1, 3, 9, 0))
+                .withEndTime(LocalDateTime.of(2023, 1, 3, 11, 0)).build());
+        sectionedStorage.saveAddressBookChanges(addressBook, new AddressBookChanges(false, Set.of(JANUARY)));
+
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_notSectioned_savesWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        jsonAddressBookStorage.saveAddressBookChanges(original, AddressBookChanges.NONE);
+        assertFalse(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY)));
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_sectionedNotReadOrSaved_savesWholeAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+
+        sectionedStorage.saveAddressBookChanges(original, AddressBookChanges.NONE);
+        assertTrue(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY)));
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_sectionedWithJournal_readsJournalUntilSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookInTwoMonths();
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(filePath);
+        journalStorage.saveAddressBook(original);
+        original.removePerson(CARL);
+        journalStorage.saveAddressBook(original);
+
+        JsonAddressBookStorage sectionedStorage = new JsonAddressBookStorage(filePath, false, true);
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+
+        sectionedStorage.saveAddressBookChanges(original, AddressBookChanges.NONE);
+        assertFalse(Files.exists(JournalAddressBookStorage.getJournalFilePath(filePath)));
+        assertTrue(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, FEBRUARY)));
+        assertEquals(original, new AddressBook(sectionedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_sectionedWithLoadWindow_leavesOtherMonthsUnloaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithScheduleThisMonth();
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(filePath, false, true, 2);
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(List.of(getScheduleThisMonth()), readBack.getScheduleList());
+
+        UnloadedSchedules unloadedSchedules = lazyStorage.getUnloadedSchedules();
+        assertEquals(Set.of(JANUARY), unloadedSchedules.getMonths());
+        assertEquals(new HashSet<>(TypicalSchedules.getTypicalSchedules()),
+                new HashSet<>(unloadedSchedules.load(JANUARY, readBack)));
+
+        ModelManager modelManager = new ModelManager(readBack, new UserPrefs(), unloadedSchedules);
+        modelManager.loadAllSchedules();
+        assertEquals(original, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_sectionedWithUnloadedMonths_keepsUnloadedSections() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithScheduleThisMonth();
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(filePath, false, true, 2);
+        AddressBook readBack = new AddressBook(lazyStorage.readAddressBook().get());
+
+        // saving the changes to the months loaded leaves the other months as they are
+        readBack.addSchedule(SCHEDULE_CARL_FEBRUARY);
+        original.addSchedule(SCHEDULE_CARL_FEBRUARY);
+        lazyStorage.saveAddressBookChanges(readBack, new AddressBookChanges(false, Set.of(FEBRUARY)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // sections left unloaded are kept when saving the whole address book, or copied if saving elsewhere
+        lazyStorage.saveAddressBook(readBack);
+        lazyStorage.saveAddressBook(readBack, otherFilePath);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(otherFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_changedMonthStillUnloaded_keepsSection() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithScheduleThisMonth();
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(filePath, false, true, 2);
+        AddressBook readBack = new AddressBook(lazyStorage.readAddressBook().get());
+
+        // the address book only has the schedule added to January, so saving January would lose the others
+        readBack.addSchedule(SCHEDULE_CARL_JANUARY);
+        lazyStorage.saveAddressBookChanges(readBack,
+                new AddressBookChanges(false, Set.of(JANUARY), Set.of(JANUARY)));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_wholeAddressBookWithLoadedMonthEmptied_deletesSection() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookWithScheduleThisMonth();
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(original);
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(filePath, false, true, 2);
+        ReadOnlyAddressBook readBack = lazyStorage.readAddressBook().get();
+        // the next save to filePath saves the whole address book, as the last save was elsewhere
+        lazyStorage.saveAddressBook(readBack, testFolder.resolve("OtherAddressBook.json"));
+
+        ModelManager modelManager = new ModelManager(readBack, new UserPrefs(), lazyStorage.getUnloadedSchedules());
+        modelManager.loadAllSchedules();
+        modelManager.deleteSchedules(modelManager.getAddressBook().getScheduleList()
+                .filtered(schedule -> AddressBookChanges.getMonthOf(schedule).equals(JANUARY)));
+        lazyStorage.saveAddressBookChanges(modelManager.getAddressBook(), modelManager.takeAddressBookChanges());
+
+        // the section of January was left unloaded by the read, but all its schedules were deleted since
+        assertFalse(Files.exists(JsonAddressBookStorage.getScheduleSectionPath(filePath, JANUARY)));
+        assertEquals(modelManager.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void getUnloadedSchedules_loadWindowCoversAllMonths_returnsNone() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath, false, true).saveAddressBook(getTypicalAddressBookWithScheduleThisMonth());
+
+        JsonAddressBookStorage lazyStorage = new JsonAddressBookStorage(filePath, false, true, 12 * 100);
+        lazyStorage.readAddressBook();
+        assertEquals(UnloadedSchedules.NONE, lazyStorage.getUnloadedSchedules());
+    }
+
+    /**
+     * Returns the typical address book with schedules in January 2023, and a schedule in the current month.
+     */
+    private static AddressBook getTypicalAddressBookWithScheduleThisMonth() {
+        AddressBook addressBook = TypicalSchedules.getTypicalAddressBook();
+        addressBook.addSchedule(getScheduleThisMonth());
+        return addressBook;
+    }
+
+    private static Schedule getScheduleThisMonth() {
+        LocalDateTime start = YearMonth.now().atDay(1).atTime(9, 0);
+        return new ScheduleBuilder().withTutor(BENSON).withStartTime(start).withEndTime(start.plusHours(1)).build();
+    }
+
+    /**
+     * Returns the typical address book with schedules in January and February 2023.
+     */
+    private static AddressBook getTypicalAddressBookInTwoMonths() {
+        AddressBook addressBook = TypicalSchedules.getTypicalAddressBook();
+        addressBook.addSchedule(SCHEDULE_BENSON_FEBRUARY);
+        return addressBook;
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ScheduleArchive;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.Status;
+import seedu.address.testutil.ScheduleBuilder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonScheduleArchiveTest {
+
+    private static final Schedule ALICE_JAN = getSchedule(ALICE, LocalDateTime.of(2023, 1, 5, 9, 0));
+    private static final Schedule ALICE_FEB = getSchedule(ALICE, LocalDateTime.of(2023, 2, 5, 9, 0));
+    private static final Schedule ALICE_MAR = getSchedule(ALICE, LocalDateTime.of(2023, 3, 5, 9, 0));
+    private static final Schedule BOB_FEB = getSchedule(BOB, LocalDateTime.of(2023, 2, 6, 9, 0));
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+
+    @Test
+    public void getArchiveFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json.archive"),
+                JsonScheduleArchive.getArchiveFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void find_missingFile_returnsEmptyList() throws Exception {
+        JsonScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("missing.archive"));
+        assertTrue(findAll(archive, ALICE).isEmpty());
+    }
+
+    @Test
+    public void appendAndFind_allInOrder() throws Exception {
+        JsonScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("data").resolve("ab.archive"));
+        archive.append(Arrays.asList(ALICE_MAR, BOB_FEB));
+        archive.append(Arrays.asList(ALICE_JAN));
+        archive.append(Arrays.asList());
+
+        assertEquals(Arrays.asList(ALICE_JAN, ALICE_MAR), findAll(archive, ALICE));
+        assertEquals(Arrays.asList(BOB_FEB), findAll(archive, BOB));
+    }
+
+    @Test
+    public void find_dateRange_onlySchedulesInRange() throws Exception {
+        JsonScheduleArchive archive = new JsonScheduleArchive(testFolder.resolve("ab.archive"));
+        archive.append(Arrays.asList(ALICE_JAN));
+        archive.append(Arrays.asList(ALICE_FEB, ALICE_MAR));
+
+        assertEquals(Arrays.asList(ALICE_FEB), archive.find(ALICE.getId(), LocalDate.of(2023, 2, 1),
+                LocalDate.of(2023, 2, 28), addressBook));
+        assertEquals(Arrays.asList(ALICE_JAN, ALICE_FEB), archive.find(ALICE.getId(), LocalDate.of(2023, 1, 5),
+                LocalDate.of(2023, 2, 5), addressBook));
+        assertTrue(archive.find(ALICE.getId(), LocalDate.of(2023, 4, 1), LocalDate.of(2023, 4, 30),
+                addressBook).isEmpty());
+    }
+
+    @Test
+    public void find_incompleteLastBlock_ignoredAndOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.archive");
+        JsonScheduleArchive archive = new JsonScheduleArchive(filePath);
+        archive.append(Arrays.asList(ALICE_JAN));
+        long completeLength = Files.size(filePath);
+        archive.append(Arrays.asList(ALICE_FEB));
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.setLength(file.length() - 5);
+        }
+
+        assertEquals(Arrays.asList(ALICE_JAN), findAll(archive, ALICE));
+
+        archive.append(Arrays.asList(ALICE_MAR));
+        assertEquals(Arrays.asList(ALICE_JAN, ALICE_MAR), findAll(archive, ALICE));
+        assertTrue(Files.size(filePath) > completeLength);
+    }
+
+    @Test
+    public void find_corruptedBlock_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("ab.archive");
+        JsonScheduleArchive archive = new JsonScheduleArchive(filePath);
+        archive.append(Arrays.asList(ALICE_JAN));
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.seek(file.length() - 10);
+            file.write(new byte[] {1, 2, 3, 4, 5});
+        }
+
+        assertThrows(DataLoadingException.class, () -> findAll(archive, ALICE));
+    }
+
+    @Test
+    public void append_noArchive_throwsIoException() {
+        assertThrows(IOException.class, ScheduleArchive.MESSAGE_NO_ARCHIVE, () ->
+                ScheduleArchive.NONE.append(Arrays.asList(ALICE_JAN)));
+    }
+
+    private List<Schedule> findAll(JsonScheduleArchive archive, Person tutor) throws DataLoadingException {
+        return archive.find(tutor.getId(), LocalDate.MIN, LocalDate.MAX, addressBook);
+    }
+
+    private static Schedule getSchedule(Person tutor, LocalDateTime startTime) {
+        return new ScheduleBuilder().withTutor(tutor).withStartTime(startTime).withEndTime(startTime.plusHours(1))
+                .withStatus(Status.COMPLETED).build();
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * A clock whose time is set by tests, such as to move it to another day.
+ */
+public class MutableClock extends Clock {
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    /**
+     * Creates a clock at the current time in the system time zone.
+     */
+    public MutableClock() {
+        this(Instant.now(), ZoneId.systemDefault());
+    }
+
+    private MutableClock(Instant instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    /**
+     * Sets the time of the clock to {@code dateTime} in its time zone.
+     */
+    public void setTime(LocalDateTime dateTime) {
+        instant = dateTime.atZone(zone).toInstant();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.testutil;
 import java.time.LocalDateTime;
 
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
 import seedu.address.model.schedule.EndTime;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.StartTime;
@@ -15,7 +16,7 @@ public class ScheduleBuilder {
     public static final Person DEFAULT_TUTOR = TypicalPersons.ALICE;
     public static final LocalDateTime DEFAULT_START_TIME = LocalDateTime.of(2023, 1, 1, 12, 0, 0);
     public static final LocalDateTime DEFAULT_END_TIME = LocalDateTime.of(2023, 1, 1, 13, 0, 0);
-    private Person tutor;
+    private PersonId tutorId;
     private StartTime startTime;
     private EndTime endTime;
     private Status status;
@@ -24,7 +25,7 @@ public class ScheduleBuilder {
      * Creates a {@code ScheduleBuilder} with the default details.
      */
     public ScheduleBuilder() {
-        tutor = DEFAULT_TUTOR;
+        tutorId = DEFAULT_TUTOR.getId();
         startTime = new StartTime(DEFAULT_START_TIME);
         endTime = new EndTime(DEFAULT_END_TIME);
         status = Status.PENDING;
@@ -34,17 +35,17 @@ public class ScheduleBuilder {
      * Initializes the ScheduleBuilder with the data of {@code scheduleToCopy}.
      */
     public ScheduleBuilder(Schedule scheduleToCopy) {
-        tutor = scheduleToCopy.getTutor();
+        tutorId = scheduleToCopy.getTutorId();
         startTime = scheduleToCopy.getStartTime();
         endTime = scheduleToCopy.getEndTime();
         status = scheduleToCopy.getStatus();
     }
 
     /**
-     * Sets the {@code Person} of the {@code Schedule} that we are building.
+     * Sets the tutor of the {@code Schedule} that we are building to {@code tutor}.
      */
     public ScheduleBuilder withTutor(Person tutor) {
-        this.tutor = tutor;
+        this.tutorId = tutor.getId();
         return this;
     }
 
@@ -73,6 +74,6 @@ public class ScheduleBuilder {
     }
 
     public Schedule build() {
-        return new Schedule(tutor, startTime, endTime, status);
+        return new Schedule(tutorId, startTime, endTime, status);
     }
 }